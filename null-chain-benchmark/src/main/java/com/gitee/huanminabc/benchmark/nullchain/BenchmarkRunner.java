@@ -0,0 +1,47 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口 - 运行全部或指定的基准测试, 结果以JSON格式输出
+ *
+ * <p>打包后运行: {@code java -jar null-chain-benchmark/target/benchmarks.jar [JMH参数]},
+ * 例如只运行链路相关的测试: {@code java -jar benchmarks.jar ChainBenchmark}。
+ * 没有指定 {@code -rf}/{@code -rff} 时结果写入 {@code target/jmh-result.json},
+ * 方便在不同版本之间对比和做回归检查。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public class BenchmarkRunner {
+
+    /**
+     * 默认的结果文件
+     */
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        //没有指定要运行的测试时运行当前包下的全部测试
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+        //命令行没有指定结果格式时默认输出JSON
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        Options options = builder.parent(commandLine).build();
+        new Runner(options).run();
+    }
+}
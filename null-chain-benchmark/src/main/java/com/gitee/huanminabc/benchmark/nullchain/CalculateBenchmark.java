@@ -0,0 +1,77 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import com.gitee.huanminabc.nullchain.Null;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 计算基准测试 - {@code Null.ofCalc(...)} 的四则运算与直接使用 BigDecimal 的对比
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculateBenchmark {
+
+    private Double a;
+    private Integer b;
+    private Long c;
+
+    @Setup
+    public void setup() {
+        a = 100.25;
+        b = 3;
+        c = 7L;
+    }
+
+    @Benchmark
+    public BigDecimal nullCalc() {
+        return Null.ofCalc(a)
+                .add(b)
+                .mul(c)
+                .sub(b)
+                .div(c)
+                .round(2, RoundingMode.HALF_UP)
+                .map(v -> v)
+                .orElseNull();
+    }
+
+    @Benchmark
+    public BigDecimal nullCalcEmpty() {
+        return Null.ofCalc((Double) null)
+                .add(b)
+                .mul(c)
+                .map(v -> v)
+                .orElseNull();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal b2 = BigDecimal.valueOf(b);
+        BigDecimal c2 = BigDecimal.valueOf(c);
+        return BigDecimal.valueOf(a)
+                .add(b2)
+                .multiply(c2)
+                .subtract(b2)
+                .divide(c2, RoundingMode.HALF_UP)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
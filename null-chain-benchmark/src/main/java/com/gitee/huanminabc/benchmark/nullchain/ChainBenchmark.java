@@ -0,0 +1,82 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.core.NullChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 链路基准测试 - {@code Null.of(...).map(...).orElse(...)} 在不同链路长度下的开销
+ *
+ * <ul>
+ *   <li>同步: 在调用线程中执行整条链</li>
+ *   <li>异步: {@code async()} 之后的节点在线程池中执行, 调用线程等待结果</li>
+ *   <li>空值: 第一个节点就是空值, 测量空值短路的开销</li>
+ * </ul>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+    /**
+     * 链路中map节点的数量
+     */
+    @Param({"1", "4", "16", "64"})
+    public int depth;
+
+    private Integer value;
+
+    @Setup
+    public void setup() {
+        value = 1;
+    }
+
+    @Benchmark
+    public Integer sync() {
+        NullChain<Integer> chain = Null.of(value);
+        for (int i = 0; i < depth; i++) {
+            chain = chain.map(v -> v + 1);
+        }
+        return chain.orElse(0);
+    }
+
+    @Benchmark
+    public Integer syncEmpty() {
+        NullChain<Integer> chain = Null.of((Integer) null);
+        for (int i = 0; i < depth; i++) {
+            chain = chain.map(v -> v + 1);
+        }
+        return chain.orElse(0);
+    }
+
+    @Benchmark
+    public Integer async() throws Exception {
+        NullChain<Integer> chain = Null.of(value).async();
+        for (int i = 0; i < depth; i++) {
+            chain = chain.map(v -> v + 1);
+        }
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        chain.ifPresent(result::complete);
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,107 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.enums.OkHttpPostEnum;
+import lombok.Data;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * http基准测试 - JSON请求和响应策略的开销
+ *
+ * <p>请求发送到本地的 {@link MockWebServer}, 不依赖外网, 测量的是请求体序列化、
+ * 响应体读取和反序列化的开销, 以及本地回环网络的开销。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpStrategyBenchmark {
+
+    private static final String RESPONSE_JSON = "{\"id\":1,\"name\":\"null-chain\",\"tags\":[\"a\",\"b\",\"c\"]}";
+
+    private MockWebServer server;
+    private String url;
+    private Payload payload;
+
+    @Data
+    public static class Payload {
+        private Integer id;
+        private String name;
+        private List<String> tags;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(RESPONSE_JSON);
+            }
+        });
+        server.start();
+        url = server.url("/echo").toString();
+
+        payload = new Payload();
+        payload.setId(1);
+        payload.setName("null-chain");
+        List<String> tags = new ArrayList<>();
+        tags.add("a");
+        tags.add("b");
+        tags.add("c");
+        payload.setTags(tags);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public String getToString() {
+        return Null.ofHttp(url).get().toSTR().orElseNull();
+    }
+
+    @Benchmark
+    public Payload getToJson() {
+        return Null.ofHttp(url).get().toFromJson(Payload.class).orElseNull();
+    }
+
+    @Benchmark
+    public String postJsonToString() {
+        return Null.ofHttp(url, payload).post(OkHttpPostEnum.JSON).toSTR().orElseNull();
+    }
+
+    @Benchmark
+    public Payload postJsonToJson() {
+        return Null.ofHttp(url, payload).post(OkHttpPostEnum.JSON).toFromJson(Payload.class).orElseNull();
+    }
+}
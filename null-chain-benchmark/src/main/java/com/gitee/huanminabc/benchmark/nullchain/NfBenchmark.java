@@ -0,0 +1,99 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import com.gitee.huanminabc.nullchain.language.NfCalculator;
+import com.gitee.huanminabc.nullchain.language.NfMain;
+import com.gitee.huanminabc.nullchain.language.internal.NfContext;
+import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
+import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
+import com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.helpers.NOPLogger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NF脚本基准测试 - 脚本执行与表达式计算的开销
+ *
+ * <ul>
+ *   <li>cached: 同一个脚本重复执行, 语法树命中缓存, 只测量执行的开销</li>
+ *   <li>uncached: 每次执行的脚本内容都不同, 测量词法、语法解析加执行的开销</li>
+ *   <li>arithmetic: 表达式计算, 分别使用Map参数和脚本上下文</li>
+ * </ul>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NfBenchmark {
+
+    private static final Logger LOGGER = NOPLogger.NOP_LOGGER;
+
+    private static final String SCRIPT = "Integer sum = 0\n" +
+            "for i in 1..100 {\n" +
+            "    sum = sum + i\n" +
+            "}\n" +
+            "export sum\n";
+
+    private static final String EXPRESSION = "a * b + c - a / 2";
+
+    private Map<String, Object> params;
+    private NfContext nfContext;
+    private int seed;
+
+    @Setup
+    public void setup() {
+        params = new HashMap<>();
+        params.put("a", 10);
+        params.put("b", 20);
+        params.put("c", 30);
+
+        nfContext = new NfContext();
+        String mainScopeId = NfContext.generateScopeId();
+        nfContext.setMainScopeId(mainScopeId);
+        nfContext.setCurrentScopeId(mainScopeId);
+        NfContextScope scope = nfContext.createScope(mainScopeId, null, NfContextScopeType.ALL);
+        scope.addVariable(new NfVariableInfo("a", 10, Integer.class));
+        scope.addVariable(new NfVariableInfo("b", 20, Integer.class));
+        scope.addVariable(new NfVariableInfo("c", 30, Integer.class));
+    }
+
+    @Benchmark
+    public Object runCached() {
+        return NfMain.run(SCRIPT, LOGGER, null);
+    }
+
+    @Benchmark
+    public Object runUncached() {
+        //脚本内容不同才不会命中语法缓存
+        String script = "Integer seed = " + (seed++) + "\n" + SCRIPT;
+        return NfMain.run(script, LOGGER, null);
+    }
+
+    @Benchmark
+    public Object arithmeticParams() {
+        return NfCalculator.arithmetic(EXPRESSION, params);
+    }
+
+    @Benchmark
+    public Object arithmeticContext() {
+        return NfCalculator.arithmetic(EXPRESSION, nfContext);
+    }
+}
@@ -0,0 +1,103 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import com.gitee.huanminabc.nullchain.common.NullUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 空值判断基准测试 - {@link NullUtil#is(Object)} 在不同类型的值上的开销
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NullUtilIsBenchmark {
+
+    /**
+     * 被判断的值的类型
+     */
+    @Param({"null", "string", "emptyString", "integer", "bigDecimal", "list", "emptyList", "map", "array", "optional", "bean"})
+    public String type;
+
+    private Object value;
+
+    /**
+     * 普通的对象, 走到类型判断的最后
+     */
+    public static class Bean {
+        private String name = "bean";
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", "value");
+        switch (type) {
+            case "string":
+                value = "null-chain";
+                break;
+            case "emptyString":
+                value = "  ";
+                break;
+            case "integer":
+                value = 1;
+                break;
+            case "bigDecimal":
+                value = BigDecimal.ONE;
+                break;
+            case "list":
+                value = new ArrayList<>(Arrays.asList(1, 2, 3));
+                break;
+            case "emptyList":
+                value = Collections.emptyList();
+                break;
+            case "map":
+                value = map;
+                break;
+            case "array":
+                value = new Object[]{1, 2, 3};
+                break;
+            case "optional":
+                value = Optional.of(1);
+                break;
+            case "bean":
+                value = new Bean();
+                break;
+            default:
+                value = null;
+        }
+    }
+
+    @Benchmark
+    public boolean is() {
+        return NullUtil.is(value);
+    }
+}
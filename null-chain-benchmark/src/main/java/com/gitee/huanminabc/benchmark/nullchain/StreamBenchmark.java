@@ -0,0 +1,85 @@
+package com.gitee.huanminabc.benchmark.nullchain;
+
+import com.gitee.huanminabc.nullchain.Null;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 流基准测试 - NullStream 与 java.util.stream 在同样的 map/filter/collect 流程下的对比
+ *
+ * <p>数据中每10个元素有一个null, java.util.stream 需要手动过滤, NullStream 自动跳过空值。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+
+    /**
+     * 集合的元素数量
+     */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private List<Integer> data;
+
+    @Setup
+    public void setup() {
+        data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(i % 10 == 0 ? null : i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> nullStream() {
+        return Null.ofStream(data)
+                .map(v -> v * 2)
+                .filter(v -> v % 3 != 0)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Integer> javaStream() {
+        return data.stream()
+                .filter(v -> v != null)
+                .map(v -> v * 2)
+                .filter(v -> v % 3 != 0)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long nullStreamSum() {
+        return Null.ofStream(data)
+                .mapToLong(v -> (long) v)
+                .sum();
+    }
+
+    @Benchmark
+    public long javaStreamSum() {
+        return data.stream()
+                .filter(v -> v != null)
+                .mapToLong(v -> (long) v)
+                .sum();
+    }
+}
@@ -6,14 +6,19 @@ import com.gitee.huanminabc.jcommon.reflect.ClassIdentifyUtil;
 import com.gitee.huanminabc.jcommon.str.StringUtil;
 import com.gitee.huanminabc.nullchain.common.*;
 import com.gitee.huanminabc.nullchain.core.NullChainBase;
+import com.gitee.huanminabc.nullchain.core.NullPipeline;
 import static com.gitee.huanminabc.nullchain.common.NullLog.*;
 import com.gitee.huanminabc.nullchain.leaf.calculate.NullCalculate;
+import com.gitee.huanminabc.nullchain.leaf.calculate.NullDoubleChain;
+import com.gitee.huanminabc.nullchain.leaf.calculate.NullIntChain;
+import com.gitee.huanminabc.nullchain.leaf.calculate.NullLongChain;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 import com.gitee.huanminabc.nullchain.leaf.check.NullCheckBase;
 import com.gitee.huanminabc.nullchain.leaf.http.OkHttp;
 import com.gitee.huanminabc.nullchain.leaf.stream.NullStream;
 import com.gitee.huanminabc.nullchain.leaf.check.NullCheck;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -76,6 +81,36 @@ public class Null extends NullUtil {
         return new NullChainBase<>(newLinkLog(), newTaskList());
     }
 
+    /**
+     * 创建一个可复用的Null链模板
+     *
+     * <p>模板只需构建一次，之后可以对不同的输入反复执行，适合每个请求都执行同一段逻辑的场景。</p>
+     *
+     * <pre>{@code
+     * NullPipeline<User, String> pipeline = Null.<User>pipeline().map(User::getName);
+     * String name = pipeline.apply(user).orElse("UNKNOWN");
+     * }</pre>
+     *
+     * @param <T> 模板输入值的类型
+     * @return 空的Null链模板
+     * @see NullPipeline
+     */
+    public static <T> NullPipeline<T, T> pipeline() {
+        return NullPipeline.empty();
+    }
+
+    /**
+     * 创建一个可复用的Null链模板，通过type指定输入值的类型，方便泛型推断
+     *
+     * @param <T> 模板输入值的类型
+     * @param type 输入值的类型
+     * @return 空的Null链模板
+     * @see NullPipeline
+     */
+    public static <T> NullPipeline<T, T> pipeline(Class<T> type) {
+        return NullPipeline.empty();
+    }
+
     /**
      * 创建一个包含指定值的Null链
      *
@@ -220,7 +255,7 @@ public class Null extends NullUtil {
      */
     public static <T> NullCheck<T> ofCheck(T value) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         List<NullCheckBase.NullCheckNode> nullCheckNodes = new ArrayList<>();
         nullTaskList.add((__) -> {
             NullCheckBase.NullCheckNode node = new NullCheckBase.NullCheckNode();
@@ -356,7 +391,7 @@ public class Null extends NullUtil {
      */
     public static <N extends Number> NullCalculate<BigDecimal> ofCalc(N n) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             if (Null.is(n)) {
                 linkLog.append(OF_CALC_Q);
@@ -389,7 +424,7 @@ public class Null extends NullUtil {
      */
     public static <NUM extends Number> NullCalculate<BigDecimal> ofCalc(NullChain<NUM> nullChain) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             if (Null.is(nullChain)) {
                 linkLog.append(OF_CALC_Q);
@@ -401,6 +436,132 @@ public class Null extends NullUtil {
         return NullBuild.busyCalc(linkLog, nullTaskList);
     }
 
+    /**
+     * 创建整数链 - 从int值创建
+     * 
+     * <p>整数链直接保存int值, 不装箱, 操作立即执行, 适合计数、统计这类高频的数值运算。</p>
+     * 
+     * @param value int值
+     * @return 整数链对象
+     * 
+     * @example
+     * <pre>{@code
+     * int total = Null.ofInt(1)
+     *     .add(1)
+     *     .orElse(0);
+     * }</pre>
+     */
+    public static NullIntChain ofInt(int value) {
+        return NullBuild.intChain(value);
+    }
+
+    /**
+     * 创建整数链 - 从Integer对象创建
+     * 
+     * @param value Integer对象，可以为null
+     * @return 整数链对象，如果value为null则返回空链
+     */
+    public static NullIntChain ofInt(Integer value) {
+        return value == null ? NullBuild.emptyIntChain() : NullBuild.intChain(value);
+    }
+
+    /**
+     * 创建整数链 - 从NullChain包装的Number创建
+     * 
+     * <p>对象链在这里执行一次, 取出的数值必须是int范围内的整数, 小数或者超出范围时抛出异常, 不会静默截断。</p>
+     * 
+     * @param nullChain 包含Number的NullChain，可以为空链
+     * @return 整数链对象，如果nullChain为空则返回空链
+     */
+    public static NullIntChain ofInt(NullChain<? extends Number> nullChain) {
+        Number number = nullChain == null ? null : nullChain.orElseNull();
+        return number == null ? NullBuild.emptyIntChain() : NullBuild.intChain(toExactInt(number));
+    }
+
+    /**
+     * 创建长整数链 - 从long值创建
+     * 
+     * <p>长整数链直接保存long值, 不装箱, 操作立即执行, 适合计数、统计这类高频的数值运算。</p>
+     * 
+     * @param value long值
+     * @return 长整数链对象
+     * 
+     * @example
+     * <pre>{@code
+     * long total = Null.ofLong(1L)
+     *     .add(1L)
+     *     .orElse(0L);
+     * }</pre>
+     */
+    public static NullLongChain ofLong(long value) {
+        return NullBuild.longChain(value);
+    }
+
+    /**
+     * 创建长整数链 - 从Long对象创建
+     * 
+     * @param value Long对象，可以为null
+     * @return 长整数链对象，如果value为null则返回空链
+     */
+    public static NullLongChain ofLong(Long value) {
+        return value == null ? NullBuild.emptyLongChain() : NullBuild.longChain(value);
+    }
+
+    /**
+     * 创建长整数链 - 从NullChain包装的Number创建
+     * 
+     * <p>对象链在这里执行一次, 取出的数值必须是long范围内的整数, 小数或者超出范围时抛出异常, 不会静默截断。</p>
+     * 
+     * @param nullChain 包含Number的NullChain，可以为空链
+     * @return 长整数链对象，如果nullChain为空则返回空链
+     */
+    public static NullLongChain ofLong(NullChain<? extends Number> nullChain) {
+        Number number = nullChain == null ? null : nullChain.orElseNull();
+        return number == null ? NullBuild.emptyLongChain() : NullBuild.longChain(toExactLong(number, "long"));
+    }
+
+    /**
+     * 创建浮点数链 - 从double值创建
+     * 
+     * <p>浮点数链直接保存double值, 不装箱, 操作立即执行, 适合计数、统计这类高频的数值运算。</p>
+     * 
+     * @param value double值
+     * @return 浮点数链对象
+     * 
+     * @example
+     * <pre>{@code
+     * double total = Null.ofDouble(1.5)
+     *     .add(1.5)
+     *     .orElse(0D);
+     * }</pre>
+     */
+    public static NullDoubleChain ofDouble(double value) {
+        return NullBuild.doubleChain(value);
+    }
+
+    /**
+     * 创建浮点数链 - 从Double对象创建
+     * 
+     * @param value Double对象，可以为null
+     * @return 浮点数链对象，如果value为null则返回空链
+     */
+    public static NullDoubleChain ofDouble(Double value) {
+        return value == null ? NullBuild.emptyDoubleChain() : NullBuild.doubleChain(value);
+    }
+
+    /**
+     * 创建浮点数链 - 从NullChain包装的Number创建
+     * 
+     * <p>对象链在这里执行一次, 取出的数值通过{@link Number#doubleValue()}转换。</p>
+     * 
+     * @param nullChain 包含Number的NullChain，可以为空链
+     * @return 浮点数链对象，如果nullChain为空则返回空链
+     */
+    public static NullDoubleChain ofDouble(NullChain<? extends Number> nullChain) {
+        Number number = nullChain == null ? null : nullChain.orElseNull();
+        return number == null ? NullBuild.emptyDoubleChain() : NullBuild.doubleChain(number.doubleValue());
+    }
+
 
     /**
      * 创建HTTP请求链 - 仅指定URL
@@ -547,7 +708,7 @@ public class Null extends NullUtil {
     // log fragments moved to NullLog
 
     interface LeafBuilder<L> {
-        L build(StringBuilder linkLog, NullTaskList tasks);
+        L build(NullLinkLog linkLog, NullTaskList tasks);
     }
 
     /**
@@ -562,14 +723,14 @@ public class Null extends NullUtil {
     }
 
     /**
-     * 创建新的StringBuilder实例，使用默认初始容量
+     * 创建新的链路日志实例，使用全局链路日志级别
      * 
-     * <p>辅助方法，统一创建StringBuilder对象，便于后续优化（如对象池等）。</p>
+     * <p>辅助方法，统一创建链路日志对象，便于后续优化（如对象池等）。</p>
      * 
-     * @return 新的StringBuilder实例
+     * @return 新的NullLinkLog实例
      */
-    private static StringBuilder newLinkLog() {
-        return new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+    private static NullLinkLog newLinkLog() {
+        return new NullLinkLog();
     }
 
     /**
@@ -590,7 +751,7 @@ public class Null extends NullUtil {
             throw new NullPointerException("builder不能为null");
         }
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             X actualValue = valueSupplier.get();
             if (Null.is(actualValue)) {
@@ -622,7 +783,7 @@ public class Null extends NullUtil {
         // 快速路径：对于明显的null值，直接返回空链，避免创建对象
         if (value == null) {
             NullTaskList nullTaskList = newTaskList();
-            StringBuilder linkLog = newLinkLog();
+            NullLinkLog linkLog = newLinkLog();
             linkLog.append(nullLog);
             nullTaskList.add((__) -> NullBuild.empty());
             return builder.build(linkLog, nullTaskList);
@@ -654,7 +815,7 @@ public class Null extends NullUtil {
     @SuppressWarnings("unchecked")
     static <S> NullStream<S> ofStreamInternal(Object source, String okLog) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             linkLog.append(okLog);
             if (Null.is(source)) {
@@ -676,7 +837,7 @@ public class Null extends NullUtil {
 
     static <T> NullStream<T> ofStreamInternalChain(NullChain<? extends Collection<T>> nullChain) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             linkLog.append(TO_STREAM_ARROW);
             if (Null.is(nullChain)) {
@@ -689,7 +850,7 @@ public class Null extends NullUtil {
 
     static <T> NullStream<T> ofStreamInternalArray(NullChain<? extends T[]> nullChain) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             linkLog.append(TO_STREAM_ARROW);
             if (Null.is(nullChain)) {
@@ -720,7 +881,7 @@ public class Null extends NullUtil {
      */
     static <T> OkHttp<T> ofHttpInternal(String url, Object value) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             // URL为空，返回空链
             if (StringUtil.isEmpty(url)) {
@@ -769,7 +930,7 @@ public class Null extends NullUtil {
      */
     static <T> OkHttp<T> ofHttpInternal(String httpName, String url, Object value) {
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
+        NullLinkLog linkLog = newLinkLog();
         nullTaskList.add((__) -> {
             // URL为空，返回空链
             if (StringUtil.isEmpty(url)) {
@@ -823,9 +984,9 @@ public class Null extends NullUtil {
         // 快速路径：对于明显的null值，直接返回空链，避免创建对象
         if (resolvedValue == null) {
             NullTaskList nullTaskList = newTaskList();
-            StringBuilder linkLog = newLinkLog();
+            NullLinkLog linkLog = newLinkLog();
             linkLog.append(OF_Q);
-            nullTaskList.add((__) -> NullBuild.empty());
+            nullTaskList.addValueTask((__) -> null);
             return NullBuild.busy(linkLog, nullTaskList);
         }
 
@@ -833,26 +994,62 @@ public class Null extends NullUtil {
         // 因为基本类型只有null和有值两种情况，不需要检查空字符串、空集合等
         if (ClassIdentifyUtil.isPrimitiveOrWrapper(resolvedValue.getClass())) {
             NullTaskList nullTaskList = newTaskList();
-            StringBuilder linkLog = newLinkLog();
+            NullLinkLog linkLog = newLinkLog();
             linkLog.append(OF_ARROW);
-            nullTaskList.add((__) -> NullBuild.noEmpty(resolvedValue));
+            nullTaskList.addValueTask((__) -> resolvedValue);
             return NullBuild.busy(linkLog, nullTaskList);
         }
 
         // 对于其他类型（字符串、集合、数组等），在任务中进行完整检查
         NullTaskList nullTaskList = newTaskList();
-        StringBuilder linkLog = newLinkLog();
-        nullTaskList.add((__) -> {
+        NullLinkLog linkLog = newLinkLog();
+        nullTaskList.addValueTask((__) -> {
             if (Null.is(resolvedValue)) {
                 linkLog.append(OF_Q);
-                return NullBuild.empty();
+                return null;
             }
             linkLog.append(OF_ARROW);
-            return NullBuild.noEmpty(resolvedValue);
+            return resolvedValue;
         });
         return NullBuild.busy(linkLog, nullTaskList);
     }
 
+    //转换为int, 和整数链的运算一样不允许静默溢出
+    private static int toExactInt(Number number) {
+        long value = toExactLong(number, "int");
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NullChainException("数值{}超出int的范围", number);
+        }
+        return (int) value;
+    }
+
+    //转换为long, 小数、超出long范围的数值抛出异常
+    private static long toExactLong(Number number, String type) {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        try {
+            if (number instanceof BigDecimal) {
+                return ((BigDecimal) number).longValueExact();
+            }
+            if (number instanceof BigInteger) {
+                return ((BigInteger) number).longValueExact();
+            }
+        } catch (ArithmeticException e) {
+            throw new NullChainException("数值{}不是{}范围内的整数", number, type);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            //2^63不能用long表示, 范围的上界不包含
+            if (value != Math.floor(value) || value < -0x1p63 || value >= 0x1p63) {
+                throw new NullChainException("数值{}不是{}范围内的整数", number, type);
+            }
+            return (long) value;
+        }
+        //AtomicInteger、AtomicLong等其他整数类型
+        return number.longValue();
+    }
+
     @SuppressWarnings("unchecked")
     private static <X> X unwrapNullChainValue(X value) {
         Object current = value;
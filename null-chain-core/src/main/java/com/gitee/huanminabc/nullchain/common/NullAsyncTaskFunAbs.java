@@ -0,0 +1,39 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Null异步任务抽象类 - 结果以CompletableFuture返回的任务
+ *
+ * <p>异步链中执行到此类任务时, 会直接把返回的future组合到链路中, 不会阻塞执行线程等待结果;
+ * 同步执行时才会在调用线程中等待结果。适合任务组这类需要等待多个并发任务的节点。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullTaskList#runTaskAll(java.util.function.Consumer, java.util.function.Consumer)
+ */
+public abstract class NullAsyncTaskFunAbs extends NullTaskFunAbs {
+
+    /**
+     * 异步执行任务
+     *
+     * @param preValue 上一个节点的值
+     * @return 下一个节点的future
+     */
+    public abstract CompletableFuture<NullTaskList.NullNode> nodeTaskAsync(Object preValue);
+
+    @Override
+    public NullTaskList.NullNode nodeTask(Object preValue) throws RuntimeException {
+        try {
+            return nodeTaskAsync(preValue).join();
+        } catch (CompletionException e) {
+            //还原任务中抛出的异常, 与同步任务的异常保持一致
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -4,8 +4,7 @@ package com.gitee.huanminabc.nullchain.common;
 import com.gitee.huanminabc.nullchain.Null;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 import com.gitee.huanminabc.nullchain.core.NullChainBase;
-import com.gitee.huanminabc.nullchain.leaf.calculate.NullCalculate;
-import com.gitee.huanminabc.nullchain.leaf.calculate.NullCalculateBase;
+import com.gitee.huanminabc.nullchain.leaf.calculate.*;
 import com.gitee.huanminabc.nullchain.leaf.http.OkHttpBase;
 import com.gitee.huanminabc.nullchain.leaf.http.OkHttp;
 import com.gitee.huanminabc.nullchain.leaf.stream.*;
@@ -59,21 +58,23 @@ public class NullBuild {
     }
 
     /**
-     * 创建一个空的Null节点
+     * 获取空的Null节点
      * 
-     * <p>返回一个表示空值的Null节点，用于初始化空链或表示null值。</p>
+     * <p>返回共享的空节点{@link NullTaskList.NullNode#EMPTY}，用于表示null值，不会创建新对象。
+     * 返回的节点是共享的，不允许修改它的字段。</p>
      * 
      * @param <T> 节点值的类型
      * @return 空的Null节点，isNull为true
      */
+    @SuppressWarnings("unchecked")
     public static <T> NullTaskList.NullNode<T> empty() {
-        return new NullTaskList.NullNode<>();
+        return (NullTaskList.NullNode<T>) NullTaskList.NullNode.EMPTY;
     }
 
     /**
      * 创建一个非空的Null节点
      * 
-     * <p>根据给定的对象创建一个Null节点。如果对象为null，则创建空节点；否则创建非空节点。
+     * <p>根据给定的对象创建一个Null节点。如果对象为null，则返回共享的空节点；否则创建非空节点。
      * 此方法在内部使用，用于构建任务链中的节点。</p>
      * 
      * @param <T> 节点值的类型
@@ -81,6 +82,9 @@ public class NullBuild {
      * @return Null节点，如果object为null则isNull为true，否则为false
      */
     public static <T> NullTaskList.NullNode<T> noEmpty(T object) {
+        if (object == null) {
+            return empty();
+        }
         return new NullTaskList.NullNode<>(object);
     }
 
@@ -95,7 +99,7 @@ public class NullBuild {
      * @param taskList 任务列表，包含要执行的任务链
      * @return 新的Null链实例
      */
-    public static <T> NullChain<T> noEmpty(StringBuilder linkLog, NullTaskList taskList) {
+    public static <T> NullChain<T> noEmpty(NullLinkLog linkLog, NullTaskList taskList) {
         return new NullChainBase<>(linkLog, taskList);
     }
 
@@ -109,9 +113,9 @@ public class NullBuild {
      * @param linkLog 链式操作的日志记录器
      * @param taskList 任务列表
      * @return 新的Null链实例
-     * @see #noEmpty(StringBuilder, NullTaskList)
+     * @see #noEmpty(NullLinkLog, NullTaskList)
      */
-    public static <T> NullChain<T> busy(StringBuilder linkLog, NullTaskList taskList) {
+    public static <T> NullChain<T> busy(NullLinkLog linkLog, NullTaskList taskList) {
         return noEmpty(linkLog, taskList);
     }
 
@@ -224,10 +228,69 @@ public class NullBuild {
      * @param nullTaskList 任务列表
      * @return NullCalculate实例
      */
-    public static <T extends java.math.BigDecimal> NullCalculate<T> busyCalc(StringBuilder linkLog, NullTaskList nullTaskList) {
+    public static <T extends java.math.BigDecimal> NullCalculate<T> busyCalc(NullLinkLog linkLog, NullTaskList nullTaskList) {
         return new NullCalculateBase<T>(linkLog, nullTaskList);
     }
 
+    /**
+     * 创建整数链实例
+     * 
+     * @param value int值
+     * @return 不为空的NullIntChain实例
+     */
+    public static NullIntChain intChain(int value) {
+        return new NullIntChainBase(value, false);
+    }
+
+    /**
+     * 创建空的整数链实例
+     * 
+     * <p>整数链的操作会修改链自身, 所以每次都创建新的空链, 不能共享。</p>
+     * 
+     * @return 空的NullIntChain实例
+     */
+    public static NullIntChain emptyIntChain() {
+        return new NullIntChainBase(0, true);
+    }
+
+    /**
+     * 创建长整数链实例
+     * 
+     * @param value long值
+     * @return 不为空的NullLongChain实例
+     */
+    public static NullLongChain longChain(long value) {
+        return new NullLongChainBase(value, false);
+    }
+
+    /**
+     * 创建空的长整数链实例
+     * 
+     * @return 空的NullLongChain实例
+     */
+    public static NullLongChain emptyLongChain() {
+        return new NullLongChainBase(0L, true);
+    }
+
+    /**
+     * 创建浮点数链实例
+     * 
+     * @param value double值
+     * @return 不为空的NullDoubleChain实例
+     */
+    public static NullDoubleChain doubleChain(double value) {
+        return new NullDoubleChainBase(value, false);
+    }
+
+    /**
+     * 创建空的浮点数链实例
+     * 
+     * @return 空的NullDoubleChain实例
+     */
+    public static NullDoubleChain emptyDoubleChain() {
+        return new NullDoubleChainBase(0D, true);
+    }
+
     /**
      * 创建流链实例
      * 
@@ -238,7 +301,7 @@ public class NullBuild {
      * @param nullTaskList 任务列表
      * @return NullStream实例
      */
-    public static <T> NullStream<T> busyStream(StringBuilder linkLog, NullTaskList nullTaskList) {
+    public static <T> NullStream<T> busyStream(NullLinkLog linkLog, NullTaskList nullTaskList) {
         return new NullStreamBase<T>(linkLog, nullTaskList);
     }
 
@@ -253,7 +316,7 @@ public class NullBuild {
      * @param nullTaskList 任务列表
      * @return OkHttp实例
      */
-    public static <T> OkHttp<T> busyHttp(String url, StringBuilder linkLog, NullTaskList nullTaskList) {
+    public static <T> OkHttp<T> busyHttp(String url, NullLinkLog linkLog, NullTaskList nullTaskList) {
         return new OkHttpBase<T>(url,linkLog, nullTaskList);
     }
 
@@ -270,7 +333,7 @@ public class NullBuild {
      * @param nullTaskList 任务列表
      * @return OkHttp实例
      */
-    public static <T> OkHttp<T> busyHttp(String httpName, String url, StringBuilder linkLog, NullTaskList nullTaskList) {
+    public static <T> OkHttp<T> busyHttp(String httpName, String url, NullLinkLog linkLog, NullTaskList nullTaskList) {
         return new OkHttpBase<T>(httpName,url,linkLog, nullTaskList);
     }
 
@@ -285,7 +348,7 @@ public class NullBuild {
      * @param list 检查节点列表，定义多级判空的路径
      * @return NullCheck实例
      */
-    public static <T> NullCheck<T> busyCheck(StringBuilder linkLog, NullTaskList nullTaskList, List<NullCheckBase.NullCheckNode> list) {
+    public static <T> NullCheck<T> busyCheck(NullLinkLog linkLog, NullTaskList nullTaskList, List<NullCheckBase.NullCheckNode> list) {
         return new NullCheckBase<T>(linkLog, nullTaskList, list);
     }
 
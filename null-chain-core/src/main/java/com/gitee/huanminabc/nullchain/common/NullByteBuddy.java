@@ -65,6 +65,8 @@ public class NullByteBuddy {
                         .subclass(clazz)
                         // 添加一个成员变量
                         .defineField(EMPTY_MEMBER_NAME, boolean.class, Opcodes.ACC_PRIVATE)
+                        // 实现空对象标记接口, 判断空对象时只需要类型检查
+                        .implement(NullEmptyProxy.class)
                         //1.不匹配NULLExt接口的方法
                         //2.只拦截public方法
                         .method(new NotNULLExtMatcher().and(ElementMatchers.isPublic()))
@@ -88,15 +90,9 @@ public class NullByteBuddy {
         });
     }
 
-    //反射获取成员变量的值,如果不存在返回false
+    //判断是否为空对象, 空对象的代理类实现了NullEmptyProxy接口, 非空对象只需要一次类型检查
     public static boolean getEmptyMember(NullCheck obj) {
-        try {
-            Field declaredField = obj.getClass().getDeclaredField(EMPTY_MEMBER_NAME);
-            declaredField.setAccessible(true);
-            return declaredField.getBoolean(obj);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            return false;
-        }
+        return obj instanceof NullEmptyProxy;
     }
 
     private static class NotNULLExtMatcher<T extends DeclaredByType> extends ElementMatcher.Junction.AbstractBase<T> {
@@ -0,0 +1,74 @@
+package com.gitee.huanminabc.nullchain.common;
+
+/**
+ * Null链调用点 - 控制异步执行时是否记录调用方的堆栈
+ *
+ * <p>异步终结操作和任务组的异常发生在其他线程中, 异常本身的堆栈看不到是哪里调用的链。
+ * 为了定位调用方需要在提交之前遍历一次当前线程的堆栈, 这是JVM中开销最大的操作之一,
+ * 在高并发的异步链中会成为主要的开销, 所以默认不记录, 排查问题时再开启:</p>
+ *
+ * <pre>{@code
+ * NullCallSite.setCaptureEnabled(true);
+ * }</pre>
+ *
+ * <p>开启后异步异常中会附带调用方的堆栈; 关闭时异常中仍然包含链路日志, 只是没有调用方的堆栈。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public final class NullCallSite {
+
+    /**
+     * 是否记录调用方堆栈, 默认不记录
+     */
+    private static volatile boolean captureEnabled = false;
+
+    private NullCallSite() {
+    }
+
+    /**
+     * 设置是否记录调用方堆栈
+     *
+     * @param enabled true记录
+     */
+    public static void setCaptureEnabled(boolean enabled) {
+        captureEnabled = enabled;
+    }
+
+    /**
+     * 获取是否记录调用方堆栈
+     *
+     * @return true记录
+     */
+    public static boolean isCaptureEnabled() {
+        return captureEnabled;
+    }
+
+    /**
+     * 记录当前线程的堆栈, 没有开启时返回null, 不会遍历堆栈
+     *
+     * @return 当前线程的堆栈, 没有开启时返回null
+     */
+    public static StackTraceElement[] capture() {
+        return captureEnabled ? Thread.currentThread().getStackTrace() : null;
+    }
+
+    /**
+     * 创建带调用方堆栈的异常, 只在异常真正发生时调用
+     *
+     * @param callSite 提交时记录的堆栈, 为null时使用异常自身的堆栈
+     * @param message  异常消息, 支持{}占位符
+     * @param args     占位符参数
+     * @return 异常实例
+     */
+    public static NullChainException exception(StackTraceElement[] callSite, String message, Object... args) {
+        NullChainException exception = new NullChainException();
+        if (callSite == null) {
+            exception.setMessage(message, args);
+        } else {
+            exception.setMessage(callSite, message, args);
+        }
+        return exception;
+    }
+}
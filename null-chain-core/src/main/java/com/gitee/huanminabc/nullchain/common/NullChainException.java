@@ -1,8 +1,9 @@
 package com.gitee.huanminabc.nullchain.common;
 
-import com.gitee.huanminabc.jcommon.reflect.FieldUtil;
 import lombok.extern.slf4j.Slf4j;
-import java.lang.reflect.Field;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
 /**
  * Null链运行时异常类 - 提供链式操作的运行时异常
@@ -27,16 +28,46 @@ import java.lang.reflect.Field;
  *   <li>字段处理：支持异常字段的处理</li>
  *   <li>异常传播：支持异常的传播和处理</li>
  * </ul>
+ *
+ * <p>链路日志以字段的形式保存在异常中, 第一次调用{@link #getMessage()}时才渲染到消息前面,
+ * 大量失败的场景(比如校验不通过)不需要为每个异常反射修改detailMessage和拼接字符串。</p>
  * 
  * @author huanmin
  * @since 1.0.0
- * @version 1.1.1
+ * @version 1.1.10
  * @see RuntimeException 运行时异常基类
- * @see FieldUtil 字段工具
+ * @see NullReflectionKit#addRunErrorMessage(Throwable, NullLinkLog)
  */
 @Slf4j
 public class NullChainException extends RuntimeException {
 
+    /**
+     * 通过setMessage设置的消息, 代替反射修改detailMessage
+     */
+    private String message;
+    private boolean messageSet;
+
+    /**
+     * 只传入被包装异常时, 消息就是被包装异常的toString, 获取消息时才生成
+     */
+    private boolean messageFromCause;
+
+    /**
+     * 链路日志和记录时的位置, 第一次获取消息时才渲染
+     */
+    private transient NullLinkLog linkLog;
+    private transient int linkLogMark;
+
+    /**
+     * 链路日志是否放在被包装异常的消息中, 与原来修改被包装异常消息的格式保持一致
+     */
+    private transient boolean linkLogInCause;
+
+    /**
+     * 渲染后的消息
+     */
+    private transient String renderedMessage;
+
     public NullChainException() {
     }
 
@@ -45,7 +76,8 @@ public class NullChainException extends RuntimeException {
     }
 
     public NullChainException(Throwable e) {
-        super(e);
+        super(null, e);
+        this.messageFromCause = true;
     }
 
     //format
@@ -61,16 +93,17 @@ public class NullChainException extends RuntimeException {
         super(String.format(message.replaceAll("\\{\\s*}", "%s"), args), e);
     }
 
+    //附加到其他异常上的链路信息, 不需要堆栈, 消息在获取时才渲染
+    private NullChainException(NullLinkLog linkLog, String message) {
+        super(message, null, false, false);
+        attachLinkLog(linkLog, false);
+    }
+
     //设置message
     public void setMessage(String message, Object... args) {
-        String format = String.format(message.replaceAll("\\{\\s*}", "%s"), args);
-        Class<? extends NullChainException> aClass = this.getClass();
-        //添加detailMessage
-        try {
-            Field detailMessage = FieldUtil.getField(aClass, "detailMessage");
-            detailMessage.setAccessible(true);
-            detailMessage.set(this, format);
-        } catch (IllegalAccessException  ignored) {}
+        this.message = String.format(message.replaceAll("\\{\\s*}", "%s"), args);
+        this.messageSet = true;
+        this.renderedMessage = null;
     }
 
     public void setMessage(Throwable e, String message, Object... args) {
@@ -82,4 +115,96 @@ public class NullChainException extends RuntimeException {
         this.setMessage(String.format(message.replaceAll("\\{\\s*}", "%s"), args));
         this.setStackTrace(stackTrace);
     }
+
+    @Override
+    public String getMessage() {
+        if (linkLog == null) {
+            return detailMessage();
+        }
+        if (renderedMessage == null) {
+            String log = linkLog.toString(linkLogMark);
+            Throwable cause = getCause();
+            if (linkLogInCause && cause != null) {
+                //等同于被包装异常的消息前面加上链路日志后的toString
+                String causeMessage = cause.getLocalizedMessage();
+                renderedMessage = cause.getClass().getName() + ": " + log + " " + (causeMessage == null ? "" : causeMessage);
+            } else {
+                String detail = detailMessage();
+                renderedMessage = log + " " + (detail == null ? "" : detail);
+            }
+        }
+        return renderedMessage;
+    }
+
+    //不包含链路日志的消息, 和RuntimeException(Throwable)一样使用被包装异常的toString
+    private String detailMessage() {
+        if (messageSet) {
+            return message;
+        }
+        Throwable cause = getCause();
+        if (messageFromCause && cause != null) {
+            return cause.toString();
+        }
+        return super.getMessage();
+    }
+
+    /**
+     * 在消息前面追加链路日志, 只记录日志的位置, 获取消息时才渲染
+     *
+     * @param linkLog 链路日志
+     */
+    void attachLinkLog(NullLinkLog linkLog) {
+        attachLinkLog(linkLog, false);
+    }
+
+    /**
+     * 包装其他异常并追加链路日志
+     *
+     * @param cause   被包装的异常
+     * @param linkLog 链路日志
+     * @return 包装后的异常
+     */
+    static NullChainException wrap(Throwable cause, NullLinkLog linkLog) {
+        NullChainException exception = new NullChainException(cause);
+        exception.attachLinkLog(linkLog, true);
+        return exception;
+    }
+
+    /**
+     * 创建以suppressed的形式附加到其他异常上的链路信息
+     *
+     * @param message 消息, 可以为null
+     * @param linkLog 链路日志, 可以为null
+     * @return 链路信息异常
+     */
+    static NullChainException carrier(String message, NullLinkLog linkLog) {
+        return new NullChainException(linkLog, message);
+    }
+
+    private void attachLinkLog(NullLinkLog linkLog, boolean inCause) {
+        if (linkLog == null) {
+            return;
+        }
+        //已经追加过链路日志的异常再次追加时, 先固定之前的消息, 新的链路日志放在最前面
+        if (this.linkLog != null) {
+            this.message = getMessage();
+            this.messageSet = true;
+            inCause = false;
+        }
+        this.linkLog = linkLog;
+        this.linkLogMark = linkLog.mark();
+        this.linkLogInCause = inCause;
+        this.renderedMessage = null;
+    }
+
+    //链路日志不能序列化, 序列化前渲染成消息
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        if (linkLog != null) {
+            this.message = getMessage();
+            this.messageSet = true;
+            this.linkLog = null;
+            this.renderedMessage = null;
+        }
+        out.defaultWriteObject();
+    }
 }
@@ -80,7 +80,7 @@ public class NullCollect implements Serializable {
      */
     public <T> NullChain<T> get(Class<T> t) {
         NullTaskList nullTaskList = new NullTaskList();
-        StringBuilder linkLog = new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+        NullLinkLog linkLog = new NullLinkLog();
         Object o = nullMap.get(t);
         nullTaskList.add((__) -> {
             if (Null.is(o)) {
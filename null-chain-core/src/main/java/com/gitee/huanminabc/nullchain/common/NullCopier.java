@@ -0,0 +1,458 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.jcommon.reflect.BeanCopyUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Null对象复制器 - 按类型编译的浅拷贝和深拷贝
+ *
+ * <p>每个类型第一次复制时解析出无参构造方法和全部实例字段的MethodHandle并缓存,
+ * 之后逐个字段复制, 不再通过序列化或者每次反射完成复制。</p>
+ *
+ * <ul>
+ *   <li>不可变类型(字符串、包装类型、BigDecimal、java.time日期时间、枚举等)直接复用, 不会复制</li>
+ *   <li>可变的JDK值类型(Date及其子类、Calendar)通过clone复制</li>
+ *   <li>数组、集合和Map创建同类型的容器后复制元素; 无法创建同类型的容器(比如Arrays.asList、
+ *   Collections.unmodifiableList等包装类型)回退到BeanCopyUtil, 保持包装类型的语义</li>
+ *   <li>深拷贝记录已经复制过的对象, 循环引用和共享引用复制后保持同样的结构</li>
+ *   <li>深拷贝和序列化一样跳过transient字段</li>
+ *   <li>无法编译的类型(没有无参构造方法或者字段无法访问的JDK类型)回退到BeanCopyUtil</li>
+ * </ul>
+ *
+ * <p>对于读多写少的场景可以使用{@link #copyOnWrite(Object)}, Map和List只在第一次修改时才复制。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullCopyOnWriteMap 写时复制的Map
+ * @see NullCopyOnWriteList 写时复制的List
+ */
+public final class NullCopier {
+
+    /**
+     * 每个类型编译后的复制器
+     */
+    private static final ClassValue<BeanCopier> COPIERS = new ClassValue<BeanCopier>() {
+        @Override
+        protected BeanCopier computeValue(Class<?> type) {
+            return BeanCopier.compile(type);
+        }
+    };
+
+    /**
+     * 每个类型是否不可变
+     */
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return resolveImmutable(type);
+        }
+    };
+
+    private NullCopier() {
+    }
+
+    /**
+     * 判断类型是否为不可变类型, 不可变类型复制时直接复用
+     *
+     * <p>不可变类型包括：基本类型和包装类型、字符串、BigInteger、BigDecimal、
+     * java.time日期时间类型(LocalDate, LocalDateTime, LocalTime等)、枚举、Class和UUID。
+     * Date是可变的, 不属于不可变类型</p>
+     *
+     * @param type 类型
+     * @return 如果是不可变类型返回true，为null时也返回true
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return type == null || IMMUTABLE.get(type);
+    }
+
+    /**
+     * 浅拷贝, 字段中的引用仍然指向原对象
+     *
+     * @param value 对象
+     * @param <T>   类型
+     * @return 复制后的对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T value) {
+        if (value == null || isImmutable(value.getClass())) {
+            return value;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Object array = Array.newInstance(type.getComponentType(), length);
+            System.arraycopy(value, 0, array, 0, length);
+            return (T) array;
+        }
+        Object cloned = cloneValue(value);
+        if (cloned != null) {
+            return (T) cloned;
+        }
+        if (value instanceof Collection) {
+            Collection<Object> collection = newCollection((Collection<?>) value);
+            if (collection == null) {
+                return (T) BeanCopyUtil.copy(value);
+            }
+            collection.addAll((Collection<?>) value);
+            return (T) collection;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = newMap((Map<?, ?>) value);
+            if (map == null) {
+                return (T) BeanCopyUtil.copy(value);
+            }
+            map.putAll((Map<?, ?>) value);
+            return (T) map;
+        }
+        BeanCopier copier = COPIERS.get(type);
+        if (!copier.supported) {
+            return (T) BeanCopyUtil.copy(value);
+        }
+        return (T) copier.copy(value, null);
+    }
+
+    /**
+     * 深拷贝, 完全复制对象及其所有嵌套的可变对象
+     *
+     * @param value 对象
+     * @param <T>   类型
+     * @return 复制后的对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T value) {
+        if (value == null || isImmutable(value.getClass())) {
+            return value;
+        }
+        return (T) deepCopy(value, new IdentityHashMap<>());
+    }
+
+    /**
+     * 写时复制, Map和List返回只在第一次修改时才复制的视图, 读取嵌套的可变对象时才复制该对象,
+     * 原对象不会被修改; 其他类型直接深拷贝
+     *
+     * @param value 对象
+     * @param <T>   类型
+     * @return 写时复制的视图或者复制后的对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyOnWrite(T value) {
+        if (value == null || isImmutable(value.getClass())) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return (T) new NullCopyOnWriteMap<>((Map<Object, Object>) value);
+        }
+        if (value instanceof List) {
+            return (T) new NullCopyOnWriteList<>((List<Object>) value);
+        }
+        return deepCopy(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object deepCopy(Object value, IdentityHashMap<Object, Object> copied) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if (isImmutable(type)) {
+            return value;
+        }
+        Object exist = copied.get(value);
+        if (exist != null) {
+            return exist;
+        }
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Object array = Array.newInstance(type.getComponentType(), length);
+            copied.put(value, array);
+            if (type.getComponentType().isPrimitive()) {
+                System.arraycopy(value, 0, array, 0, length);
+            } else {
+                Object[] source = (Object[]) value;
+                Object[] target = (Object[]) array;
+                for (int i = 0; i < length; i++) {
+                    target[i] = deepCopy(source[i], copied);
+                }
+            }
+            return array;
+        }
+        Object cloned = cloneValue(value);
+        if (cloned != null) {
+            copied.put(value, cloned);
+            return cloned;
+        }
+        if (value instanceof EnumSet) {
+            //枚举不可变, 直接克隆
+            EnumSet<?> enumSet = ((EnumSet<?>) value).clone();
+            copied.put(value, enumSet);
+            return enumSet;
+        }
+        if (value instanceof Collection) {
+            Collection<Object> collection = newCollection((Collection<?>) value);
+            if (collection == null) {
+                return fallbackDeepCopy(value, copied);
+            }
+            copied.put(value, collection);
+            for (Object item : (Collection<?>) value) {
+                collection.add(deepCopy(item, copied));
+            }
+            return collection;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = newMap((Map<?, ?>) value);
+            if (map == null) {
+                return fallbackDeepCopy(value, copied);
+            }
+            copied.put(value, map);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(deepCopy(entry.getKey(), copied), deepCopy(entry.getValue(), copied));
+            }
+            return map;
+        }
+        BeanCopier copier = COPIERS.get(type);
+        if (!copier.supported) {
+            return fallbackDeepCopy(value, copied);
+        }
+        return copier.copy(value, copied);
+    }
+
+    //无法按类型复制时使用BeanCopyUtil深拷贝
+    private static Object fallbackDeepCopy(Object value, IdentityHashMap<Object, Object> copied) {
+        Object copy = BeanCopyUtil.deepCopy(value);
+        copied.put(value, copy);
+        return copy;
+    }
+
+    //可变的JDK值类型通过clone复制, 其他类型返回null
+    private static Object cloneValue(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof Calendar) {
+            return ((Calendar) value).clone();
+        }
+        return null;
+    }
+
+    //创建同类型的集合, 无法创建同类型(包装类型、带比较器的非TreeSet排序集合)时返回null
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newCollection(Collection<?> source) {
+        if (source.getClass() == TreeSet.class) {
+            return new TreeSet<>((Comparator<Object>) ((SortedSet<?>) source).comparator());
+        }
+        if (source instanceof SortedSet && ((SortedSet<?>) source).comparator() != null) {
+            return null;
+        }
+        Object instance = COPIERS.get(source.getClass()).newInstance();
+        if (instance instanceof Collection) {
+            return (Collection<Object>) instance;
+        }
+        return null;
+    }
+
+    //创建同类型的Map, 无法创建同类型(包装类型、带比较器的非TreeMap排序Map)时返回null
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> newMap(Map<?, ?> source) {
+        if (source.getClass() == TreeMap.class) {
+            return new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) source).comparator());
+        }
+        if (source instanceof SortedMap && ((SortedMap<?, ?>) source).comparator() != null) {
+            return null;
+        }
+        if (source instanceof EnumMap) {
+            EnumMap enumMap = new EnumMap((EnumMap) source);
+            enumMap.clear();
+            return enumMap;
+        }
+        Object instance = COPIERS.get(source.getClass()).newInstance();
+        if (instance instanceof Map) {
+            return (Map<Object, Object>) instance;
+        }
+        return null;
+    }
+
+    private static boolean resolveImmutable(Class<?> type) {
+        // 基本类型和包装类
+        if (type.isPrimitive() ||
+                type == String.class ||
+                type == Integer.class ||
+                type == Long.class ||
+                type == Double.class ||
+                type == Float.class ||
+                type == Boolean.class ||
+                type == Byte.class ||
+                type == Short.class ||
+                type == Character.class) {
+            return true;
+        }
+        // 数值类型
+        if (type == BigInteger.class || type == BigDecimal.class) {
+            return true;
+        }
+        // 日期时间类型
+        if (type == LocalDate.class ||
+                type == LocalDateTime.class ||
+                type == LocalTime.class ||
+                type == Instant.class ||
+                type == ZonedDateTime.class ||
+                type == OffsetDateTime.class ||
+                type == Duration.class) {
+            return true;
+        }
+        // 枚举、Class和UUID
+        return type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum())
+                || type == Class.class || type == UUID.class;
+    }
+
+    /**
+     * 编译后的复制器, 保存无参构造方法和全部实例字段的读写方法
+     */
+    private static final class BeanCopier {
+        private static final BeanCopier UNSUPPORTED = new BeanCopier(null, null, null, false);
+
+        private final MethodHandle constructor;
+        private final FieldCopier[] fields;
+        private final FieldCopier[] deepFields;
+        private final boolean supported;
+
+        private BeanCopier(MethodHandle constructor, FieldCopier[] fields, FieldCopier[] deepFields, boolean supported) {
+            this.constructor = constructor;
+            this.fields = fields;
+            this.deepFields = deepFields;
+            this.supported = supported;
+        }
+
+        static BeanCopier compile(Class<?> type) {
+            MethodHandle constructor;
+            try {
+                constructor = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                constructor = null;
+            }
+            //JDK中的类型字段无法访问, 只使用构造方法创建容器
+            if (constructor == null || isJdkType(type)) {
+                return constructor == null ? UNSUPPORTED : new BeanCopier(constructor, null, null, false);
+            }
+            List<FieldCopier> fields = new ArrayList<>();
+            List<FieldCopier> deepFields = new ArrayList<>();
+            try {
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers)) {
+                            continue;
+                        }
+                        field.setAccessible(true);
+                        MethodHandles.Lookup lookup = MethodHandles.lookup();
+                        FieldCopier fieldCopier = new FieldCopier(
+                                lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class)),
+                                lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class)),
+                                isImmutable(field.getType()));
+                        fields.add(fieldCopier);
+                        //深拷贝和序列化一样跳过transient字段
+                        if (!Modifier.isTransient(modifiers)) {
+                            deepFields.add(fieldCopier);
+                        }
+                    }
+                }
+            } catch (RuntimeException | IllegalAccessException e) {
+                //字段无法访问(比如JDK16以上强封装的类型), 回退到BeanCopyUtil
+                return new BeanCopier(constructor, null, null, false);
+            }
+            return new BeanCopier(constructor, fields.toArray(new FieldCopier[0]), deepFields.toArray(new FieldCopier[0]), true);
+        }
+
+        private static boolean isJdkType(Class<?> type) {
+            String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") || name.startsWith("jdk.");
+        }
+
+        //通过无参构造方法创建对象, 没有时返回null
+        Object newInstance() {
+            if (constructor == null) {
+                return null;
+            }
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+
+        //copied为null时浅拷贝, 否则深拷贝
+        Object copy(Object value, IdentityHashMap<Object, Object> copied) {
+            try {
+                Object target = (Object) constructor.invokeExact();
+                if (copied == null) {
+                    for (FieldCopier field : fields) {
+                        field.setter.invokeExact(target, (Object) field.getter.invokeExact(value));
+                    }
+                    return target;
+                }
+                copied.put(value, target);
+                for (FieldCopier field : deepFields) {
+                    Object fieldValue = (Object) field.getter.invokeExact(value);
+                    if (!field.immutable) {
+                        fieldValue = deepCopy(fieldValue, copied);
+                    }
+                    field.setter.invokeExact(target, fieldValue);
+                }
+                return target;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new NullChainException(e);
+            }
+        }
+    }
+
+    /**
+     * 单个字段的读写方法
+     */
+    private static final class FieldCopier {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        /**
+         * 字段声明的类型是否不可变, 不可变时深拷贝直接复用字段的值
+         */
+        private final boolean immutable;
+
+        private FieldCopier(MethodHandle getter, MethodHandle setter, boolean immutable) {
+            this.getter = getter;
+            this.setter = setter;
+            this.immutable = immutable;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 写时复制的List - 读取时直接访问原List, 第一次修改时才复制
+ *
+ * <p>读取到的可变元素同样以写时复制的方式返回, 并按下标缓存,
+ * 多次读取同一个下标拿到的是同一个对象, 对它的修改不会影响原List中的元素。</p>
+ *
+ * @param <E> 元素类型
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullCopier#copyOnWrite(Object)
+ */
+public class NullCopyOnWriteList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * 原List, 不会被修改
+     */
+    private final List<E> source;
+
+    /**
+     * 复制后的List, 第一次修改前为null
+     */
+    private List<E> copy;
+
+    /**
+     * 已经读取过的可变元素, 按下标存放
+     */
+    private Object[] nested;
+
+    public NullCopyOnWriteList(List<E> source) {
+        this.source = source;
+    }
+
+    /**
+     * 是否已经复制
+     *
+     * @return true已经复制
+     */
+    public boolean isCopied() {
+        return copy != null;
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : source.size();
+    }
+
+    @Override
+    public E get(int index) {
+        if (copy != null) {
+            return copy.get(index);
+        }
+        return read(index, source.get(index));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return materialize().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        materialize().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E remove = materialize().remove(index);
+        modCount++;
+        return remove;
+    }
+
+    //读取原List中的元素, 可变元素以写时复制的方式返回
+    @SuppressWarnings("unchecked")
+    private E read(int index, E value) {
+        if (value == null || NullCopier.isImmutable(value.getClass())) {
+            return value;
+        }
+        if (nested == null) {
+            nested = new Object[source.size()];
+        }
+        Object exist = nested[index];
+        if (exist == null) {
+            exist = NullCopier.copyOnWrite(value);
+            nested[index] = exist;
+        }
+        return (E) exist;
+    }
+
+    private List<E> materialize() {
+        if (copy == null) {
+            int size = source.size();
+            List<E> list = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                list.add(read(i, source.get(i)));
+            }
+            copy = list;
+            nested = null;
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,162 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 写时复制的Map - 读取时直接访问原Map, 第一次修改时才复制
+ *
+ * <p>读取到的可变值(Map、List和其他可变对象)同样以写时复制的方式返回, 并按key缓存,
+ * 多次读取同一个key拿到的是同一个对象, 对它的修改不会影响原Map中的值。</p>
+ *
+ * <p>适合只读为主的脚本参数, 大部分脚本只读取参数, 不需要为每次执行深拷贝整个参数。</p>
+ *
+ * @param <K> key类型
+ * @param <V> value类型
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullCopier#copyOnWrite(Object)
+ */
+public class NullCopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * 原Map, 不会被修改
+     */
+    private final Map<K, V> source;
+
+    /**
+     * 复制后的Map, 第一次修改前为null
+     */
+    private Map<K, V> copy;
+
+    /**
+     * 已经读取过的可变值
+     */
+    private Map<Object, V> nested;
+
+    public NullCopyOnWriteMap(Map<K, V> source) {
+        this.source = source;
+    }
+
+    /**
+     * 是否已经复制
+     *
+     * @return true已经复制
+     */
+    public boolean isCopied() {
+        return copy != null;
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : source.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return copy != null ? copy.containsKey(key) : source.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        return read(key, source.get(key));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                if (copy != null) {
+                    return copy.entrySet().iterator();
+                }
+                //遍历原Map的key, 修改通过当前Map完成, 不影响遍历
+                Iterator<K> keys = source.keySet().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private K last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        K key = keys.next();
+                        last = key;
+                        return new SimpleEntry<K, V>(key, get(key)) {
+                            @Override
+                            public V setValue(V value) {
+                                super.setValue(value);
+                                return put(key, value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        NullCopyOnWriteMap.this.remove(last);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return NullCopyOnWriteMap.this.size();
+            }
+        };
+    }
+
+    //读取原Map中的值, 可变值以写时复制的方式返回
+    @SuppressWarnings("unchecked")
+    private V read(Object key, V value) {
+        if (value == null || NullCopier.isImmutable(value.getClass())) {
+            return value;
+        }
+        if (nested == null) {
+            nested = new HashMap<>();
+        }
+        V exist = nested.get(key);
+        if (exist == null) {
+            exist = (V) NullCopier.copyOnWrite(value);
+            nested.put(key, exist);
+        }
+        return exist;
+    }
+
+    private Map<K, V> materialize() {
+        if (copy == null) {
+            Map<K, V> map = new LinkedHashMap<>(Math.max(16, (int) (source.size() / .75f) + 1));
+            for (Entry<K, V> entry : source.entrySet()) {
+                map.put(entry.getKey(), read(entry.getKey(), entry.getValue()));
+            }
+            copy = map;
+            nested = null;
+        }
+        return copy;
+    }
+}
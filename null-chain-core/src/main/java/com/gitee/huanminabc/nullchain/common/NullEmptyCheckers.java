@@ -0,0 +1,164 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.jcommon.reflect.ClassIdentifyUtil;
+import com.gitee.huanminabc.jcommon.str.StringUtil;
+import com.gitee.huanminabc.nullchain.NullCheck;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Null空值判断策略 - 按类型缓存空值判断的方式
+ *
+ * <p>{@link NullUtil#is(Object)} 在每个链路节点上都会调用, 原来每次都要依次判断基本类型、字符串、集合、Map、数组和NullCheck。
+ * 现在每个类型第一次出现时解析出对应的判断策略并缓存在 {@link ClassValue} 中, 之后直接分派到该策略。</p>
+ *
+ * <p>自定义类型可以注册自己的空值判断, 注册的判断优先于内置的判断, 对该类型的子类同样生效:</p>
+ *
+ * <pre>{@code
+ * NullEmptyCheckers.register(Money.class, money -> money.getAmount() == null);
+ * Null.is(new Money(null)); // true
+ * }</pre>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullUtil#is(Object)
+ */
+public final class NullEmptyCheckers {
+
+    /**
+     * 永远不为空, 基本类型、包装类型和没有特殊规则的对象使用
+     */
+    private static final Predicate<Object> NEVER_EMPTY = o -> false;
+
+    /**
+     * 字符串为空、空白或者是"null"字符串时为空
+     */
+    private static final Predicate<Object> CHAR_SEQUENCE = o -> {
+        CharSequence str = (CharSequence) o;
+        boolean blank = StringUtil.isEmpty(str);
+        //如果不是空那么判断不能是null字符串,在有些情况下比如String.valueOf(null)返回的是null字符串，这会导致计算和显示的时候误解
+        //优化：先检查长度，如果长度不是4，可以快速跳过"null"字符串检查
+        if (!blank && str instanceof String && str.length() == 4) {
+            return "null".equalsIgnoreCase((String) str);
+        }
+        return blank;
+    };
+
+    private static final Predicate<Object> COLLECTION = o -> ((Collection<?>) o).isEmpty();
+
+    private static final Predicate<Object> MAP = o -> ((Map<?, ?>) o).isEmpty();
+
+    // 数组类型判断：包括基本类型数组（byte[]、int[]等）、包装类型数组（Byte[]、Integer[]等）和对象数组（Object[]、String[]等）
+    private static final Predicate<Object> ARRAY = o -> Array.getLength(o) == 0;
+
+    private static final Predicate<Object> NULL_CHECK = o -> ((NullCheck) o).isEmpty();
+
+    /**
+     * 注册的自定义判断, 写时复制, 按注册顺序匹配
+     */
+    private static volatile Map<Class<?>, Predicate<Object>> registered = new LinkedHashMap<>();
+
+    /**
+     * 每个类型解析后的判断策略, 注册变化时整体替换
+     */
+    private static volatile ClassValue<Predicate<Object>> checkers = newCheckers();
+
+    private NullEmptyCheckers() {
+    }
+
+    /**
+     * 判断对象是否为空
+     *
+     * @param o 对象
+     * @return null或者按类型判断为空时返回true
+     */
+    public static boolean isEmpty(Object o) {
+        if (o == null) {
+            return true;
+        }
+        return checkers.get(o.getClass()).test(o);
+    }
+
+    /**
+     * 注册自定义类型的空值判断, 已经注册过的类型会被覆盖
+     *
+     * @param type    类型, 对子类同样生效
+     * @param checker 空值判断, 返回true表示为空
+     * @param <T>     类型
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> void register(Class<T> type, Predicate<? super T> checker) {
+        if (type == null || checker == null) {
+            throw new NullChainException("注册空值判断失败, 类型和判断都不能为空");
+        }
+        Map<Class<?>, Predicate<Object>> copy = new LinkedHashMap<>(registered);
+        copy.put(type, (Predicate<Object>) checker);
+        registered = copy;
+        checkers = newCheckers();
+    }
+
+    /**
+     * 移除自定义类型的空值判断, 恢复为内置的判断
+     *
+     * @param type 类型
+     */
+    public static synchronized void remove(Class<?> type) {
+        if (type == null || !registered.containsKey(type)) {
+            return;
+        }
+        Map<Class<?>, Predicate<Object>> copy = new LinkedHashMap<>(registered);
+        copy.remove(type);
+        registered = copy;
+        checkers = newCheckers();
+    }
+
+    private static ClassValue<Predicate<Object>> newCheckers() {
+        Map<Class<?>, Predicate<Object>> custom = registered;
+        return new ClassValue<Predicate<Object>>() {
+            @Override
+            protected Predicate<Object> computeValue(Class<?> type) {
+                return resolve(type, custom);
+            }
+        };
+    }
+
+    //按原来的判断顺序解析出类型对应的策略
+    private static Predicate<Object> resolve(Class<?> type, Map<Class<?>, Predicate<Object>> custom) {
+        if (!custom.isEmpty()) {
+            Predicate<Object> exact = custom.get(type);
+            if (exact != null) {
+                return exact;
+            }
+            for (Map.Entry<Class<?>, Predicate<Object>> entry : custom.entrySet()) {
+                if (entry.getKey().isAssignableFrom(type)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        //如果是8大基本类型或者包装类型,那么直接返回不是空 ,因为只有null和有值两种情况
+        if (ClassIdentifyUtil.isPrimitiveOrWrapper(type)) {
+            return NEVER_EMPTY;
+        }
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return CHAR_SEQUENCE;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return COLLECTION;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return MAP;
+        }
+        if (type.isArray()) {
+            return ARRAY;
+        }
+        if (NullCheck.class.isAssignableFrom(type)) {
+            return NULL_CHECK;
+        }
+        return NEVER_EMPTY;
+    }
+}
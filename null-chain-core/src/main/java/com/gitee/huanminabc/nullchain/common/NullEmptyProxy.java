@@ -0,0 +1,16 @@
+package com.gitee.huanminabc.nullchain.common;
+
+/**
+ * 空对象标记接口 - 由{@link NullByteBuddy}生成的空对象代理类实现
+ *
+ * <p>判断对象是否为空对象时只需要一次类型检查, 不再通过反射查找空成员变量,
+ * 非空对象也不会因为找不到成员变量而抛出异常。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullByteBuddy#createAgencyAddEmptyMember(Class)
+ * @see NullByteBuddy#getEmptyMember(com.gitee.huanminabc.nullchain.NullCheck)
+ */
+public interface NullEmptyProxy {
+}
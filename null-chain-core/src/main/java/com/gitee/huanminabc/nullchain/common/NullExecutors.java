@@ -0,0 +1,223 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskContext;
+import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
+import com.gitee.huanminabc.jcommon.str.StringUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Null链执行器 - 统一获取异步节点和并发任务使用的线程池
+ *
+ * <p>默认情况下使用 {@link ThreadFactoryUtil} 管理的线程池。在 JDK 21 及以上版本中，
+ * 可以通过线程池名称 {@link #VIRTUAL_THREAD_FACTORY_NAME} 让异步节点和并发任务运行在虚拟线程上：</p>
+ *
+ * <pre>{@code
+ * // 单条链使用虚拟线程
+ * Null.ofHttp(url).async("virtual").toStr();
+ *
+ * // 全局使用虚拟线程，async() 和默认线程池的并发任务都会运行在虚拟线程上
+ * NullExecutors.setGlobalVirtualThread(true);
+ * }</pre>
+ *
+ * <p>虚拟线程是通过反射检测的，项目仍然按照 Java 8 编译。当前 JVM 不支持虚拟线程时，
+ * 会自动退回到默认线程池，行为和以前一致。</p>
+ *
+ * <p>虚拟线程不需要池化，阻塞时不会占用平台线程，适合 HTTP 请求、并发任务等 I/O 密集的场景，
+ * 不再需要为了避免线程饥饿而配置很大的线程池。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+@Slf4j
+public final class NullExecutors {
+
+    /**
+     * 虚拟线程的线程池名称, 可以用于 {@code async("virtual")}、{@code task(group, "virtual")} 等
+     */
+    public static final String VIRTUAL_THREAD_FACTORY_NAME = "virtual";
+
+    /**
+     * 虚拟线程执行器, 当前JVM不支持虚拟线程时为null
+     */
+    private static final ExecutorService VIRTUAL_EXECUTOR = createVirtualExecutor();
+
+    /**
+     * 全局是否使用虚拟线程
+     */
+    private static volatile boolean globalVirtualThread = false;
+
+    /**
+     * 线程池名称对应的ForkJoin线程池, 并行流和模板的批量执行使用, 不占用公共的ForkJoin线程池
+     */
+    private static final Map<String, ForkJoinPool> FORK_JOIN_POOLS = new ConcurrentHashMap<>();
+
+    private NullExecutors() {
+    }
+
+    /**
+     * 当前JVM是否支持虚拟线程
+     *
+     * @return true支持
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * 设置全局是否使用虚拟线程
+     *
+     * <p>开启后默认线程池({@link ThreadFactoryUtil#DEFAULT_THREAD_FACTORY_NAME})会被替换为虚拟线程,
+     * 指定了其他线程池名称的链不受影响。当前JVM不支持虚拟线程时设置不生效。</p>
+     *
+     * @param virtualThread true开启
+     */
+    public static void setGlobalVirtualThread(boolean virtualThread) {
+        if (virtualThread && VIRTUAL_EXECUTOR == null) {
+            log.warn("当前JVM不支持虚拟线程, 继续使用默认线程池");
+        }
+        globalVirtualThread = virtualThread;
+    }
+
+    /**
+     * 获取全局是否使用虚拟线程
+     *
+     * @return true开启
+     */
+    public static boolean isGlobalVirtualThread() {
+        return globalVirtualThread;
+    }
+
+    /**
+     * 判断线程池名称最终是否会使用虚拟线程
+     *
+     * @param threadFactoryName 线程池名称
+     * @return true使用虚拟线程
+     */
+    public static boolean isVirtual(String threadFactoryName) {
+        if (VIRTUAL_EXECUTOR == null) {
+            return false;
+        }
+        if (VIRTUAL_THREAD_FACTORY_NAME.equals(threadFactoryName)) {
+            return true;
+        }
+        return globalVirtualThread && ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME.equals(threadFactoryName);
+    }
+
+    /**
+     * 注册线程池, 虚拟线程不需要注册
+     *
+     * @param threadFactoryName 线程池名称
+     */
+    public static void addExecutor(String threadFactoryName) {
+        if (VIRTUAL_THREAD_FACTORY_NAME.equals(threadFactoryName)) {
+            return;
+        }
+        ThreadFactoryUtil.addExecutor(threadFactoryName);
+    }
+
+    /**
+     * 根据线程池名称获取执行器
+     *
+     * <p>名称为 {@link #VIRTUAL_THREAD_FACTORY_NAME} 或者开启了全局虚拟线程时返回虚拟线程执行器,
+     * 当前JVM不支持虚拟线程时退回默认线程池, 其他名称返回 {@link ThreadFactoryUtil} 中对应的线程池。</p>
+     *
+     * @param threadFactoryName 线程池名称
+     * @return 执行器
+     */
+    public static ExecutorService getExecutor(String threadFactoryName) {
+        if (isVirtual(threadFactoryName)) {
+            return VIRTUAL_EXECUTOR;
+        }
+        if (VIRTUAL_THREAD_FACTORY_NAME.equals(threadFactoryName)) {
+            return ThreadFactoryUtil.getExecutor(ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME);
+        }
+        return ThreadFactoryUtil.getExecutor(threadFactoryName);
+    }
+
+    /**
+     * 获取线程池名称对应的ForkJoin线程池, 第一次使用时创建, 并行度为CPU核数
+     *
+     * <p>计算密集的并行任务(并行流、模板的分块批量执行)在这里执行, 不会和异步链的回调争抢公共的ForkJoin线程池。
+     * 提交的任务需要自己传递上下文({@link AsyncTaskContext#capture()})。</p>
+     *
+     * @param threadFactoryName 线程池名称, 为空时使用默认名称
+     * @return ForkJoin线程池
+     */
+    public static ForkJoinPool getForkJoinPool(String threadFactoryName) {
+        String name = StringUtil.isEmpty(threadFactoryName) ? ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME : threadFactoryName;
+        return FORK_JOIN_POOLS.computeIfAbsent(name, key -> new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(key + "-stream-" + thread.getPoolIndex());
+            return thread;
+        }, null, false));
+    }
+
+    /**
+     * 通过反射创建虚拟线程执行器, JDK 21 以下返回null
+     */
+    private static ExecutorService createVirtualExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) method.invoke(null);
+            return new ContextAwareExecutor(executor);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            //JDK 19/20 中虚拟线程是预览特性, 没有开启预览时会调用失败
+            log.debug("空链 虚拟线程不可用, 使用默认线程池", e);
+            return null;
+        }
+    }
+
+    /**
+     * 提交任务时传递上下文的执行器, 与默认线程池的上下文传递行为保持一致
+     */
+    private static final class ContextAwareExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+
+        private ContextAwareExecutor(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(AsyncTaskContext.wrap(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.nullchain.common.function.NullValueTaskFun;
+
+import java.util.Arrays;
+
+/**
+ * Null融合值任务 - 把连续的同步值任务合并成一个任务
+ *
+ * <p>{@code map/ifGo/eq} 等操作符每个都是一个值任务, 属性导航这类长链路在执行时会产生大量的任务分派。
+ * 任务列表在追加值任务时, 如果上一个任务也是尚未执行的值任务, 就把它们合并到同一个融合任务中,
+ * 执行时在一个循环内依次调用各阶段, 每个阶段只做一次空值判断。</p>
+ *
+ * <p>融合不改变执行语义: 第一个阶段的 {@link #preNullEnd()} 就是融合任务的属性,
+ * 后续阶段在上一个阶段返回空值时按各自的preNullEnd决定是停止还是继续, 链路日志仍由各阶段自己记录。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullTaskList#addValueTask(NullValueTaskFun)
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class NullFusedValueTask extends NullValueTaskFunAbs {
+
+    /**
+     * 融合的阶段, 按添加顺序执行
+     */
+    private NullValueTaskFun[] stages;
+
+    /**
+     * 每个阶段在上一个阶段为空时是否停止执行
+     */
+    private boolean[] stagePreNullEnd;
+
+    /**
+     * 阶段数量
+     */
+    private int size;
+
+    NullFusedValueTask(NullValueTaskFun first, NullValueTaskFun second) {
+        stages = new NullValueTaskFun[4];
+        stagePreNullEnd = new boolean[4];
+        append(first);
+        append(second);
+    }
+
+    /**
+     * 追加一个阶段, 只能在融合任务执行之前调用
+     *
+     * @param stage 值任务
+     */
+    void append(NullValueTaskFun stage) {
+        if (size == stages.length) {
+            stages = Arrays.copyOf(stages, size << 1);
+            stagePreNullEnd = Arrays.copyOf(stagePreNullEnd, size << 1);
+        }
+        stages[size] = stage;
+        stagePreNullEnd[size] = NullTaskList.preNullEnd(stage);
+        size++;
+    }
+
+    /**
+     * 值任务是否可以融合, 重任务需要单独调度到自定义线程池, 不参与融合
+     *
+     * @param task 值任务
+     * @return true可以融合
+     */
+    static boolean isFusible(NullValueTaskFun task) {
+        return !NullTaskList.isHeavyTask(task);
+    }
+
+    @Override
+    public boolean preNullEnd() {
+        return stagePreNullEnd[0];
+    }
+
+    /**
+     * 获取融合的阶段数量
+     *
+     * @return 阶段数量
+     */
+    int stageCount() {
+        return size;
+    }
+
+    @Override
+    public Object valueTask(Object preValue) throws RuntimeException {
+        return valueTask(preValue, null, null);
+    }
+
+    /**
+     * 依次执行各阶段
+     *
+     * @param preValue 上一个任务的值
+     * @param collect  收集器, 不为null时收集每个阶段的值, 与未融合时的收集结果保持一致
+     * @param owner    所在的任务列表, 不为null时记录提前结束而跳过的阶段数
+     * @return 最后一个执行的阶段的值, 返回null表示空值
+     */
+    Object valueTask(Object preValue, NullCollect collect, NullTaskList owner) {
+        final NullValueTaskFun[] stages = this.stages;
+        final boolean[] stagePreNullEnd = this.stagePreNullEnd;
+        final int size = this.size;
+        Object value = stages[0].valueTask(preValue);
+        if (collect != null) {
+            collect.add(value);
+        }
+        for (int i = 1; i < size; i++) {
+            //上一个阶段是空并且当前阶段遇到空就停止
+            if (value == null && stagePreNullEnd[i]) {
+                if (owner != null) {
+                    owner.skipStages(size - i);
+                }
+                return null;
+            }
+            value = stages[i].valueTask(value);
+            if (collect != null) {
+                collect.add(value);
+            }
+        }
+        return value;
+    }
+}
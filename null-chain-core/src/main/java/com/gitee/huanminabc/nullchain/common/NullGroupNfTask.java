@@ -2,6 +2,7 @@ package com.gitee.huanminabc.nullchain.common;
 
 import com.gitee.huanminabc.jcommon.encryption.HashUtil;
 import com.gitee.huanminabc.jcommon.str.StringUtil;
+import com.gitee.huanminabc.nullchain.language.NfCompiledScript;
 import lombok.Data;
 import org.slf4j.Logger;
 
@@ -10,6 +11,7 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Null组合NF任务类 - 提供组合NF任务的参数管理功能
@@ -43,15 +45,55 @@ import java.util.Arrays;
 public class NullGroupNfTask {
     NullTaskInfo[] list;
 
+    /**
+     * 执行策略, 默认收集全部结果
+     */
+    NullGroupPolicy policy = NullGroupPolicy.COLLECT_ALL;
+
+    /**
+     * 超时时间(毫秒), 小于等于0表示不超时
+     */
+    long timeoutMillis;
+
     public NullGroupNfTask(NullTaskInfo... list) {
         this.list = list;
     }
 
+    /**
+     * 设置任务组的执行策略
+     *
+     * @param policy 执行策略
+     * @return 当前任务组
+     */
+    public NullGroupNfTask policy(NullGroupPolicy policy) {
+        if (policy == null) {
+            throw new NullChainException("NullGroupNfTask::policy-> 执行策略不能为空");
+        }
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * 设置任务组的超时时间, 超时后未完成的任务会被取消
+     *
+     * @param timeout 超时时间, 小于等于0表示不超时
+     * @param unit    时间单位
+     * @return 当前任务组
+     */
+    public NullGroupNfTask timeout(long timeout, TimeUnit unit) {
+        this.timeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
     @Data
     public static class NullTaskInfo {
         Object[] params;
         String filePath;
         String nfContext;
+        /**
+         * 预编译的脚本, 设置后执行时直接使用, 不再解析nfContext
+         */
+        NfCompiledScript compiledScript;
         String taskClassName;
         Logger logger;
         String key; //唯一标识
@@ -60,6 +102,11 @@ public class NullGroupNfTask {
         public Object[] getParams() {
             return params == null ? NullConstants.EMPTY_OBJECT_ARRAY : params;
         }
+
+        //是否有可以执行的脚本
+        public boolean hasScript() {
+            return compiledScript != null || !StringUtil.isEmpty(nfContext);
+        }
     }
 
     public static NullGroupNfTask buildGroup(NullTaskInfo... taskInfos) {
@@ -112,6 +159,31 @@ public class NullGroupNfTask {
     }
 
 
+    public static NullTaskInfo task(NfCompiledScript compiledScript, Object... params) {
+        return task(compiledScript, null, params);
+    }
+
+    /**
+     * 使用预编译的脚本创建任务, 唯一标识和脚本内容创建的任务相同
+     *
+     * @param compiledScript 预编译的脚本, 通过{@link com.gitee.huanminabc.nullchain.language.NfMain#compile(String)}获取
+     * @param logger         日志
+     * @param params         脚本参数
+     * @return 任务信息
+     */
+    public static NullTaskInfo task(NfCompiledScript compiledScript, Logger logger, Object... params) {
+        if (compiledScript == null) {
+            throw new NullChainException("NullGroupNfTask::task-> 预编译的nf脚本为空");
+        }
+        NullTaskInfo info = new NullTaskInfo();
+        info.setCompiledScript(compiledScript);
+        info.setParams(params);
+        info.setLogger(logger);
+        info.setKey(compiledScript.getKey());
+        return info;
+    }
+
+
     //获取唯一标识, 用于在map里面拿到任务返回的值
     public  String getKey(String nfContextOrFilePath) {
         String key = HashUtil.md5(nfContextOrFilePath);
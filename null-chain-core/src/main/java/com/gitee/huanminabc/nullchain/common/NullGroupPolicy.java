@@ -0,0 +1,24 @@
+package com.gitee.huanminabc.nullchain.common;
+
+/**
+ * Null任务组执行策略
+ *
+ * <p>控制任务组({@link NullGroupTask}、{@link NullGroupNfTask})中某个任务失败或者任务组超时时的处理方式。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullGroupRunner 任务组执行器
+ */
+public enum NullGroupPolicy {
+
+    /**
+     * 收集全部结果(默认), 失败的任务只记录日志, 返回其他任务的结果; 超时时返回已完成任务的结果
+     */
+    COLLECT_ALL,
+
+    /**
+     * 快速失败, 任意任务失败或者任务组超时就结束整个任务组并抛出异常, 未完成的任务会被取消
+     */
+    FAIL_FAST
+}
@@ -0,0 +1,131 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.nullchain.Null;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Null任务组执行器 - 以非阻塞的方式并发执行任务组
+ *
+ * <p>任务组中的每个任务提交到线程池后, 通过 {@link CompletableFuture#allOf(CompletableFuture[])} 汇总结果,
+ * 等待结果的过程不占用任何线程, 任务组和成员任务运行在同一个线程池中也不会出现线程饥饿。</p>
+ *
+ * <ul>
+ *   <li>{@link NullGroupPolicy#COLLECT_ALL}: 失败的任务不放入结果, 全部任务结束后返回</li>
+ *   <li>{@link NullGroupPolicy#FAIL_FAST}: 任意任务失败就以该异常结束, 并取消未完成的任务</li>
+ *   <li>超时: 取消未完成的任务, COLLECT_ALL返回已完成任务的结果, FAIL_FAST以超时异常结束</li>
+ * </ul>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullGroupPolicy 任务组执行策略
+ */
+@Slf4j
+public final class NullGroupRunner {
+
+    private NullGroupRunner() {
+    }
+
+    /**
+     * 任务组中的单个任务
+     */
+    @FunctionalInterface
+    public interface NullGroupJob {
+        /**
+         * 执行任务
+         *
+         * @return 任务结果, 为空时不放入结果
+         * @throws Exception 任务异常
+         */
+        Object run() throws Exception;
+    }
+
+    /**
+     * 并发执行任务组
+     *
+     * @param executor      执行任务的线程池
+     * @param keys          每个任务在结果中的key
+     * @param jobs          任务, 与keys一一对应
+     * @param policy        执行策略, 为null时使用{@link NullGroupPolicy#COLLECT_ALL}
+     * @param timeoutMillis 超时时间(毫秒), 小于等于0表示不超时
+     * @return 任务组结果的future, key为任务的key, value为任务结果
+     */
+    public static CompletableFuture<Map<String, Object>> run(ExecutorService executor, String[] keys, NullGroupJob[] jobs,
+                                                             NullGroupPolicy policy, long timeoutMillis) {
+        boolean failFast = policy == NullGroupPolicy.FAIL_FAST;
+        Map<String, Object> values = new ConcurrentHashMap<>();
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        CompletableFuture<?>[] members = new CompletableFuture[jobs.length];
+        Future<?>[] futures = new Future[jobs.length];
+        for (int i = 0; i < jobs.length; i++) {
+            String key = keys[i];
+            NullGroupJob job = jobs[i];
+            CompletableFuture<Object> member = new CompletableFuture<>();
+            members[i] = member;
+            try {
+                futures[i] = executor.submit(() -> {
+                    try {
+                        Object run = job.run();
+                        if (Null.non(run)) {
+                            values.put(key, run);
+                        }
+                    } catch (Throwable e) {
+                        if (failFast) {
+                            result.completeExceptionally(e);
+                        }
+                    } finally {
+                        member.complete(null);
+                    }
+                });
+            } catch (Throwable e) {
+                //线程池拒绝等提交失败, 已经提交的任务需要取消
+                result.completeExceptionally(e);
+                break;
+            }
+        }
+        if (!result.isDone()) {
+            CompletableFuture.allOf(members).whenComplete((v, e) -> result.complete(values));
+        }
+        ScheduledFuture<?> timer = timeoutMillis > 0 && !result.isDone() ? Scheduler.INSTANCE.schedule(() -> {
+            if (failFast) {
+                result.completeExceptionally(new TimeoutException("任务组执行超过" + timeoutMillis + "ms"));
+            } else if (result.complete(new ConcurrentHashMap<>(values))) {
+                log.warn("空链 任务组执行超过{}ms, 未完成的任务已取消, 只返回已完成任务的结果", timeoutMillis);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS) : null;
+        //任务组结束(完成、失败、超时或者被外部取消)后取消未完成的任务
+        result.whenComplete((v, e) -> {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            for (Future<?> future : futures) {
+                if (future != null && !future.isDone()) {
+                    future.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 任务组超时调度器, 只负责到期后结束任务组, 第一次使用超时才创建
+     */
+    private static final class Scheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "null-chain-group-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
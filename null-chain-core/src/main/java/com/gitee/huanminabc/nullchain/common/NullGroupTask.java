@@ -3,6 +3,8 @@ package com.gitee.huanminabc.nullchain.common;
 import com.gitee.huanminabc.nullchain.task.NullTask;
 import lombok.Data;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Null组合任务类 - 提供组合任务的参数管理功能
  * 
@@ -35,10 +37,46 @@ import lombok.Data;
 public class NullGroupTask {
     NullTaskInfo[] list;
 
+    /**
+     * 执行策略, 默认收集全部结果
+     */
+    NullGroupPolicy policy = NullGroupPolicy.COLLECT_ALL;
+
+    /**
+     * 超时时间(毫秒), 小于等于0表示不超时
+     */
+    long timeoutMillis;
+
     public NullGroupTask(NullTaskInfo... list) {
         this.list = list;
     }
 
+    /**
+     * 设置任务组的执行策略
+     *
+     * @param policy 执行策略
+     * @return 当前任务组
+     */
+    public NullGroupTask policy(NullGroupPolicy policy) {
+        if (policy == null) {
+            throw new NullChainException("NullGroupTask::policy-> 执行策略不能为空");
+        }
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * 设置任务组的超时时间, 超时后未完成的任务会被取消
+     *
+     * @param timeout 超时时间, 小于等于0表示不超时
+     * @param unit    时间单位
+     * @return 当前任务组
+     */
+    public NullGroupTask timeout(long timeout, TimeUnit unit) {
+        this.timeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
     @Data
     public static class NullTaskInfo {
         Object[] params;
@@ -52,7 +52,8 @@ public interface NullKernel<T> {
      * 使用指定线程池将当前操作转换为异步执行
      * 
      * <p>该方法会将当前Null链的操作转换为异步执行，使用指定的线程池。
-     * 可以通过线程池名称来指定特定的执行环境。</p>
+     * 可以通过线程池名称来指定特定的执行环境。线程池名称为 {@code "virtual"} 时使用虚拟线程执行，
+     * 当前JVM不支持虚拟线程时使用默认线程池，见 {@link NullExecutors}。</p>
      * 
      * @param threadFactoryName 线程池工厂名称
      * @return 异步执行的Null链
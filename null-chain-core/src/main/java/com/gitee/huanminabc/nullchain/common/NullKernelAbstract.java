@@ -28,7 +28,7 @@ public class NullKernelAbstract implements  Serializable, NullCheck {
     /**
      * 链式操作的日志记录器，用于记录操作过程
      */
-    protected transient StringBuilder linkLog;
+    protected transient NullLinkLog linkLog;
 
     /**
      * 任务队列，存储要执行的任务链
@@ -70,7 +70,7 @@ public class NullKernelAbstract implements  Serializable, NullCheck {
         if (this.taskList == null) {
             this.taskList = new NullTaskList();
         }
-        this.linkLog = new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+        this.linkLog = new NullLinkLog();
     }
 
     /**
@@ -79,7 +79,7 @@ public class NullKernelAbstract implements  Serializable, NullCheck {
      * <p>使用默认的日志记录器和任务列表初始化。</p>
      */
     public NullKernelAbstract(){
-          this(new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY),new NullTaskList());
+          this(new NullLinkLog(),new NullTaskList());
     }
 
     /**
@@ -91,13 +91,13 @@ public class NullKernelAbstract implements  Serializable, NullCheck {
      * @param linkLog 链式操作的日志记录器，如果为null则创建新的
      * @param taskList 任务列表，如果为null则创建新的
      */
-    public NullKernelAbstract(StringBuilder linkLog, NullTaskList taskList) {
+    public NullKernelAbstract(NullLinkLog linkLog, NullTaskList taskList) {
         if (taskList==null){
             taskList = new NullTaskList();
         }
         this.taskList = taskList;
         if (linkLog == null) {
-            linkLog = new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+            linkLog = new NullLinkLog();
         }
         //因为是链式需要续上日志
         this.linkLog = linkLog;
@@ -1,6 +1,5 @@
 package com.gitee.huanminabc.nullchain.common;
 
-import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
 import com.gitee.huanminabc.jcommon.str.StringUtil;
 import com.gitee.huanminabc.nullchain.NullCheck;
 import com.gitee.huanminabc.nullchain.core.NullChain;
@@ -23,7 +22,7 @@ import static com.gitee.huanminabc.nullchain.common.NullLog.SERIALIZE_NULL_VALUE
  */
 public class NullKernelAsyncAbstract<T> extends NullKernelAbstract implements NullKernel<T>, Serializable, NullCheck {
 
-    public NullKernelAsyncAbstract(StringBuilder linkLog, NullTaskList taskList) {
+    public NullKernelAsyncAbstract(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
     }
 
@@ -39,19 +38,18 @@ public class NullKernelAsyncAbstract<T> extends NullKernelAbstract implements Nu
         return NullBuild.busy(this);
     }
 
-    public static void async(StringBuilder linkLog, NullTaskList taskList) {
+    public static void async(NullLinkLog linkLog, NullTaskList taskList) {
         async(linkLog, taskList,null);
     }
-    public static void async(StringBuilder linkLog, NullTaskList taskList, String threadFactoryName) {
+    public static void async(NullLinkLog linkLog, NullTaskList taskList, String threadFactoryName) {
         taskList.add((value) -> {
             if (StringUtil.isNotEmpty(threadFactoryName)) {
-                ThreadFactoryUtil.addExecutor(threadFactoryName);
+                NullExecutors.addExecutor(threadFactoryName);
                 taskList.setCurrentThreadFactoryName(threadFactoryName);
             }
             linkLog.append(ASYNC_ARROW);
-            NullTaskList.NullNode<Object> objectNullNode = NullBuild.noEmpty(value);
-            objectNullNode.async = true; //设置为异步
-            return objectNullNode;
+            //空节点是共享的不能修改, 异步节点需要单独创建
+            return new NullTaskList.NullNode<>(value, value == null, true);
 
         });
     }
@@ -0,0 +1,254 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import java.util.Arrays;
+
+/**
+ * Null链路日志 - 记录链式操作经过的步骤
+ *
+ * <p>每条链都会持有一个链路日志, 各个操作把NullLog中的日志片段追加进来, 在异常或者doThrow需要消息时通过
+ * {@link #toString()}输出。记录方式由{@link NullTraceLevel}控制:</p>
+ * <ul>
+ *   <li>OFF：不记录任何内容</li>
+ *   <li>STEP：只保存日志片段的引用, 不做字符串拼接, 渲染时才生成文本(默认)</li>
+ *   <li>FULL：立即拼接成完整文本, 和StringBuilder的行为一致</li>
+ * </ul>
+ *
+ * <p>STEP和FULL渲染出来的文本是一样的, 区别只在于拼接发生的时机。和StringBuilder一样该类不是线程安全的,
+ * 并发任务需要通过{@link #copy()}拿到独立的副本。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullTraceLevel 链路日志级别
+ * @see NullLog 日志片段常量
+ */
+public final class NullLinkLog {
+
+    /**
+     * 步骤数组的默认初始容量
+     */
+    private static final int DEFAULT_STEP_CAPACITY = 8;
+
+    /**
+     * 全局链路日志级别, 只影响之后创建的链
+     */
+    private static volatile NullTraceLevel globalTraceLevel = NullTraceLevel.STEP;
+
+    /**
+     * 设置全局链路日志级别
+     *
+     * @param traceLevel 链路日志级别，不能为null
+     * @throws IllegalArgumentException 如果 traceLevel 为null
+     */
+    public static void setTraceLevel(NullTraceLevel traceLevel) {
+        if (traceLevel == null) {
+            throw new IllegalArgumentException("链路日志级别不能为null");
+        }
+        globalTraceLevel = traceLevel;
+    }
+
+    /**
+     * 获取全局链路日志级别
+     *
+     * @return 链路日志级别
+     */
+    public static NullTraceLevel getTraceLevel() {
+        return globalTraceLevel;
+    }
+
+    //当前链路的日志级别, 创建时确定
+    private final NullTraceLevel level;
+    //FULL级别的完整文本
+    private StringBuilder text;
+    //STEP级别的日志片段, 第一次追加时才创建
+    private String[] steps;
+    private int size;
+    //STEP级别渲染后的缓存, 追加后失效
+    private String rendered;
+
+    /**
+     * 使用全局链路日志级别创建链路日志
+     */
+    public NullLinkLog() {
+        this(globalTraceLevel);
+    }
+
+    /**
+     * 使用指定的链路日志级别创建链路日志
+     *
+     * @param level 链路日志级别，为null时使用全局级别
+     */
+    public NullLinkLog(NullTraceLevel level) {
+        this.level = level == null ? globalTraceLevel : level;
+        if (this.level == NullTraceLevel.FULL) {
+            this.text = new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * 追加日志片段
+     *
+     * @param str 日志片段
+     * @return 当前链路日志
+     */
+    public NullLinkLog append(String str) {
+        if (level == NullTraceLevel.STEP) {
+            record(str == null ? "null" : str);
+        } else if (level == NullTraceLevel.FULL) {
+            text.append(str);
+        }
+        return this;
+    }
+
+    /**
+     * 追加对象, 对象在追加时就转换为字符串, 避免渲染时对象状态已经改变
+     *
+     * @param obj 对象
+     * @return 当前链路日志
+     */
+    public NullLinkLog append(Object obj) {
+        if (level == NullTraceLevel.OFF) {
+            return this;
+        }
+        return append(String.valueOf(obj));
+    }
+
+    public NullLinkLog append(char c) {
+        if (level == NullTraceLevel.OFF) {
+            return this;
+        }
+        return append(String.valueOf(c));
+    }
+
+    public NullLinkLog append(int i) {
+        if (level == NullTraceLevel.OFF) {
+            return this;
+        }
+        return append(String.valueOf(i));
+    }
+
+    public NullLinkLog append(long l) {
+        if (level == NullTraceLevel.OFF) {
+            return this;
+        }
+        return append(String.valueOf(l));
+    }
+
+    /**
+     * 获取当前链路的日志级别
+     *
+     * @return 链路日志级别
+     */
+    public NullTraceLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * 是否没有记录任何内容
+     *
+     * @return 没有记录内容返回true
+     */
+    public boolean isEmpty() {
+        if (level == NullTraceLevel.STEP) {
+            return size == 0;
+        }
+        if (level == NullTraceLevel.FULL) {
+            return text.length() == 0;
+        }
+        return true;
+    }
+
+    /**
+     * 创建当前链路日志的副本, 副本和原日志互不影响
+     *
+     * @return 链路日志副本
+     */
+    public NullLinkLog copy() {
+        NullLinkLog copy = new NullLinkLog(level);
+        if (level == NullTraceLevel.STEP) {
+            if (steps != null) {
+                copy.steps = Arrays.copyOf(steps, Math.max(size, DEFAULT_STEP_CAPACITY));
+                copy.size = size;
+            }
+            copy.rendered = rendered;
+        } else if (level == NullTraceLevel.FULL) {
+            copy.text.append(text);
+        }
+        return copy;
+    }
+
+    /**
+     * 渲染链路日志文本
+     *
+     * @return 链路日志文本, OFF级别返回空字符串
+     */
+    @Override
+    public String toString() {
+        if (level == NullTraceLevel.FULL) {
+            return text.toString();
+        }
+        if (level == NullTraceLevel.OFF || size == 0) {
+            return "";
+        }
+        if (rendered == null) {
+            int length = 0;
+            for (int i = 0; i < size; i++) {
+                length += steps[i].length();
+            }
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < size; i++) {
+                sb.append(steps[i]);
+            }
+            rendered = sb.toString();
+        }
+        return rendered;
+    }
+
+    /**
+     * 获取当前的位置, 之后可以通过{@link #toString(int)}获取该位置之前的日志
+     *
+     * @return 当前的位置
+     */
+    int mark() {
+        if (level == NullTraceLevel.STEP) {
+            return size;
+        }
+        if (level == NullTraceLevel.FULL) {
+            return text.length();
+        }
+        return 0;
+    }
+
+    /**
+     * 渲染指定位置之前的链路日志, 日志只会追加, 位置之前的内容不会变化
+     *
+     * @param mark {@link #mark()}返回的位置
+     * @return 链路日志文本
+     */
+    String toString(int mark) {
+        if (mark >= mark()) {
+            return toString();
+        }
+        if (level == NullTraceLevel.FULL) {
+            return text.substring(0, mark);
+        }
+        if (level == NullTraceLevel.OFF) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < mark; i++) {
+            sb.append(steps[i]);
+        }
+        return sb.toString();
+    }
+
+    private void record(String step) {
+        if (steps == null) {
+            steps = new String[DEFAULT_STEP_CAPACITY];
+        } else if (size == steps.length) {
+            steps = Arrays.copyOf(steps, size << 1);
+        }
+        steps[size++] = step;
+        rendered = null;
+    }
+}
@@ -145,6 +145,7 @@ public final class NullLog {
     public static final String STREAM_BOXED_ARROW = "boxed->";
 
     public static final String STREAM_PARALLEL_VALUE_NOT_STREAM = "parallel? value must be a Stream";
+    public static final String STREAM_PARALLEL_CHUNK_SIZE_INVALID = "parallel? chunkSize must be greater than 0: ";
     public static final String STREAM_COLLECT_COLLECTOR_NULL = "collect? collector must not be null";
 
     // calculate leaf
@@ -164,6 +165,11 @@ public final class NullLog {
     public static final String CALC_MAP_Q = "map? ";
     public static final String CALC_MAP_ARROW = "map->";
 
+    // primitive chain leaf
+    public static final String PRIMITIVE_CHAIN_GET_Q = "get? 值为空";
+    public static final String PRIMITIVE_CHAIN_FUNCTION_NULL = "? function must not be null";
+    public static final String PRIMITIVE_CHAIN_CALC_NOT_FINITE = "calc? 值不是有限的数值: ";
+
     // json leaf
     public static final String JSON_Q = "json? ";
     public static final String JSON_ARROW = "json->";
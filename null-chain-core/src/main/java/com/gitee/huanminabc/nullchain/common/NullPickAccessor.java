@@ -0,0 +1,202 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.jcommon.reflect.LambdaUtil;
+import com.gitee.huanminabc.nullchain.common.function.NullFun;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Null字段提取访问器 - 缓存pick需要的字段名、set方法和构造方法
+ *
+ * <p>pick每次调用都要通过SerializedLambda解析字段名, 再反射查找set方法和创建对象,
+ * 在列表接口中投影大量DTO时这些反射是主要的开销。这里按lambda的类型缓存字段名,
+ * 按对象的类型缓存无参构造方法和set方法的MethodHandle, 每个类型只解析一次。</p>
+ *
+ * <p>set方法按名称和参数个数查找, 参数是基本类型时也可以设置对应的包装类型的值。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public final class NullPickAccessor {
+
+    /**
+     * lambda类型对应的字段名, 同一个方法引用的lambda类型是固定的, 第一次使用时解析
+     */
+    private static final ClassValue<String[]> FIELD_NAMES = new ClassValue<String[]>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            return new String[1];
+        }
+    };
+
+    /**
+     * 类型的无参构造方法
+     */
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * 类型的set方法, key为字段名
+     */
+    private static final ClassValue<Map<String, Setter[]>> SETTERS = new ClassValue<Map<String, Setter[]>>() {
+        @Override
+        protected Map<String, Setter[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private NullPickAccessor() {
+    }
+
+    /**
+     * 获取方法引用对应的字段名
+     *
+     * @param function 方法引用, 比如 User::getName
+     * @return 字段名
+     */
+    public static String fieldName(NullFun<?, ?> function) {
+        String[] holder = FIELD_NAMES.get(function.getClass());
+        String name = holder[0];
+        if (name == null) {
+            name = LambdaUtil.getFieldName(function);
+            holder[0] = name;
+        }
+        return name;
+    }
+
+    /**
+     * 通过无参构造方法创建对象
+     *
+     * @param type 类型
+     * @return 新的对象
+     * @throws Exception 没有公共的无参构造方法或者构造方法异常
+     */
+    public static Object newInstance(Class<?> type) throws Exception {
+        MethodHandle constructor = CONSTRUCTORS.get(type);
+        if (constructor == null) {
+            throw new InstantiationException(type.getName() + " 没有公共的无参构造方法");
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 调用字段的set方法
+     *
+     * @param bean  对象
+     * @param field 字段名
+     * @param value 值, 不能为null
+     * @throws Exception 没有匹配的set方法或者set方法异常
+     */
+    public static void set(Object bean, String field, Object value) throws Exception {
+        Class<?> type = bean.getClass();
+        Setter[] setters = SETTERS.get(type).computeIfAbsent(field, name -> resolveSetters(type, name));
+        for (Setter setter : setters) {
+            if (setter.valueType.isInstance(value)) {
+                try {
+                    setter.handle.invokeExact(bean, value);
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+                return;
+            }
+        }
+        throw new NoSuchMethodException(type.getName() + "." + setterName(field) + "(" + value.getClass().getName() + ")");
+    }
+
+    private static Setter[] resolveSetters(Class<?> type, String field) {
+        String setterName = setterName(field);
+        List<Setter> setters = new ArrayList<>(1);
+        for (Method method : type.getMethods()) {
+            if (!method.getName().equals(setterName) || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                setters.add(new Setter(box(method.getParameterTypes()[0]), handle));
+            } catch (IllegalAccessException ignored) {
+                //非公共类型中的方法无法访问, 跳过
+            }
+        }
+        return setters.toArray(new Setter[0]);
+    }
+
+    private static String setterName(String field) {
+        //将属性的首字母转换为大写
+        return "set" + field.substring(0, 1).toUpperCase() + field.substring(1);
+    }
+
+    //基本类型参数按包装类型匹配值
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+
+    private static Exception rethrow(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e instanceof Exception) {
+            return (Exception) e;
+        }
+        return new NullChainException(e);
+    }
+
+    /**
+     * set方法和参数类型
+     */
+    private static final class Setter {
+        private final Class<?> valueType;
+        private final MethodHandle handle;
+
+        private Setter(Class<?> valueType, MethodHandle handle) {
+            this.valueType = valueType;
+            this.handle = handle;
+        }
+    }
+}
@@ -2,13 +2,16 @@ package com.gitee.huanminabc.nullchain.common;
 
 import com.gitee.huanminabc.jcommon.reflect.ClassIdentifyUtil;
 import com.gitee.huanminabc.jcommon.reflect.ClassUtil;
-import com.gitee.huanminabc.jcommon.reflect.FieldUtil;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * Null反射工具类 - 提供反射操作的工具功能
@@ -37,104 +40,199 @@ import java.lang.reflect.Method;
  * @since 1.0.0
  * @version 1.1.1
  * @see ClassIdentifyUtil 类识别工具
- * @see FieldUtil 字段工具
  */
 @Slf4j
 public class NullReflectionKit {
 
+    /**
+     * 异常类型的(String)构造方法, 没有时为null
+     */
+    private static final ClassValue<MethodHandle> MESSAGE_CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, String.class))
+                        .asType(MethodType.methodType(RuntimeException.class, String.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
     //追加异常链路信息
-    public  static  <X extends RuntimeException> X orRuntimeException(X exception, StringBuilder linkLog) throws X {
-        //反射取出来最顶级的detailMessage,把链路信息放进去
-        Class<? extends Throwable> aClass = exception.getClass();
-        updateDetailMessage(exception, linkLog);
+    public  static  <X extends RuntimeException> X orRuntimeException(X exception, NullLinkLog linkLog) throws X {
+        attachLinkLog(exception, linkLog, null);
         return exception;
     }
-    public  static  <X extends Throwable> X orThrowable(X exception, StringBuilder linkLog) throws X {
-        //反射取出来最顶级的detailMessage,把链路信息放进去
-        Class<? extends Throwable> aClass = exception.getClass();
-        updateDetailMessage(exception, linkLog);
+    public  static  <X extends Throwable> X orThrowable(X exception, NullLinkLog linkLog) throws X {
+        attachLinkLog(exception, linkLog, null);
         return exception;
     }
 
 
 
-    public  static  <X extends Throwable> NullChainException addRunErrorMessage(X exception, StringBuilder linkLog)  {
-        //反射取出来最顶级的detailMessage,把链路信息放进去
-        updateDetailMessage(exception, linkLog);
-        //必须是NullChainException,如果不是就包装成NullChainException返回, 在空链中基本不会出现这种情况,但是为了保险起见拦一道
-        if (!(exception instanceof NullChainException)) {
-            return new NullChainException(exception);
+    public  static  <X extends Throwable> NullChainException addRunErrorMessage(X exception, NullLinkLog linkLog)  {
+        if (exception instanceof NullChainException) {
+            NullChainException nullChainException = (NullChainException) exception;
+            nullChainException.attachLinkLog(linkLog);
+            return nullChainException;
         }
-        return (NullChainException) exception;
+        //必须是NullChainException,如果不是就包装成NullChainException返回, 链路信息放在包装的异常中, 不修改原异常
+        return NullChainException.wrap(exception, linkLog);
     }
-    public  static  <X extends RuntimeException> X addRunErrorMessage(Class<? extends RuntimeException> exceptionClass, StackTraceElement[]  stackTraceElements, StringBuilder linkLog)  {
-        RuntimeException runtimeException = ClassUtil.newInstance(exceptionClass);
+
+    /**
+     * 创建指定类型的异常, 消息通过(String)构造方法传入, 链路日志在获取时才渲染
+     *
+     * @param exceptionClass     异常类型
+     * @param stackTraceElements 异常的堆栈, 为null时使用创建时的堆栈
+     * @param message            异常消息, 可以为null
+     * @param linkLog            链路日志, 可以为null
+     * @return 创建的异常
+     */
+    @SuppressWarnings("unchecked")
+    public  static  <X extends RuntimeException> X addRunErrorMessage(Class<? extends RuntimeException> exceptionClass, StackTraceElement[]  stackTraceElements, String message, NullLinkLog linkLog)  {
+        RuntimeException runtimeException = null;
+        MethodHandle constructor = message == null ? null : MESSAGE_CONSTRUCTORS.get(exceptionClass);
+        if (constructor != null) {
+            try {
+                runtimeException = (RuntimeException) constructor.invokeExact(message);
+            } catch (Throwable e) {
+                throw new NullChainException(e);
+            }
+            message = null;
+        }
+        if (runtimeException == null) {
+            runtimeException = ClassUtil.newInstance(exceptionClass);
+        }
         if (stackTraceElements!=null){
             runtimeException.setStackTrace(stackTraceElements);
         }
-        //反射取出来最顶级的detailMessage,把链路信息放进去
-        updateDetailMessage(runtimeException, linkLog);
-         return (X) runtimeException;
+        attachLinkLog(runtimeException, linkLog, message);
+        return (X) runtimeException;
     }
 
-    //反射获取对象内部size 或者length 调用公共的方法就行, 如果没有就返回0
+    /**
+     * 每个类型获取长度的方式, 第一次获取时解析并缓存, 之后直接调用
+     */
+    private static final ClassValue<ToIntFunction<Object>> SIZE_ACCESSORS = new ClassValue<ToIntFunction<Object>>() {
+        @Override
+        protected ToIntFunction<Object> computeValue(Class<?> type) {
+            return resolveSizeAccessor(type);
+        }
+    };
+
+    private static final ToIntFunction<Object> ZERO_SIZE = o -> 0;
+
+    //获取对象内部size 或者length 调用公共的方法就行, 如果没有就返回0
     public static int getSize(Object object) {
         if (object == null) {
             return 0;
         }
-        Class<?> aClass = object.getClass();
-        //如果是8大数据类型那么勇toString 返回的就是本身的长度
-        boolean primitiveOrWrapper = ClassIdentifyUtil.isPrimitiveOrWrapper(aClass);
-        if (primitiveOrWrapper){
-            return object.toString().length();
+        return SIZE_ACCESSORS.get(object.getClass()).applyAsInt(object);
+    }
+
+    //按类型解析获取长度的方式, 常用类型直接调用, 其他类型通过MethodHandle调用内部的size或者length方法
+    private static ToIntFunction<Object> resolveSizeAccessor(Class<?> type) {
+        if (Collection.class.isAssignableFrom(type)) {
+            return o -> ((Collection<?>) o).size();
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return o -> ((Map<?, ?>) o).size();
+        }
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return o -> ((CharSequence) o).length();
         }
         //如果数数组返回数组的长度
-        if (aClass.isArray()) {
-            return Array.getLength(object);
+        if (type.isArray()) {
+            if (type.getComponentType().isPrimitive()) {
+                return Array::getLength;
+            }
+            return o -> ((Object[]) o).length;
+        }
+        //如果是8大数据类型那么返回toString的长度, 整数直接计算位数不需要创建字符串
+        if (ClassIdentifyUtil.isPrimitiveOrWrapper(type)) {
+            if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+                return o -> digitLength(((Number) o).longValue());
+            }
+            if (type == Boolean.class) {
+                return o -> (Boolean) o ? 4 : 5;
+            }
+            if (type == Character.class) {
+                return o -> 1;
+            }
+            return o -> o.toString().length();
         }
 
         //否则取内部的size或者length方法,如果都没有那么返回0
         Method sizeMethod;
         try {
-            sizeMethod = aClass.getMethod("size");
+            sizeMethod = type.getMethod("size");
         } catch (NoSuchMethodException e) {
             try {
-                sizeMethod = aClass.getMethod("length");
+                sizeMethod = type.getMethod("length");
             } catch (NoSuchMethodException ex) {
-                return 0;
+                return ZERO_SIZE;
             }
         }
+        Class<?> returnType = sizeMethod.getReturnType();
+        if (returnType != int.class && returnType != Integer.class && returnType != long.class && returnType != Long.class) {
+            return ZERO_SIZE;
+        }
+        MethodHandle handle;
         try {
-            sizeMethod.setAccessible(true);
-            Object invoke = sizeMethod.invoke(object);
-            if (invoke instanceof Integer || invoke instanceof Long) {
-                return (int) invoke;
+            try {
+                sizeMethod.setAccessible(true);
+            } catch (RuntimeException ignored) {
+                //JDK16以上强封装的类型无法设置, 公共类型的公共方法不需要设置
             }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            return 0;
+            handle = MethodHandles.lookup().unreflect(sizeMethod)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return ZERO_SIZE;
         }
-        return 0;
+        return o -> {
+            try {
+                Object size = (Object) handle.invokeExact(o);
+                return ((Number) size).intValue();
+            } catch (Throwable e) {
+                return 0;
+            }
+        };
     }
 
+    //整数转成字符串后的长度, 负数包含符号
+    private static int digitLength(long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        int length = 1;
+        if (value < 0) {
+            length++;
+            value = -value;
+        }
+        while (value >= 10) {
+            value /= 10;
+            length++;
+        }
+        return length;
+    }
 
-
-
-
-
-    private static  void updateDetailMessage(Throwable exception, StringBuilder linkLog) {
-        Field detailMessage = FieldUtil.getField(exception.getClass(),"detailMessage");
-        if (detailMessage != null) {
-            detailMessage.setAccessible(true);
-            try {
-                String o = (String) detailMessage.get(exception);
-                if (o == null) {
-                    o = "";
-                }
-                detailMessage.set(exception,   linkLog.toString()+" "+o);
-            } catch (IllegalAccessException e) {
-                throw new NullChainException(e);
-            }
+    /**
+     * 把链路信息附加到异常上, 获取消息时才渲染
+     *
+     * <p>空链自己的异常把链路日志记录在字段中, 渲染到消息的前面; 其他类型的异常无法重写getMessage,
+     * 链路日志(以及构造方法无法传入的消息)以suppressed的{@link NullChainException}附加, 不修改原异常的消息。</p>
+     */
+    private static  void attachLinkLog(Throwable exception, NullLinkLog linkLog, String message) {
+        if (exception instanceof NullChainException) {
+            ((NullChainException) exception).attachLinkLog(linkLog);
+            linkLog = null;
+        }
+        if (linkLog == null && message == null) {
+            return;
         }
+        exception.addSuppressed(NullChainException.carrier(message, linkLog));
     }
 
 }
@@ -5,21 +5,32 @@ import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskContext;
 import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
 import com.gitee.huanminabc.nullchain.core.NullChainBase;
 import com.gitee.huanminabc.nullchain.common.function.NullTaskFun;
+import com.gitee.huanminabc.nullchain.common.function.NullValueTaskFun;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
  * Null任务列表管理类
  *
+ * <p>任务以数组形式顺序存放, 通过游标记录已经执行到的位置, 执行过程不会消费任务本身,
+ * 已执行的结果缓存在lastResult中, 追加新任务后从游标处续接执行。</p>
+ *
+ * <p>同步执行时值任务({@link NullValueTaskFun})的结果直接以值和空值状态在任务之间传递,
+ * 只有执行结束时才会生成一个NullNode作为lastResult。连续的值任务在添加时会融合成一个任务,
+ * 见{@link NullFusedValueTask}。</p>
+ *
+ * <p>每个任务的{@link NullTaskFunAbs#preNullEnd()}在添加时记录下来, 上一个值为空时直接查表决定是否结束,
+ * 结束后剩余的任务数量记录在{@link #getSkippedSteps()}和{@link #getTotalSkippedSteps()}中。</p>
+ *
  * @author huanmin
  * @version 1.1.1
  * @since 1.0.0
@@ -41,6 +52,12 @@ public class NullTaskList implements Serializable {
     public static class NullNode<T> implements Serializable {
         private static final long serialVersionUID = 1L;
 
+        /**
+         * 共享的空节点，所有返回空值的任务都使用该实例，不允许修改它的字段
+         */
+        @SuppressWarnings("rawtypes")
+        public static final NullNode EMPTY = new NullNode();
+
         /**
          * 是否为空值，true表示值为null，false表示值不为null
          */
@@ -93,28 +110,63 @@ public class NullTaskList implements Serializable {
         }
     }
 
+    /**
+     * 任务数组的默认初始容量, 大部分链式调用的节点数都在这个范围内
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * 全部任务列表因为空值提前结束而跳过的步骤总数
+     */
+    private static final LongAdder TOTAL_SKIPPED_STEPS = new LongAdder();
+
     /**
      * 收集器，用于收集任务执行过程中的中间结果
      */
     @Getter
     @Setter
     private transient NullCollect collect;
-    
+
     /**
-     * 任务队列，存储待执行的任务
+     * 任务数组，按添加顺序存储任务, 执行时不会被消费
      */
-    private transient LinkedList<NullTaskFunAbs> tasks;
-    
+    private transient NullTaskFun[] tasks;
+
+    /**
+     * 每个任务在上一个值为空时是否结束, 和任务数组一一对应, 添加任务时计算
+     */
+    private transient boolean[] stopOnNull;
+
+    /**
+     * 任务数组中有效任务的数量
+     */
+    private transient int size;
+
+    /**
+     * 执行游标，表示下一个待执行任务的下标, 之前的任务都已经执行过并且结果记录在lastResult中
+     */
+    private transient int cursor;
+
     /**
      * 最后一个任务的结果
      */
     protected NullNode lastResult;
-    
+
     /**
      * 最后一个任务的异步结果
      */
     CompletableFuture<NullNode> lastAsyncFuture;
 
+    /**
+     * 异步执行过程中是否已经提前结束(上一个节点为空并且后续节点要求停止)
+     */
+    private transient volatile boolean asyncEnded;
+
+    /**
+     * 当前任务列表因为空值提前结束而跳过的步骤数
+     */
+    private transient volatile int skippedSteps;
+
     /**
      * 当前线程工厂名称，用于获取对应的线程池
      */
@@ -126,55 +178,171 @@ public class NullTaskList implements Serializable {
      * 
      * <p>根据线程工厂名称获取对应的线程池。如果是默认线程且允许使用ForkJoinPool，
      * 则返回ForkJoinPool.commonPool()，因为这种线程池是共享任务的，基本不会有切换线程带来的性能损失，
-     * 只适合快速且短小的任务。</p>
+     * 只适合快速且短小的任务。使用虚拟线程时全部节点都在虚拟线程上执行，见{@link NullExecutors}。</p>
      * 
      * @param forkJoinPool 是否允许使用ForkJoinPool
      * @return 线程池实例
      */
     protected Executor getCT(boolean forkJoinPool) {
         //如果是默认线程那么使用工作窃取线程 , 因为这种线程池是共享任务的基本不会有切换线程带来的性能损失,只适合快速且短小的任务
-        if (forkJoinPool && ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME.equals(currentThreadFactoryName)) {
+        if (forkJoinPool && ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME.equals(currentThreadFactoryName)
+                && !NullExecutors.isVirtual(currentThreadFactoryName)) {
             return CONTEXT_AWARE_COMMON_POOL;
         }
-        return ThreadFactoryUtil.getExecutor(currentThreadFactoryName);
+        return NullExecutors.getExecutor(currentThreadFactoryName);
     }
 
     /**
      * 创建一个新的任务列表
      * 
-     * <p>初始化任务队列为空列表。</p>
+     * <p>初始化任务数组为默认容量的空数组。</p>
      */
     public NullTaskList() {
-        tasks = new LinkedList<>();
+        tasks = new NullTaskFun[DEFAULT_CAPACITY];
+        stopOnNull = new boolean[DEFAULT_CAPACITY];
     }
 
     /**
      * 添加任务到任务列表
      * 
-     * <p>将任务添加到任务队列中。如果任务已经是NullTaskFunAbs类型，则直接添加；
-     * 否则将其包装为NullTaskFunAbs后添加。</p>
+     * <p>将任务追加到任务数组的末尾, 容量不足时按1.5倍扩容。
+     * 普通的NullTaskFun不再额外包装, 执行时通过{@link #preNullEnd(NullTaskFun)}和
+     * {@link #isHeavyTask(NullTaskFun)}读取默认的节点属性。</p>
      * 
      * @param task 要添加的任务
      */
     public void add(NullTaskFun task) {
-        // 优化：使用instanceof替代isAssignableFrom，性能更好
-        if (task instanceof NullTaskFunAbs) {
-            tasks.add((NullTaskFunAbs) task);
-        } else {
-            tasks.add(new NullTaskFunAbs() {
-                @Override
-                public NullNode nodeTask(Object value) throws RuntimeException {
-                    return task.nodeTask(value);
-                }
-            });
+        ensureTasks();
+        if (size == tasks.length) {
+            int capacity = size + (size >> 1) + 1;
+            tasks = Arrays.copyOf(tasks, capacity);
+            stopOnNull = Arrays.copyOf(stopOnNull, capacity);
+        }
+        stopOnNull[size] = preNullEnd(task);
+        tasks[size++] = task;
+    }
+
+    /**
+     * 添加值任务到任务列表
+     *
+     * <p>值任务直接返回下一个节点的值, 同步执行时不会为每个节点创建NullNode。
+     * 如果上一个任务也是尚未执行的值任务, 会把两者合并成一个{@link NullFusedValueTask},
+     * 连续的 map/ifGo/eq 等操作符在执行时只有一次任务分派。
+     * 融合任务的preNullEnd就是第一个阶段的, 所以记录的结束标记不需要改变。</p>
+     *
+     * @param task 要添加的值任务
+     */
+    public void addValueTask(NullValueTaskFun task) {
+        ensureTasks();
+        int last = size - 1;
+        //已经执行过的任务不能再修改, 只合并游标之后的任务
+        if (last >= cursor && NullFusedValueTask.isFusible(task)) {
+            NullTaskFun pre = tasks[last];
+            if (pre instanceof NullFusedValueTask) {
+                ((NullFusedValueTask) pre).append(task);
+                return;
+            }
+            if (pre instanceof NullValueTaskFun && NullFusedValueTask.isFusible((NullValueTaskFun) pre)) {
+                tasks[last] = new NullFusedValueTask((NullValueTaskFun) pre, task);
+                return;
+            }
+        }
+        add(task);
+    }
+
+    /**
+     * 获取任务数量
+     *
+     * @return 已添加的任务数量(包括已经执行过的), 融合后的值任务算作一个
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 重置执行状态
+     *
+     * <p>清空缓存的结果并把游标移回开头, 任务本身保留, 下一次调用runTaskAll会从第一个任务重新执行。</p>
+     */
+    public void reset() {
+        cursor = 0;
+        lastResult = null;
+        lastAsyncFuture = null;
+        asyncEnded = false;
+        skippedSteps = 0;
+    }
+
+    /**
+     * 获取当前任务列表因为空值提前结束而跳过的步骤数
+     *
+     * <p>按操作符计算, 融合任务中的每个阶段都算作一个步骤, 包括在融合任务内部提前结束时跳过的阶段。</p>
+     *
+     * @return 跳过的步骤数, 重置后清零
+     */
+    public int getSkippedSteps() {
+        return skippedSteps;
+    }
+
+    /**
+     * 获取全部任务列表因为空值提前结束而跳过的步骤总数
+     *
+     * @return 跳过的步骤总数
+     */
+    public static long getTotalSkippedSteps() {
+        return TOTAL_SKIPPED_STEPS.sum();
+    }
+
+    //记录从index开始被跳过的任务, 融合任务按阶段数计算
+    private void skipFrom(int index, int size) {
+        int skipped = 0;
+        for (int i = index; i < size; i++) {
+            NullTaskFun task = tasks[i];
+            skipped += task instanceof NullFusedValueTask ? ((NullFusedValueTask) task).stageCount() : 1;
+        }
+        skipStages(skipped);
+    }
+
+    //记录跳过的步骤, 融合任务在内部提前结束时也通过这里记录
+    void skipStages(int skipped) {
+        skippedSteps += skipped;
+        TOTAL_SKIPPED_STEPS.add(skipped);
+    }
+
+    //反序列化后任务数组是空的需要重新初始化
+    private void ensureTasks() {
+        if (tasks == null) {
+            tasks = new NullTaskFun[DEFAULT_CAPACITY];
+            stopOnNull = new boolean[DEFAULT_CAPACITY];
+            size = 0;
+            cursor = 0;
         }
     }
 
+    //上一个节点是空时当前节点是否停止执行, 普通的任务函数默认是停止
+    static boolean preNullEnd(NullTaskFun task) {
+        return !(task instanceof NullTaskFunAbs) || ((NullTaskFunAbs) task).preNullEnd();
+    }
+
+    //执行值任务, 融合任务会记录内部跳过的阶段, 需要收集时还会收集每个阶段的值
+    @SuppressWarnings("unchecked")
+    private Object valueTask(NullValueTaskFun task, Object value) {
+        if (task instanceof NullFusedValueTask) {
+            return ((NullFusedValueTask) task).valueTask(value, collect, this);
+        }
+        return task.valueTask(value);
+    }
+
+    //是否是重任务, 普通的任务函数默认不是重任务
+    static boolean isHeavyTask(NullTaskFun task) {
+        return task instanceof NullTaskFunAbs && ((NullTaskFunAbs) task).isHeavyTask();
+    }
+
     /**
      * 运行所有任务并返回结果（非异步执行）
      * 
-     * <p>按顺序执行任务列表中的所有任务，并返回最后一个任务的结果。
-     * 如果任务列表为空且存在上次执行的结果，则直接返回上次结果。
+     * <p>从游标处按顺序执行任务数组中尚未执行的任务，并返回最后一个任务的结果。
+     * 如果没有未执行的任务且存在上次执行的结果，则直接返回上次结果。
+     * 如果存在上次执行的结果，会以上次的结果作为续接的起点。
      * 如果某个任务返回空值且下一个任务设置了preNullEnd()，则停止执行并返回空值。</p>
      * 
      * <p>执行过程中，如果配置了收集器，会将每个任务的结果添加到收集器中。</p>
@@ -182,45 +350,51 @@ public class NullTaskList implements Serializable {
      * @param <T> 返回值的类型
      * @return 最后一个任务的结果，如果没有任何任务执行则返回空节点
      */
+    @SuppressWarnings("unchecked")
     public <T> NullNode<T> runTaskAll() {
-        if (tasks == null) {
-            tasks = new LinkedList<>();
-        }
-        if (lastResult != null && tasks.isEmpty()) {
+        ensureTasks();
+        if (lastResult != null && cursor == size) {
             return lastResult;
         }
-        //需要把lastResult的值放入到任务链的开头, 这相当于续接上一个任务的结果
-        if (lastResult != null) {
-
-            NullTaskFunAbs taskFunAbs = new NullTaskFunAbs() {
-                @Override
-                public NullNode nodeTask(Object value) throws RuntimeException {
-                    return NullBuild.noEmpty(lastResult.value);
-                }
-            };
-            tasks.addFirst(taskFunAbs);
-        }
-
-        NullNode<T> chain = null;
-        while (!tasks.isEmpty()) {
-            NullTaskFunAbs poll = tasks.poll();
-            NullNode task1 = poll.nodeTask(chain == null ? null : chain.value);
-            if (task1.isNull) {
-                //向后取一个, 如果后面任务是遇到上一个任务是null那么就停止执行
-                NullTaskFunAbs lastPoll = tasks.peek();
-                if (lastPoll != null && lastPoll.preNullEnd()) {
-                    return task1;
-                }
+        //需要把lastResult的值作为任务链的开头, 这相当于续接上一个任务的结果
+        boolean hasPre = lastResult != null;
+        Object value = hasPre ? lastResult.value : null;
+        boolean isNull = !hasPre || lastResult.isNull;
+        //最后一个以节点形式返回的结果, 值任务不产生节点
+        NullNode node = lastResult;
+        final NullTaskFun[] tasks = this.tasks;
+        final boolean[] stopOnNull = this.stopOnNull;
+        final int size = this.size;
+        for (int i = cursor; i < size; i++) {
+            //如果上一个任务是null并且当前任务遇到null就停止执行, 那么直接结束
+            if (isNull && hasPre && stopOnNull[i]) {
+                skipFrom(i, size);
+                break;
             }
+            NullTaskFun task = tasks[i];
+            //先推进游标, 任务异常后不会被重复执行
+            cursor = i + 1;
+            if (task instanceof NullValueTaskFun) {
+                value = valueTask((NullValueTaskFun) task, value);
+                isNull = value == null;
+                node = null;
+            } else {
+                node = task.nodeTask(value);
+                value = node.value;
+                isNull = node.isNull;
+            }
+            hasPre = true;
             if (collect != null) {
-                collect.add(task1.value);
+                collect.add(value);
             }
-            chain = task1;
         }
-        lastResult = chain;
-        //优化：如果chain为null，说明没有任何任务执行，返回预定义的空节点，但这里需要创建新对象
-        //注意：由于任务链可能为空且没有任务执行，返回新对象是必要的，保持原有逻辑
-        return chain != null ? chain : new NullNode<>();
+        cursor = size;
+        //只在结束时生成一次结果节点
+        if (node == null) {
+            node = isNull ? NullBuild.empty() : NullBuild.noEmpty(value);
+        }
+        lastResult = node;
+        return node;
     }
 
     /**
@@ -231,9 +405,10 @@ public class NullTaskList implements Serializable {
      * 
      * <p>执行流程：</p>
      * <ol>
-     *   <li>如果任务列表为空且存在上次执行的结果，直接调用supplier返回结果</li>
+     *   <li>如果没有未执行的任务且存在上次执行的结果，直接调用supplier返回结果</li>
      *   <li>如果上次结果是异步的，则等待异步完成后再继续</li>
      *   <li>按顺序执行任务，如果任务标记为异步，则切换到异步线程执行</li>
+     *   <li>异步执行中遇到{@link NullAsyncTaskFunAbs}时直接组合它返回的future，不阻塞线程等待结果</li>
      *   <li>如果某个任务返回空值且下一个任务设置了preNullEnd()，则停止执行</li>
      *   <li>执行完成后通过supplier返回结果，如果发生异常则通过ex处理</li>
      * </ol>
@@ -242,69 +417,47 @@ public class NullTaskList implements Serializable {
      * @param supplier 成功回调，接收任务执行结果
      * @param ex 异常回调，接收执行过程中的异常，如果为null则抛出异常
      */
+    @SuppressWarnings("unchecked")
     public <T> void runTaskAll(Consumer<NullNode<T>> supplier, Consumer<Throwable> ex) {
-        if (tasks == null) {
-            tasks = new LinkedList<>();
-        }
-        if (lastResult != null && tasks.isEmpty()) {
+        ensureTasks();
+        if (lastResult != null && cursor == size) {
             //如果最后一个任务不是异步那么直接执行
             if (lastAsyncFuture == null) {
-                try {
-                    supplier.accept(lastResult);
-                } catch (Throwable e) {
-                    if (ex != null) {
-                        ex.accept(e);
-                        return;
-                    }else{
-                        throw e;
-                    }
-                }
+                acceptSync(supplier, ex, lastResult);
             } else {
-                CompletableFuture<NullNode> nullChainBaseCompletableFuture = CompletableFuture.completedFuture(lastResult);
-                nullChainBaseCompletableFuture.thenComposeAsync((nullNode) -> {
-                    supplier.accept(nullNode);
-                    return CompletableFuture.completedFuture(null);
-                }, getCT(false));//终结的方法一般都比较重, 不使用窃取线程池
-                StackTraceElement stackTraceElement = StackTraceUtil.stackTraceLevel(5);
-                nullChainBaseCompletableFuture.exceptionally((e) -> {
-                    e.addSuppressed(new NullChainException(stackTraceElement.toString()));
-                    if (ex != null) {
-                        ex.accept(e);
-                    } else {
-                        log.error("", e);
-                    }
-                    return null;
-                });
+                acceptAsync(supplier, ex, lastAsyncFuture);
             }
             return;
         }
 
-
-        NullNode chain = null;
-        CompletableFuture<NullNode> completableFuture = null;
-
-        if (lastResult != null) {
-            NullNode<Object> objectNullNode = NullBuild.noEmpty(lastResult.value);
-            if (lastAsyncFuture != null) {
-                completableFuture = lastAsyncFuture;
-            } else {
-                //需要把lastResult的值放入到任务链的开头, 这相当于续接上一个任务的结果
-                NullTaskFunAbs taskFunAbs = new NullTaskFunAbs() {
-                    @Override
-                    public NullNode nodeTask(Object value) throws RuntimeException {
-                        return objectNullNode;
-                    }
-                };
-                tasks.addFirst(taskFunAbs);
-            }
-        }
-
-        while (!tasks.isEmpty()) {
-            NullTaskFunAbs poll = tasks.poll();
+        boolean hasPre = lastResult != null;
+        Object value = hasPre ? lastResult.value : null;
+        boolean isNull = !hasPre || lastResult.isNull;
+        NullNode node = lastResult;
+        CompletableFuture<NullNode> completableFuture = hasPre ? lastAsyncFuture : null;
+        final NullTaskFun[] tasks = this.tasks;
+        final boolean[] stopOnNull = this.stopOnNull;
+        final int size = this.size;
+        int start = cursor;
+        cursor = size;
+        for (int i = start; i < size; i++) {
+            NullTaskFun task = tasks[i];
             if (completableFuture == null) {
-                NullNode task;
+                //如果上一个任务是null并且当前任务遇到null就停止执行, 那么直接结束
+                if (isNull && hasPre && stopOnNull[i]) {
+                    skipFrom(i, size);
+                    break;
+                }
                 try {
-                    task = poll.nodeTask(chain == null ? null : chain.value);
+                    if (task instanceof NullValueTaskFun) {
+                        value = valueTask((NullValueTaskFun) task, value);
+                        isNull = value == null;
+                        node = null;
+                    } else {
+                        node = task.nodeTask(value);
+                        value = node.value;
+                        isNull = node.isNull;
+                    }
                 } catch (Throwable e) {
                     if (ex != null) {
                         ex.accept(e);
@@ -313,71 +466,102 @@ public class NullTaskList implements Serializable {
                         throw e;
                     }
                 }
-                if (task.isNull) {
-                    //向后取一个, 如果后面任务是遇到上一个任务是null那么就停止执行
-                    NullTaskFunAbs lastPoll = tasks.peek();
-                    if (lastPoll != null && lastPoll.preNullEnd()) {
-                        try {
-                            supplier.accept(task);
-                        } catch (Throwable e) {
-                            if (ex != null) {
-                                ex.accept(e);
-                                return;
-                            } else {
-                                throw e;
-                            }
-                        }
-                        return;
-                    }
-                }
+                hasPre = true;
                 if (collect != null) {
-                    collect.add(task.value);
+                    collect.add(value);
                 }
-                if (task.async) {
-                    completableFuture = new CompletableFuture();
-                    completableFuture.complete(task);
+                if (node != null && node.async) {
+                    completableFuture = CompletableFuture.completedFuture(node);
                 }
-                chain = task;
             } else {
-                completableFuture = completableFuture.thenComposeAsync((nullNode) -> {
-                    NullNode task1 = poll.nodeTask(nullNode.value);
-                    if (task1.isNull) {
-                        //向后取一个, 如果后面任务是遇到上一个任务是null那么就停止执行
-                        NullTaskFunAbs lastPoll = tasks.poll();
-                        if (lastPoll != null && lastPoll.preNullEnd()) {
-                            supplier.accept(task1);
-                            return CompletableFuture.completedFuture(null);
-                        }
+                final int index = i;
+                final boolean stop = stopOnNull[i];
+                final Executor executor = getCT(!isHeavyTask(task));
+                //在完成上一个节点的线程中判断是否结束, 结束后的节点原样传递, 不再切换到线程池
+                completableFuture = completableFuture.thenCompose((nullNode) -> {
+                    //已经提前结束的链路不再执行后续节点, 把结束时的节点原样传递下去
+                    if (asyncEnded) {
+                        return CompletableFuture.completedFuture(nullNode);
                     }
-                    if (collect != null) {
-                        collect.add(task1.value);
+                    if (nullNode.isNull && stop) {
+                        asyncEnded = true;
+                        skipFrom(index, size);
+                        return CompletableFuture.completedFuture(nullNode);
                     }
-                    //继续执行
-                    return CompletableFuture.completedFuture(task1);
-                }, getCT(!poll.isHeavyTask()));
+                    return CompletableFuture.completedFuture(nullNode)
+                            .thenComposeAsync((preNode) -> runAsyncTask(task, preNode), executor);
+                });
             }
         }
-        lastResult = chain;
+        if (node == null) {
+            node = isNull ? NullBuild.empty() : NullBuild.noEmpty(value);
+        }
+        lastResult = node;
         if (completableFuture == null) {
-            supplier.accept(chain);
+            acceptSync(supplier, ex, node);
         } else {
-            completableFuture.thenComposeAsync((nullNode) -> {
-                supplier.accept(nullNode);
-                return CompletableFuture.completedFuture(null);
-            }, getCT(false));//终结的方法一般都比较重, 不使用窃取线程池
-            StackTraceElement stackTraceElement = StackTraceUtil.stackTraceLevel(5);
-            completableFuture.exceptionally((e) -> {
-                e.addSuppressed(new NullChainException(stackTraceElement.toString()));
-                if (ex != null) {
-                    ex.accept(e);
-                } else {
-                    log.error("", e);
-                }
-                return null;
-            });
             lastAsyncFuture = completableFuture; //记录最后一个异步任务
+            acceptAsync(supplier, ex, completableFuture);
         }
+    }
 
+    //在线程池中执行异步链路中的节点
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<NullNode> runAsyncTask(NullTaskFun task, NullNode preNode) {
+        //异步任务直接组合返回的future, 不阻塞当前线程等待结果
+        if (task instanceof NullAsyncTaskFunAbs) {
+            CompletableFuture<NullNode> next = ((NullAsyncTaskFunAbs) task).nodeTaskAsync(preNode.value);
+            if (collect == null) {
+                return next;
+            }
+            return next.thenApply((nextNode) -> {
+                collect.add(nextNode.value);
+                return nextNode;
+            });
+        }
+        NullNode next = task instanceof NullFusedValueTask
+                ? NullBuild.noEmpty(valueTask((NullValueTaskFun) task, preNode.value))
+                : task.nodeTask(preNode.value);
+        if (collect != null) {
+            collect.add(next.value);
+        }
+        //继续执行
+        return CompletableFuture.completedFuture(next);
+    }
+
+    //同步回调结果
+    private <T> void acceptSync(Consumer<NullNode<T>> supplier, Consumer<Throwable> ex, NullNode<T> node) {
+        try {
+            supplier.accept(node);
+        } catch (Throwable e) {
+            if (ex != null) {
+                ex.accept(e);
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    //异步回调结果, 终结的方法一般都比较重, 不使用窃取线程池
+    @SuppressWarnings("unchecked")
+    private <T> void acceptAsync(Consumer<NullNode<T>> supplier, Consumer<Throwable> ex, CompletableFuture<NullNode> future) {
+        CompletableFuture<Object> result = future.thenComposeAsync((nullNode) -> {
+            supplier.accept(nullNode);
+            return CompletableFuture.completedFuture(null);
+        }, getCT(false));
+        //调用点只在开启时记录, 避免每次异步终结操作都遍历堆栈
+        StackTraceElement stackTraceElement = NullCallSite.isCaptureEnabled() ? StackTraceUtil.stackTraceLevel(6) : null;
+        result.exceptionally((e) -> {
+            if (stackTraceElement != null) {
+                e.addSuppressed(new NullChainException(stackTraceElement.toString()));
+            }
+            if (ex != null) {
+                ex.accept(e);
+            } else {
+                log.error("", e);
+            }
+            return null;
+        });
     }
 
 }
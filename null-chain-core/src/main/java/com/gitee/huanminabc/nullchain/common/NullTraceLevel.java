@@ -0,0 +1,30 @@
+package com.gitee.huanminabc.nullchain.common;
+
+/**
+ * Null链路日志级别
+ *
+ * <p>控制链式操作过程中链路日志({@link NullLinkLog})的记录方式。链路日志只在异常或者doThrow等需要输出消息时才会被读取,
+ * 正常执行的链路中记录的内容基本不会被使用, 所以默认只记录步骤, 需要时再渲染成文本。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullLinkLog 链路日志
+ */
+public enum NullTraceLevel {
+
+    /**
+     * 关闭链路日志, 不记录任何步骤, 异常消息中不再包含链路信息
+     */
+    OFF,
+
+    /**
+     * 只记录步骤, 步骤以NullLog中的日志片段引用存放在紧凑数组中, 需要消息时才渲染成文本(默认)
+     */
+    STEP,
+
+    /**
+     * 记录完整文本, 每个步骤都立即拼接到StringBuilder中
+     */
+    FULL
+}
@@ -1,14 +1,9 @@
 package com.gitee.huanminabc.nullchain.common;
 
 
-import com.gitee.huanminabc.jcommon.reflect.ClassIdentifyUtil;
-import com.gitee.huanminabc.jcommon.str.StringUtil;
 import com.gitee.huanminabc.nullchain.NullCheck;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 
-import java.lang.reflect.Array;
-import java.util.Collection;
-import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -38,53 +33,15 @@ import java.util.function.Supplier;
  * @author 胡安民
  * @version 1.1.1
  * @see NullCheck 空值检查接口
+ * @see NullEmptyCheckers 空值判断策略
  * @see NullChain 链式操作接口
  * @since 1.0.0
  */
 public class NullUtil {
 
-    //判断不等于空并且如果是字符串类型那么也不能是空
+    //判断不等于空并且如果是字符串类型那么也不能是空, 判断方式按类型缓存, 自定义类型的判断见NullEmptyCheckers
     public static boolean is(Object o) {
-        if (o == null) {
-            return true;
-        }
-        //把8大基本类型和字符串排在前面判断,因为这些类型是最常用的
-
-        //如果是8大基本类型或者包装类型,那么直接返回不是空 ,因为只有null和有值两种情况
-        if (ClassIdentifyUtil.isPrimitiveOrWrapper(o.getClass())) {
-            return false;
-        }
-
-        //字符串相关的验证空情况
-        if (o instanceof CharSequence) {
-            CharSequence str = (CharSequence) o;
-            boolean blank = StringUtil.isEmpty(str);
-            //如果不是空那么判断不能是null字符串,在有些情况下比如String.valueOf(null)返回的是null字符串，这会导致计算和显示的时候误解
-            //优化：先检查长度，如果长度不是4，可以快速跳过"null"字符串检查
-            if (!blank && str instanceof String && str.length() == 4) {
-                //优化：如果长度已经是4，直接比较整个字符串，避免substring操作
-                return "null".equalsIgnoreCase((String) str);
-            }
-            return blank;
-        }
-
-
-        if (o instanceof Collection) {
-            return ((Collection<?>) o).isEmpty();
-        }
-        if (o instanceof Map) {
-            return ((Map<?, ?>) o).isEmpty();
-        }
-        // 数组类型判断：包括基本类型数组（byte[]、int[]等）、包装类型数组（Byte[]、Integer[]等）和对象数组（Object[]、String[]等）
-        // 使用反射方式统一处理所有类型的数组，避免遗漏基本类型数组和包装类型数组
-        if (o.getClass().isArray()) {
-            return Array.getLength(o) == 0;
-        }
-        if (o instanceof NullCheck) {
-            return ((NullCheck) o).isEmpty();
-        }
-
-        return false;
+        return NullEmptyCheckers.isEmpty(o);
     }
 
     //只要有一个为空就返回true
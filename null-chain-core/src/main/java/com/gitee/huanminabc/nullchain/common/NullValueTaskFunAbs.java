@@ -0,0 +1,22 @@
+package com.gitee.huanminabc.nullchain.common;
+
+import com.gitee.huanminabc.nullchain.common.function.NullValueTaskFun;
+
+/**
+ * Null值任务抽象类 - 需要自定义节点属性的值任务
+ *
+ * <p>值任务直接返回下一个节点的值(null表示空值)，当需要修改{@link #preNullEnd()}等节点属性时继承此类。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullValueTaskFun 值任务接口
+ * @see NullTaskFunAbs 任务函数抽象类
+ */
+public abstract class NullValueTaskFunAbs extends NullTaskFunAbs implements NullValueTaskFun {
+
+    @Override
+    public NullTaskList.NullNode nodeTask(Object preValue) throws RuntimeException {
+        return NullBuild.noEmpty(valueTask(preValue));
+    }
+}
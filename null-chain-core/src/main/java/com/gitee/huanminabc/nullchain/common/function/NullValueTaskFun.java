@@ -0,0 +1,44 @@
+package com.gitee.huanminabc.nullchain.common.function;
+
+import com.gitee.huanminabc.nullchain.common.NullBuild;
+import com.gitee.huanminabc.nullchain.common.NullTaskList;
+
+/**
+ * Null值任务函数式接口 - 直接返回值的任务
+ *
+ * <p>与{@link NullTaskFun}不同，该任务直接返回下一个节点的值，返回null表示空值，
+ * 同步执行时任务列表会把值和空值状态直接传递给下一个任务，不需要为每个节点创建NullNode。</p>
+ *
+ * <p>异步执行或者被当做普通任务调用时，通过{@link #nodeTask(Object)}包装成节点。</p>
+ *
+ * @param <T> 任务处理的值的类型
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullTaskFun 任务函数接口
+ */
+@FunctionalInterface
+public interface NullValueTaskFun<T> extends NullTaskFun<T> {
+
+    /**
+     * 执行任务并返回值
+     *
+     * @param preValue 上一个任务的值
+     * @return 当前任务的值，返回null表示空值
+     * @throws RuntimeException 任务执行过程中的运行时异常
+     */
+    Object valueTask(T preValue) throws RuntimeException;
+
+    /**
+     * 执行任务并包装成节点
+     *
+     * @param preValue 上一个任务的值
+     * @return 任务节点
+     * @throws RuntimeException 任务执行过程中的运行时异常
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default NullTaskList.NullNode<T> nodeTask(T preValue) throws RuntimeException {
+        return NullBuild.noEmpty((T) valueTask(preValue));
+    }
+}
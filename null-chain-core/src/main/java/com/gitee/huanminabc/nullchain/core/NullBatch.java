@@ -0,0 +1,125 @@
+package com.gitee.huanminabc.nullchain.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Null批量执行结果 - {@link NullPipeline#batch(java.util.Collection)}的返回值
+ *
+ * <p>结果按输入顺序保存在数组中, 每个元素是否为空记录在位图中,
+ * 为空的元素在结果数组中为null。</p>
+ *
+ * @param <T> 结果值的类型
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullPipeline#batch(java.util.Collection)
+ */
+public final class NullBatch<T> {
+
+    private final Object[] values;
+    private final BitSet empty;
+
+    NullBatch(Object[] values, BitSet empty) {
+        this.values = values;
+        this.empty = empty;
+    }
+
+    /**
+     * 获取元素数量
+     *
+     * @return 输入的元素数量
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * 判断指定下标的结果是否为空
+     *
+     * @param index 下标
+     * @return true为空
+     */
+    public boolean isEmpty(int index) {
+        checkIndex(index);
+        return empty.get(index);
+    }
+
+    /**
+     * 获取指定下标的结果
+     *
+     * @param index 下标
+     * @return 结果值, 为空时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) values[index];
+    }
+
+    /**
+     * 获取指定下标的结果, 为空时返回默认值
+     *
+     * @param index        下标
+     * @param defaultValue 默认值
+     * @return 结果值或者默认值
+     */
+    public T orElse(int index, T defaultValue) {
+        T value = get(index);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * 获取为空的元素数量
+     *
+     * @return 为空的元素数量
+     */
+    public int emptyCount() {
+        return empty.cardinality();
+    }
+
+    /**
+     * 获取空值位图, 为空的下标对应的位为1
+     *
+     * @return 空值位图的副本
+     */
+    public BitSet emptyBits() {
+        return (BitSet) empty.clone();
+    }
+
+    /**
+     * 获取全部结果, 为空的元素使用默认值
+     *
+     * @param defaultValue 默认值, 可以为null
+     * @return 和输入顺序一致的结果列表
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList(T defaultValue) {
+        List<T> list = new ArrayList<>(values.length);
+        for (Object value : values) {
+            list.add(value == null ? defaultValue : (T) value);
+        }
+        return list;
+    }
+
+    /**
+     * 获取不为空的结果
+     *
+     * @return 不为空的结果流, 顺序和输入一致
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<T> stream() {
+        return IntStream.range(0, values.length)
+                .filter(i -> !empty.get(i))
+                .mapToObj(i -> (T) values[i]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+        }
+    }
+}
@@ -14,7 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -32,103 +31,43 @@ import java.util.function.Supplier;
 @Slf4j
 public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T> {
 
-    public NullChainBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullChainBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog,taskList);
     }
 
     @Override
     public <U> NullChain<T> of(NullFun<? super T, ? extends U> function) {
-        this.taskList.add((value)->{
-            if (function == null) {
-                throw new NullChainException(linkLog.append(CHAIN_OF_PARAM_NULL).toString());
-            }
-            try {
-                U apply = function.apply((T)value);
-                if (Null.is(apply)) {
-                    linkLog.append(CHAIN_OF_Q);
-                    return NullBuild.empty();
-                }
-                linkLog.append(CHAIN_OF_ARROW);
-                return NullBuild.noEmpty(value);
-            } catch (Exception e) {
-                linkLog.append(CHAIN_OF_Q);
-                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-            }
-        });
-        return  NullBuild.busy(this);
+        NullPipelineStep step = NullChainSteps.<T, U>of(function);
+        this.taskList.addValueTask((value) -> step.run(value, linkLog));
+        return NullBuild.busy(this);
     }
 
     @Override
     public NullChain<T> ifGo(Predicate<? super T> predicate) {
-        this.taskList.add((value)->{
-            if (predicate == null) {
-                throw new NullChainException(linkLog.append(CHAIN_IFGO_PARAM_NULL).toString());
-            }
-            try {
-                boolean apply = predicate.test((T)value);
-                if (!apply) {
-                    linkLog.append(CHAIN_IFGO_Q);
-                    return NullBuild.empty();
-                }
-                linkLog.append(CHAIN_IFGO_ARROW);
-                return NullBuild.noEmpty(value);
-            } catch (Exception e) {
-                linkLog.append(CHAIN_IFGO_Q);
-                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-            }
-        });
-        return  NullBuild.busy(this);
+        NullPipelineStep step = NullChainSteps.<T>ifGo(predicate);
+        this.taskList.addValueTask((value) -> step.run(value, linkLog));
+        return NullBuild.busy(this);
     }
 
     @Override
     public NullChain<T> ifNeGo(Predicate<? super T> predicate) {
-        this.taskList.add((value)->{
-            if (predicate == null) {
-                throw new NullChainException(linkLog.append(CHAIN_IFNEGO_PARAM_NULL).toString());
-            }
-            try {
-                boolean apply = predicate.test((T)value);
-                if (apply) {
-                    linkLog.append(CHAIN_IFNEGO_Q);
-                    return NullBuild.empty();
-                }
-                linkLog.append(CHAIN_IFNEGO_ARROW);
-                return NullBuild.noEmpty(value);
-            } catch (Exception e) {
-                linkLog.append(CHAIN_IFNEGO_Q);
-                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-            }
-        });
-        return  NullBuild.busy(this);
+        NullPipelineStep step = NullChainSteps.<T>ifNeGo(predicate);
+        this.taskList.addValueTask((value) -> step.run(value, linkLog));
+        return NullBuild.busy(this);
     }
 
     @Override
     public <U> NullChain<T> eq(NullFun<? super T, ? extends U> function, U other) {
-        this.taskList.add((value) -> {
-            if (function == null) {
-                throw new NullChainException(linkLog.append(CHAIN_EQ_PARAM_NULL).toString());
-            }
-            try {
-                U apply = function.apply((T) value);
-                if (!Objects.equals(apply, other)) {
-                    linkLog.append(CHAIN_EQ_Q);
-                    return NullBuild.empty();
-                }
-                linkLog.append(CHAIN_EQ_ARROW);
-                return NullBuild.noEmpty(value);
-            } catch (Exception e) {
-                linkLog.append(CHAIN_EQ_Q);
-                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-            }
-        });
+        NullPipelineStep step = NullChainSteps.<T, U>eq(function, other);
+        this.taskList.addValueTask((value) -> step.run(value, linkLog));
         return NullBuild.busy(this);
     }
 
     @Override
     public <U> NullChain<T> isNull(NullFun<? super T, ? extends U> function) {
-        this.taskList.add((value) -> {
+        this.taskList.addValueTask((value) -> {
             if (value == null) {
-                return NullBuild.empty();
+                return null;
             }
             if (function == null) {
                 throw new NullChainException(linkLog.append(CHAIN_ISNULL_PARAM_NULL).toString());
@@ -137,10 +76,10 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
                 U apply = function.apply((T) value);
                 if (Null.non(apply)) {
                     linkLog.append(CHAIN_ISNULL_Q);
-                    return NullBuild.empty();
+                    return null;
                 }
                 linkLog.append(CHAIN_ISNULL_ARROW);
-                return NullBuild.noEmpty(value);
+                return value;
             } catch (Exception e) {
                 linkLog.append(CHAIN_ISNULL_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -154,14 +93,14 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
 
     @Override
     public NullChain<T> then(Runnable function) {
-        this.taskList.add((value)->{
+        this.taskList.addValueTask((value)->{
             if (function == null) {
                 throw new NullChainException(linkLog.append(CHAIN_THEN_PARAM_NULL).toString());
             }
             try {
                 function.run();
                 linkLog.append(CHAIN_THEN_ARROW);
-                return NullBuild.noEmpty(value);
+                return value;
             } catch (Exception e) {
                 linkLog.append(CHAIN_THEN_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -172,49 +111,21 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
 
     @Override
     public NullChain<T> peek(Consumer<? super T> function) {
-        this.taskList.add((value)->{
-            if (function == null) {
-                throw new NullChainException(linkLog.append(CHAIN_THEN_PARAM_NULL).toString());
-            }
-            try {
-                function.accept((T)value);
-                linkLog.append(CHAIN_THEN_ARROW);
-                return NullBuild.noEmpty(value);
-            } catch (Exception e) {
-                linkLog.append(CHAIN_THEN_Q);
-                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-            }
-        });
-        return  NullBuild.busy(this);
-
+        NullPipelineStep step = NullChainSteps.<T>peek(function);
+        this.taskList.addValueTask((value) -> step.run(value, linkLog));
+        return NullBuild.busy(this);
     }
 
 
     @Override
     public <U> NullChain<U> map(NullFun<? super T, ? extends U> function) {
-        this.taskList.add((value)->{
-            if (function == null) {
-                throw new NullChainException(linkLog.append(CHAIN_MAP_PARAM_NULL).toString());
-            }
-            try {
-                U apply = function.apply((T)value);
-                if (Null.is(apply)) {
-                    linkLog.append(CHAIN_MAP_Q);
-                    return NullBuild.empty();
-                }
-                linkLog.append(CHAIN_MAP_ARROW);
-                return NullBuild.noEmpty(apply);
-            } catch (Exception e) {
-                linkLog.append(CHAIN_MAP_Q);
-                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-            }
-        });
-        return  NullBuild.busy(this);
-
+        NullPipelineStep step = NullChainSteps.<T, U>map(function);
+        this.taskList.addValueTask((value) -> step.run(value, linkLog));
+        return NullBuild.busy(this);
     }
     @Override
     public < R, V> NullChain<R> map(BiFunction<T, V, R> biFunction, V key) {
-        this.taskList.add((value)->{
+        this.taskList.addValueTask((value)->{
             if (biFunction == null) {
                 throw new NullChainException(linkLog.append(CHAIN_MAP_PARAM_NULL).toString());
             }
@@ -222,10 +133,10 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
                 R apply = biFunction.apply((T) value, key);
                 if (Null.is(apply)) {
                     linkLog.append(CHAIN_MAP_Q);
-                    return NullBuild.empty();
+                    return null;
                 }
                 linkLog.append(CHAIN_MAP_ARROW);
-                return NullBuild.noEmpty(apply);
+                return apply;
 
             } catch (Exception e) {
                 linkLog.append(CHAIN_MAP_Q);
@@ -241,7 +152,7 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
 
     @Override
     public <U> NullChain<U> flatChain(NullFun<? super T, ? extends NullChain<U>> function) {
-        this.taskList.add((value)->{
+        this.taskList.addValueTask((value)->{
             if (function == null) {
                 throw new NullChainException(linkLog.append(CHAIN_FLATCHAIN_PARAM_NULL).toString());
             }
@@ -249,10 +160,10 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
                 NullChain<U> apply = function.apply((T)value);
                 if (apply.is()) {
                     linkLog.append(CHAIN_FLATCHAIN_Q);
-                    return NullBuild.empty();
+                    return null;
                 }
                 linkLog.append(CHAIN_FLATCHAIN_ARROW);
-                return NullBuild.noEmpty(apply.get());
+                return apply.get();
             } catch (Exception e) {
                 linkLog.append(CHAIN_FLATCHAIN_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -264,7 +175,7 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
 
     @Override
     public <U> NullChain<U> flatOptional(NullFun<? super T, ? extends Optional<U>> function) {
-        this.taskList.add((value)->{
+        this.taskList.addValueTask((value)->{
             if (function == null) {
                 throw new NullChainException(linkLog.append(CHAIN_FLATOPTIONAL_PARAM_NULL).toString());
             }
@@ -272,10 +183,10 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
                 Optional<U> apply = function.apply((T)value);
                 if (!apply.isPresent()) {
                     linkLog.append(CHAIN_FLATOPTIONAL_Q);
-                    return NullBuild.empty();
+                    return null;
                 }
                 linkLog.append(CHAIN_FLATOPTIONAL_ARROW);
-                return NullBuild.noEmpty(apply.get());
+                return apply.get();
             } catch (Exception e) {
                 linkLog.append(CHAIN_FLATOPTIONAL_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -288,63 +199,28 @@ public class NullChainBase<T> extends NullConvertBase<T> implements NullChain<T>
 
     @Override
     public NullChain<T> or(Supplier<? extends T> supplier) {
-        this.taskList.add(new NullTaskFunAbs() {
-            @Override
-            public NullTaskList.NullNode nodeTask(Object value) throws RuntimeException {
-                if (value==null) {
-                    if (supplier == null) {
-                        throw new NullChainException(linkLog.append(CHAIN_OR_PARAM_NULL).toString());
-                    }
-                    try {
-                        T t = supplier.get();
-                        if (Null.is(t)) {
-                            linkLog.append(CHAIN_OR_Q);
-                            return NullBuild.empty();
-                        }
-                        linkLog.append(CHAIN_OR_ARROW);
-                        return NullBuild.noEmpty(t);
-                    } catch (Exception e) {
-                        linkLog.append(CHAIN_OR_Q);
-                        throw NullReflectionKit.addRunErrorMessage(e, linkLog);
-                    }
-                }
-                linkLog.append(CHAIN_OR_ARROW);
-                return NullBuild.noEmpty(value);
-            }
-
-            @Override
-            public boolean preNullEnd() {
-                return false;
-            }
-        });
-        return  NullBuild.busy(this);
-
+        this.taskList.add(tolerant(NullChainSteps.<T>or(supplier)));
+        return NullBuild.busy(this);
     }
 
     @Override
     public NullChain<T> or(T defaultValue) {
-        this.taskList.add(new NullTaskFunAbs() {
+        this.taskList.add(tolerant(NullChainSteps.or(defaultValue)));
+        return NullBuild.busy(this);
+    }
+
+    //上一步为空时仍然执行的步骤, 例如or
+    private NullValueTaskFunAbs tolerant(NullPipelineStep step) {
+        return new NullValueTaskFunAbs() {
             @Override
-            public NullTaskList.NullNode nodeTask(Object value) throws RuntimeException {
-                if (value==null) {
-                    if (Null.is(defaultValue)) {
-                        linkLog.append(CHAIN_OR_PARAM_NULL);
-                        return NullBuild.empty();
-                    }
-                    linkLog.append(CHAIN_OR_ARROW);
-                    return NullBuild.noEmpty(defaultValue);
-                }
-                linkLog.append(CHAIN_OR_ARROW);
-                return NullBuild.noEmpty(value);
+            public Object valueTask(Object value) throws RuntimeException {
+                return step.run(value, linkLog);
             }
 
             @Override
             public boolean preNullEnd() {
-                return false;
+                return step.preNullEnd();
             }
-        });
-        return  NullBuild.busy(this);
+        };
     }
-
-
 }
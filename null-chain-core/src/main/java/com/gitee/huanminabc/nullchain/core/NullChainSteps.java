@@ -0,0 +1,208 @@
+package com.gitee.huanminabc.nullchain.core;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.common.NullLinkLog;
+import com.gitee.huanminabc.nullchain.common.NullReflectionKit;
+import com.gitee.huanminabc.nullchain.common.function.NullFun;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.gitee.huanminabc.nullchain.common.NullLog.*;
+
+/**
+ * 链操作符的步骤工厂
+ *
+ * <p>{@link NullChainBase} 和 {@link NullPipeline} 的同名操作符都由这里创建步骤,
+ * 空值判断、or的空值容忍和链路日志内容只有一份实现。
+ * 函数为空时在执行时抛出异常, 和链的行为一致, 模板在构建时已经提前校验。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+final class NullChainSteps {
+
+    private NullChainSteps() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, U> NullPipelineStep of(NullFun<? super T, ? extends U> function) {
+        return (value, linkLog) -> {
+            if (function == null) {
+                throw new NullChainException(linkLog.append(CHAIN_OF_PARAM_NULL).toString());
+            }
+            try {
+                U apply = function.apply((T) value);
+                if (Null.is(apply)) {
+                    linkLog.append(CHAIN_OF_Q);
+                    return null;
+                }
+                linkLog.append(CHAIN_OF_ARROW);
+                return value;
+            } catch (Exception e) {
+                linkLog.append(CHAIN_OF_Q);
+                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> NullPipelineStep ifGo(Predicate<? super T> predicate) {
+        return (value, linkLog) -> {
+            if (predicate == null) {
+                throw new NullChainException(linkLog.append(CHAIN_IFGO_PARAM_NULL).toString());
+            }
+            try {
+                boolean apply = predicate.test((T) value);
+                if (!apply) {
+                    linkLog.append(CHAIN_IFGO_Q);
+                    return null;
+                }
+                linkLog.append(CHAIN_IFGO_ARROW);
+                return value;
+            } catch (Exception e) {
+                linkLog.append(CHAIN_IFGO_Q);
+                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> NullPipelineStep ifNeGo(Predicate<? super T> predicate) {
+        return (value, linkLog) -> {
+            if (predicate == null) {
+                throw new NullChainException(linkLog.append(CHAIN_IFNEGO_PARAM_NULL).toString());
+            }
+            try {
+                boolean apply = predicate.test((T) value);
+                if (apply) {
+                    linkLog.append(CHAIN_IFNEGO_Q);
+                    return null;
+                }
+                linkLog.append(CHAIN_IFNEGO_ARROW);
+                return value;
+            } catch (Exception e) {
+                linkLog.append(CHAIN_IFNEGO_Q);
+                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, U> NullPipelineStep eq(NullFun<? super T, ? extends U> function, U other) {
+        return (value, linkLog) -> {
+            if (function == null) {
+                throw new NullChainException(linkLog.append(CHAIN_EQ_PARAM_NULL).toString());
+            }
+            try {
+                U apply = function.apply((T) value);
+                if (!Objects.equals(apply, other)) {
+                    linkLog.append(CHAIN_EQ_Q);
+                    return null;
+                }
+                linkLog.append(CHAIN_EQ_ARROW);
+                return value;
+            } catch (Exception e) {
+                linkLog.append(CHAIN_EQ_Q);
+                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> NullPipelineStep peek(Consumer<? super T> function) {
+        return (value, linkLog) -> {
+            if (function == null) {
+                throw new NullChainException(linkLog.append(CHAIN_THEN_PARAM_NULL).toString());
+            }
+            try {
+                function.accept((T) value);
+                linkLog.append(CHAIN_THEN_ARROW);
+                return value;
+            } catch (Exception e) {
+                linkLog.append(CHAIN_THEN_Q);
+                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, U> NullPipelineStep map(NullFun<? super T, ? extends U> function) {
+        return (value, linkLog) -> {
+            if (function == null) {
+                throw new NullChainException(linkLog.append(CHAIN_MAP_PARAM_NULL).toString());
+            }
+            try {
+                U apply = function.apply((T) value);
+                if (Null.is(apply)) {
+                    linkLog.append(CHAIN_MAP_Q);
+                    return null;
+                }
+                linkLog.append(CHAIN_MAP_ARROW);
+                return apply;
+            } catch (Exception e) {
+                linkLog.append(CHAIN_MAP_Q);
+                throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+            }
+        };
+    }
+
+    static <T> NullPipelineStep or(Supplier<? extends T> supplier) {
+        return new NullPipelineStep() {
+            @Override
+            public Object run(Object value, NullLinkLog linkLog) {
+                if (value == null) {
+                    if (supplier == null) {
+                        throw new NullChainException(linkLog.append(CHAIN_OR_PARAM_NULL).toString());
+                    }
+                    try {
+                        T t = supplier.get();
+                        if (Null.is(t)) {
+                            linkLog.append(CHAIN_OR_Q);
+                            return null;
+                        }
+                        linkLog.append(CHAIN_OR_ARROW);
+                        return t;
+                    } catch (Exception e) {
+                        linkLog.append(CHAIN_OR_Q);
+                        throw NullReflectionKit.addRunErrorMessage(e, linkLog);
+                    }
+                }
+                linkLog.append(CHAIN_OR_ARROW);
+                return value;
+            }
+
+            @Override
+            public boolean preNullEnd() {
+                return false;
+            }
+        };
+    }
+
+    static <T> NullPipelineStep or(T defaultValue) {
+        return new NullPipelineStep() {
+            @Override
+            public Object run(Object value, NullLinkLog linkLog) {
+                if (value == null) {
+                    if (Null.is(defaultValue)) {
+                        linkLog.append(CHAIN_OR_PARAM_NULL);
+                        return null;
+                    }
+                    linkLog.append(CHAIN_OR_ARROW);
+                    return defaultValue;
+                }
+                linkLog.append(CHAIN_OR_ARROW);
+                return value;
+            }
+
+            @Override
+            public boolean preNullEnd() {
+                return false;
+            }
+        };
+    }
+}
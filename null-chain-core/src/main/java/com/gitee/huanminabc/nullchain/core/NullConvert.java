@@ -301,10 +301,11 @@ public interface NullConvert<T> extends NullWorkFlow<T> {
      * 深拷贝操作 - 完全复制对象及其所有嵌套对象
      * 
      * <p>该方法用于对当前对象进行深拷贝，完全复制对象及其所有嵌套对象。
-     * 通过序列化机制实现深拷贝，确保所有引用都是独立的。</p>
+     * 按类型缓存字段的读写方法逐个字段复制，确保所有引用都是独立的，循环引用复制后保持同样的结构，
+     * 和序列化一样跳过transient字段。</p>
      * 
-     * <p><strong>注意：</strong>需要拷贝的类必须实现Serializable接口，
-     * 包括内部类，否则会抛出NotSerializableException异常。</p>
+     * <p><strong>注意：</strong>没有公共无参构造方法的类型会回退到序列化机制，
+     * 这时需要拷贝的类必须实现Serializable接口，否则会抛出NotSerializableException异常。</p>
      * 
      * @return 包含深拷贝对象的Null链
      * 
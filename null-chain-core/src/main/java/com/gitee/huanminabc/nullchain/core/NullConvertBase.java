@@ -1,8 +1,6 @@
 package com.gitee.huanminabc.nullchain.core;
 
 import com.alibaba.fastjson.JSON;
-import com.gitee.huanminabc.jcommon.reflect.BeanCopyUtil;
-import com.gitee.huanminabc.jcommon.reflect.LambdaUtil;
 import com.gitee.huanminabc.nullchain.Null;
 import com.gitee.huanminabc.nullchain.common.*;
 import com.gitee.huanminabc.nullchain.common.function.NullFun;
@@ -26,7 +24,7 @@ import static com.gitee.huanminabc.nullchain.common.NullLog.*;
 public class NullConvertBase<T> extends NullWorkFlowBase<T> implements NullConvert<T> {
 
 
-    public NullConvertBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullConvertBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog,taskList);
     }
 
@@ -224,7 +222,7 @@ public class NullConvertBase<T> extends NullWorkFlowBase<T> implements NullConve
         this.taskList.add((value)->{
             try {
                 linkLog.append(COPY_ARROW);
-                return NullBuild.noEmpty(BeanCopyUtil.copy(value));
+                return NullBuild.noEmpty(NullCopier.copy(value));
             } catch (Exception e) {
                 linkLog.append(COPY_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -238,7 +236,7 @@ public class NullConvertBase<T> extends NullWorkFlowBase<T> implements NullConve
         this.taskList.add((value)->{
             try {
                 linkLog.append(DEEP_COPY_ARROW);
-                return NullBuild.noEmpty(BeanCopyUtil.deepCopy(value));
+                return NullBuild.noEmpty(NullCopier.deepCopy(value));
             } catch (Exception e) {
                 linkLog.append(DEEP_COPY_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -255,17 +253,14 @@ public class NullConvertBase<T> extends NullWorkFlowBase<T> implements NullConve
                 throw new NullChainException(linkLog.append(PICK_PARAM_NULL).toString());
             }
             try {
-                T object = (T) value.getClass().newInstance();
+                //构造方法、字段名和set方法都按类型缓存, 见NullPickAccessor
+                T object = (T) NullPickAccessor.newInstance(value.getClass());
                 for (NullFun<? super T, ? extends U> function : mapper) {
                     U apply = function.apply((T)value);
                     //跳过空值
                     if (Null.non(apply)) {
-                        String field = LambdaUtil.getFieldName(function);
-                        //添加set方法
-                        String firstLetter = field.substring(0, 1).toUpperCase();    //将属性的首字母转换为大写
-                        String setMethodName = "set" + firstLetter + field.substring(1);
-                        //获取方法对象,将值设置进去
-                        object.getClass().getMethod(setMethodName, apply.getClass()).invoke(object, apply);
+                        //调用set方法,将值设置进去
+                        NullPickAccessor.set(object, NullPickAccessor.fieldName(function), apply);
                     }
                 }
                 linkLog.append(PICK_ARROW);
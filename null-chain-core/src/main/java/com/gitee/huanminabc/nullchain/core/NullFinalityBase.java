@@ -18,7 +18,7 @@ import java.util.function.Supplier;
 public class NullFinalityBase<T> extends NullKernelAsyncAbstract<T> implements NullFinality<T> {
 
 
-    public NullFinalityBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullFinalityBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
     }
 
@@ -143,15 +143,13 @@ public class NullFinalityBase<T> extends NullKernelAsyncAbstract<T> implements N
             }
             if (nullChainBase.isNull) {
                 // 检查 consumer 是否为 null
-                // 格式化异常消息并追加到 linkLog
+                // 格式化异常消息, 作为异常自己的消息, 链路日志单独附加
+                String message = exceptionMessage;
                 if (args != null && args.length > 0 && exceptionMessage != null) {
-                    String format = String.format(exceptionMessage.replaceAll("\\{\\s*}", "%s"), args);
-                    linkLog.append(" ").append(format);
-                } else if (exceptionMessage != null) {
-                    linkLog.append(" ").append(exceptionMessage);
+                    message = String.format(exceptionMessage.replaceAll("\\{\\s*}", "%s"), args);
                 }
                 // 创建异常并传递给 consumer
-                throw NullReflectionKit.addRunErrorMessage(exceptionClass, Thread.currentThread().getStackTrace(), linkLog);
+                throw NullReflectionKit.addRunErrorMessage(exceptionClass, Thread.currentThread().getStackTrace(), message, linkLog);
             }
 
         }, (e) -> {
@@ -160,7 +158,7 @@ public class NullFinalityBase<T> extends NullKernelAsyncAbstract<T> implements N
             }
             String format = String.format(exceptionMessage.replaceAll("\\{\\s*}", "%s"), args);
             //内部异常了
-            throw NullReflectionKit.addRunErrorMessage(exceptionClass, e.getStackTrace(), linkLog.append(" ").append(format));
+            throw NullReflectionKit.addRunErrorMessage(exceptionClass, e.getStackTrace(), format, linkLog);
         });
     }
 
@@ -225,15 +223,13 @@ public class NullFinalityBase<T> extends NullKernelAsyncAbstract<T> implements N
                 linkLog.append(GET_SAFE_EXCEPTION_NULL);
                 throw new NullChainException(linkLog.toString());
             }
-            // 格式化异常消息并追加到 linkLog
+            // 格式化异常消息, 作为异常自己的消息, 链路日志单独附加
+            String message = exceptionMessage;
             if (args != null && args.length > 0 && exceptionMessage != null) {
-                String format = String.format(exceptionMessage.replaceAll("\\{\\s*}", "%s"), args);
-                linkLog.append(" ").append(format);
-            } else if (exceptionMessage != null) {
-                linkLog.append(" ").append(exceptionMessage);
+                message = String.format(exceptionMessage.replaceAll("\\{\\s*}", "%s"), args);
             }
-            // 创建指定类型的异常并抛出
-            throw NullReflectionKit.addRunErrorMessage(exceptionClass, Thread.currentThread().getStackTrace(), linkLog);
+            // 创建指定类型的异常并抛出, 链路日志在获取时才渲染
+            throw NullReflectionKit.addRunErrorMessage(exceptionClass, Thread.currentThread().getStackTrace(), message, linkLog);
         }
     }
 
@@ -0,0 +1,418 @@
+package com.gitee.huanminabc.nullchain.core;
+
+import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskContext;
+import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskSnapshot;
+import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.*;
+import com.gitee.huanminabc.nullchain.common.function.NullFun;
+import com.gitee.huanminabc.nullchain.task.NullTask;
+import com.gitee.huanminabc.nullchain.tool.NullTool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.gitee.huanminabc.nullchain.common.NullLog.*;
+
+/**
+ * Null链模板 - 预编译、可复用的链式步骤
+ *
+ * <p>普通的 {@link NullChain} 每次使用都需要重新构建任务列表和全部闭包，适合一次性的调用。
+ * 对于每个请求都要执行同一段逻辑的场景，可以通过 {@link Null#pipeline()} 将步骤预先组装成模板，
+ * 之后对不同的输入反复调用 {@link #apply(Object)}，每次只需执行步骤本身。</p>
+ *
+ * <h3>设计特点：</h3>
+ * <ul>
+ *   <li>不可变：每个操作都会返回新的模板，原模板不受影响，可以安全地作为常量共享</li>
+ *   <li>线程安全：模板不保存执行状态，每次apply都会创建独立的链路日志</li>
+ *   <li>语义一致：步骤的空值判断、or的空值容忍和链路日志内容与 {@link NullChainBase} 相同</li>
+ *   <li>延迟执行：apply返回的是普通的Null链，在终结操作时才执行步骤，异常也在终结操作时抛出</li>
+ * </ul>
+ *
+ * <p>注意：模板会被多个线程同时执行，传入的函数本身也需要是线程安全的。</p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>{@code
+ * private static final NullPipeline<User, String> USER_NAME = Null.<User>pipeline()
+ *     .ifGo(user -> user.getAge() > 18)
+ *     .map(User::getName)
+ *     .map(String::toUpperCase);
+ *
+ * String name = USER_NAME.apply(user).orElse("UNKNOWN");
+ * List<NullChain<String>> names = USER_NAME.applyAll(users);
+ * NullBatch<String> batch = USER_NAME.batch(users);
+ * }</pre>
+ *
+ * @param <I> 模板输入值的类型
+ * @param <O> 模板输出值的类型
+ * @author huanmin
+ * @since 1.1.10
+ * @see Null#pipeline()
+ */
+public final class NullPipeline<I, O> {
+
+    /**
+     * 空模板的步骤，所有空模板共享
+     */
+    private static final NullPipelineStep[] EMPTY_STEPS = new NullPipelineStep[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final NullPipeline EMPTY = new NullPipeline<>(EMPTY_STEPS);
+
+    /**
+     * 批量执行使用的链路日志, 不记录内容, 可以在多个线程中共享
+     */
+    private static final NullLinkLog BATCH_LINK_LOG = new NullLinkLog(NullTraceLevel.OFF);
+
+    /**
+     * 模板步骤，构建后不再修改
+     */
+    private final NullPipelineStep[] steps;
+
+    private NullPipeline(NullPipelineStep[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * 创建一个空模板，apply时只做输入值的判空
+     *
+     * @param <T> 模板输入值的类型
+     * @return 空模板
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> NullPipeline<T, T> empty() {
+        return (NullPipeline<T, T>) EMPTY;
+    }
+
+    /**
+     * 获取模板的步骤数量（不包含输入值的判空）
+     *
+     * @return 步骤数量
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    /**
+     * 对输入值执行模板
+     *
+     * <p>等价于 {@code Null.of(value)} 后依次调用模板中的操作，但不会重新创建每个步骤的闭包。
+     * 返回的链可以继续追加操作，链路日志会接在模板的日志后面。</p>
+     *
+     * @param value 输入值，可以为null
+     * @return 执行模板的Null链
+     */
+    public NullChain<O> apply(I value) {
+        NullLinkLog linkLog = new NullLinkLog();
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> run(value, linkLog));
+        return NullBuild.busy(linkLog, taskList);
+    }
+
+    /**
+     * 对一批输入值执行模板
+     *
+     * <p>每个输入值都有独立的链和链路日志，返回的列表顺序与输入顺序一致。</p>
+     *
+     * @param values 输入值集合，为空时返回空列表
+     * @return 每个输入值对应的Null链
+     */
+    public List<NullChain<O>> applyAll(Collection<? extends I> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<NullChain<O>> result = new ArrayList<>(values.size());
+        for (I value : values) {
+            result.add(apply(value));
+        }
+        return result;
+    }
+
+    /**
+     * 对一批输入值按列执行模板
+     *
+     * <p>和 {@link #applyAll(Collection)} 不同, 不会为每个输入值创建链、任务列表和链路日志,
+     * 而是每个步骤依次处理全部输入值, 适合大批量的数据。每个输入值的结果和单独执行模板一致,
+     * 只是不同输入值之间的步骤执行顺序不同, 并且不记录链路日志。步骤异常时直接抛出。</p>
+     *
+     * @param values 输入值集合, 为空时返回空的结果
+     * @return 批量执行结果, 顺序与输入顺序一致
+     */
+    public NullBatch<O> batch(Collection<? extends I> values) {
+        return batch(values, 0);
+    }
+
+    /**
+     * 对一批输入值按列执行模板, 按chunkSize分块后在默认名称的ForkJoin线程池中并行执行
+     *
+     * @param values    输入值集合, 为空时返回空的结果
+     * @param chunkSize 每个分块的元素数量, 小于等于0或者不小于元素数量时不分块, 在当前线程执行
+     * @return 批量执行结果, 顺序与输入顺序一致
+     * @see #batch(Collection, int, String)
+     */
+    public NullBatch<O> batch(Collection<? extends I> values, int chunkSize) {
+        return batch(values, chunkSize, ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME);
+    }
+
+    /**
+     * 对一批输入值按列执行模板, 按chunkSize分块后在指定名称的ForkJoin线程池中并行执行
+     *
+     * <p>每个分块内部按列执行, 分块之间互不影响。并行执行时传入的函数需要是线程安全的。
+     * 分块在 {@link NullExecutors#getForkJoinPool(String)} 的独立线程池中执行, 不占用公共的ForkJoin线程池,
+     * 每个分块都在调用batch时的上下文中执行({@link AsyncTaskContext}), 第一个分块在当前线程执行。</p>
+     *
+     * @param values            输入值集合, 为空时返回空的结果
+     * @param chunkSize         每个分块的元素数量, 小于等于0或者不小于元素数量时不分块, 在当前线程执行
+     * @param threadFactoryName 线程池名称, 为空时使用默认名称
+     * @return 批量执行结果, 顺序与输入顺序一致
+     */
+    public NullBatch<O> batch(Collection<? extends I> values, int chunkSize, String threadFactoryName) {
+        Object[] results = values == null ? new Object[0] : values.toArray();
+        int size = results.length;
+        boolean[] ended = new boolean[size];
+        if (chunkSize <= 0 || chunkSize >= size) {
+            runColumns(results, ended, 0, size);
+        } else {
+            ForkJoinPool pool = NullExecutors.getForkJoinPool(threadFactoryName);
+            AsyncTaskSnapshot snapshot = AsyncTaskContext.capture();
+            int chunks = (size + chunkSize - 1) / chunkSize;
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks - 1);
+            //任意分块失败后, 还没开始的分块不再执行
+            AtomicBoolean failed = new AtomicBoolean();
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize, size);
+                tasks.add(pool.submit(snapshot.wrap(() -> runChunk(results, ended, from, to, failed))));
+            }
+            Throwable failure = null;
+            try {
+                runChunk(results, ended, 0, chunkSize, failed);
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                //等待全部分块结束后再返回或者抛出异常, 其他分块的异常作为suppressed附加
+                for (ForkJoinTask<?> task : tasks) {
+                    try {
+                        task.join();
+                    } catch (Throwable e) {
+                        if (failure == null) {
+                            failure = e;
+                        } else if (failure != e) {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new NullChainException(failure);
+            }
+        }
+        BitSet empty = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (results[i] == null) {
+                empty.set(i);
+            }
+        }
+        return new NullBatch<>(results, empty);
+    }
+
+    /**
+     * 执行一个分块, 其他分块已经失败时跳过, 自己失败时标记failed
+     */
+    private void runChunk(Object[] values, boolean[] ended, int from, int to, AtomicBoolean failed) {
+        if (failed.get()) {
+            return;
+        }
+        try {
+            runColumns(values, ended, from, to);
+        } catch (Throwable e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * 按列执行[from, to)范围内的元素, ended记录已经结束的元素, 和 {@link #run(Object, NullLinkLog)} 的结束规则一致
+     */
+    private void runColumns(Object[] values, boolean[] ended, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Null.is(values[i])) {
+                values[i] = null;
+            }
+        }
+        for (NullPipelineStep step : steps) {
+            boolean preNullEnd = step.preNullEnd();
+            for (int i = from; i < to; i++) {
+                if (ended[i]) {
+                    continue;
+                }
+                Object value = values[i];
+                if (value == null && preNullEnd) {
+                    ended[i] = true;
+                    continue;
+                }
+                values[i] = step.run(value, BATCH_LINK_LOG);
+            }
+        }
+    }
+
+    /**
+     * 依次执行模板的步骤
+     *
+     * <p>和 {@link NullTaskList#runTaskAll()} 一致：上一步为空时，遇到第一个不容忍空值的步骤就结束。</p>
+     */
+    private Object run(Object value, NullLinkLog linkLog) {
+        if (Null.is(value)) {
+            linkLog.append(OF_Q);
+            value = null;
+        } else {
+            linkLog.append(OF_ARROW);
+        }
+        for (NullPipelineStep step : steps) {
+            if (value == null && step.preNullEnd()) {
+                break;
+            }
+            value = step.run(value, linkLog);
+        }
+        return value;
+    }
+
+    private <R> NullPipeline<I, R> append(NullPipelineStep step) {
+        NullPipelineStep[] newSteps = Arrays.copyOf(steps, steps.length + 1);
+        newSteps[steps.length] = step;
+        return new NullPipeline<>(newSteps);
+    }
+
+    /**
+     * 判断值是否为空，为空则结束
+     *
+     * @see NullChain#of(NullFun)
+     */
+    public <U> NullPipeline<I, O> of(NullFun<? super O, ? extends U> function) {
+        requireParam(function, CHAIN_OF_PARAM_NULL);
+        return append(NullChainSteps.<O, U>of(function));
+    }
+
+    /**
+     * 条件为true时继续，否则结束
+     *
+     * @see NullChain#ifGo(Predicate)
+     */
+    public NullPipeline<I, O> ifGo(Predicate<? super O> predicate) {
+        requireParam(predicate, CHAIN_IFGO_PARAM_NULL);
+        return append(NullChainSteps.<O>ifGo(predicate));
+    }
+
+    /**
+     * 条件为false时继续，否则结束
+     *
+     * @see NullChain#ifNeGo(Predicate)
+     */
+    public NullPipeline<I, O> ifNeGo(Predicate<? super O> predicate) {
+        requireParam(predicate, CHAIN_IFNEGO_PARAM_NULL);
+        return append(NullChainSteps.<O>ifNeGo(predicate));
+    }
+
+    /**
+     * 函数结果与other相等时继续，否则结束
+     *
+     * @see NullChain#eq(NullFun, Object)
+     */
+    public <U> NullPipeline<I, O> eq(NullFun<? super O, ? extends U> function, U other) {
+        requireParam(function, CHAIN_EQ_PARAM_NULL);
+        return append(NullChainSteps.<O, U>eq(function, other));
+    }
+
+    /**
+     * 查看值，不改变值
+     *
+     * @see NullChain#peek(Consumer)
+     */
+    public NullPipeline<I, O> peek(Consumer<? super O> function) {
+        requireParam(function, CHAIN_THEN_PARAM_NULL);
+        return append(NullChainSteps.<O>peek(function));
+    }
+
+    /**
+     * 转换值，结果为空则结束
+     *
+     * @see NullChain#map(NullFun)
+     */
+    public <U> NullPipeline<I, U> map(NullFun<? super O, ? extends U> function) {
+        requireParam(function, CHAIN_MAP_PARAM_NULL);
+        return append(NullChainSteps.<O, U>map(function));
+    }
+
+    /**
+     * 上一步为空时使用supplier提供的值
+     *
+     * @see NullChain#or(Supplier)
+     */
+    public NullPipeline<I, O> or(Supplier<? extends O> supplier) {
+        requireParam(supplier, CHAIN_OR_PARAM_NULL);
+        return append(NullChainSteps.<O>or(supplier));
+    }
+
+    /**
+     * 上一步为空时使用默认值
+     *
+     * @see NullChain#or(Object)
+     */
+    public NullPipeline<I, O> or(O defaultValue) {
+        return append(NullChainSteps.or(defaultValue));
+    }
+
+    /**
+     * 调用工具，由 {@link NullWorkFlowBase#tool(Class, Object...)} 执行
+     *
+     * @see NullWorkFlow#tool(Class, Object...)
+     */
+    public <R> NullPipeline<I, R> tool(Class<? extends NullTool<O, R>> tool, Object... params) {
+        requireParam(tool, TOOL_Q + "传参不能为空");
+        return append((value, linkLog) -> NullPipeline.<O>seed(value, linkLog).tool(tool, params).orElseNull());
+    }
+
+    /**
+     * 调用任务，由 {@link NullWorkFlowBase#task(Class, Object...)} 执行
+     *
+     * @see NullWorkFlow#task(Class, Object...)
+     */
+    public <R> NullPipeline<I, R> task(Class<? extends NullTask<O, R>> task, Object... params) {
+        requireParam(task, TASK_Q + "传参不能为空");
+        return append((value, linkLog) -> NullPipeline.<O>seed(value, linkLog).task(task, params).orElseNull());
+    }
+
+    /**
+     * 模板构建时校验参数，参数为空时直接抛出异常，而不是等到执行时才发现
+     */
+    private static void requireParam(Object param, String message) {
+        if (param == null) {
+            throw new NullChainException(message);
+        }
+    }
+
+    /**
+     * 以当前值和链路日志创建一条链，用于复用工作流的工具和任务逻辑
+     */
+    private static <X> NullChain<X> seed(Object value, NullLinkLog linkLog) {
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> value);
+        return NullBuild.busy(linkLog, taskList);
+    }
+}
@@ -0,0 +1,34 @@
+package com.gitee.huanminabc.nullchain.core;
+
+import com.gitee.huanminabc.nullchain.common.NullLinkLog;
+
+/**
+ * 链的单个步骤
+ *
+ * <p>步骤只能依赖参数，不能保存执行状态，这样模板才能在多个线程中同时执行。
+ * {@link NullChainBase} 和 {@link NullPipeline} 通过 {@link NullChainSteps} 创建相同的步骤。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+interface NullPipelineStep {
+
+    /**
+     * 执行步骤
+     *
+     * @param value   上一步的值，上一步为空时为null
+     * @param linkLog 本次执行的链路日志
+     * @return 步骤的值，返回null表示空
+     */
+    Object run(Object value, NullLinkLog linkLog);
+
+    /**
+     * 上一步为空时是否结束，默认结束
+     *
+     * @return true结束，false继续执行本步骤
+     */
+    default boolean preNullEnd() {
+        return true;
+    }
+}
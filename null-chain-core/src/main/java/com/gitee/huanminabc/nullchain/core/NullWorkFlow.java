@@ -2,6 +2,7 @@ package com.gitee.huanminabc.nullchain.core;
 
 import com.gitee.huanminabc.nullchain.common.NullGroupNfTask;
 import com.gitee.huanminabc.nullchain.common.NullGroupTask;
+import com.gitee.huanminabc.nullchain.language.NfCompiledScript;
 import com.gitee.huanminabc.nullchain.task.NullTask;
 import com.gitee.huanminabc.nullchain.tool.NullTool;
 
@@ -265,6 +266,28 @@ public interface NullWorkFlow<T> extends NullFinality<T> {
      */
     NullChain<?> nfTask(String nfContext, Object... params);
 
+    /**
+     * 执行单个预编译的NF脚本
+     *
+     * <p>脚本只在{@link com.gitee.huanminabc.nullchain.language.NfMain#compile(String)}时解析和验证一次, 之后每次执行直接运行语法树,
+     * 适用于同一个脚本被反复执行的场景。</p>
+     *
+     * @param compiledScript 预编译的脚本
+     * @param params         脚本参数
+     * @return 脚本执行结果，类型不确定，需要后续转换
+     *
+     * @example
+     * <pre>{@code
+     * // 编译一次, 保存句柄复用
+     * NfCompiledScript script = NfMain.compile("Integer a = 1\nexport a");
+     *
+     * Object result = Null.of(10)
+     *     .nfTask(script)
+     *     .orElse(null);
+     * }</pre>
+     */
+    NullChain<?> nfTask(NfCompiledScript compiledScript, Object... params);
+
     /**
      * 多脚本同时并发执行
      * 
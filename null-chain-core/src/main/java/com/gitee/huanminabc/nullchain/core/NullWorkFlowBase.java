@@ -4,6 +4,7 @@ import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
 import com.gitee.huanminabc.jcommon.str.StringUtil;
 import com.gitee.huanminabc.nullchain.Null;
 import com.gitee.huanminabc.nullchain.common.*;
+import com.gitee.huanminabc.nullchain.language.NfCompiledScript;
 import com.gitee.huanminabc.nullchain.language.NfMain;
 import com.gitee.huanminabc.nullchain.task.NullTask;
 import com.gitee.huanminabc.nullchain.task.NullTaskFactory;
@@ -14,14 +15,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import static com.gitee.huanminabc.nullchain.common.NullLog.*;
-import org.slf4j.Logger;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Null工作流基础实现类
@@ -34,7 +32,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Slf4j
 public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWorkFlow<T> {
 
-    public NullWorkFlowBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullWorkFlowBase(NullLinkLog linkLog, NullTaskList taskList) {
         super( linkLog, taskList);
     }
 
@@ -116,34 +114,19 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
 
     @Override
     public NullChain<Map<String, Object>> task(NullGroupTask nullGroupTask) {
-
-        this.taskList.add(new NullTaskFunAbs() {
-            @Override
-            public boolean isHeavyTask() {
-                return true;
-            }
-
-            @Override
-            public NullTaskList.NullNode nodeTask(Object preValue) throws RuntimeException {
-                if (Null.isAny(nullGroupTask, ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME)) {
-                    throw new NullChainException(linkLog.append(TASK_Q).append("传参不能为空").toString());
-                }
-                return __task__(preValue,nullGroupTask, ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME);
-            }
-        });
-        return NullBuild.busy(this);
+        return task(nullGroupTask, ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME);
     }
 
     @Override
     public NullChain<Map<String, Object>> task(NullGroupTask nullGroupTask, String threadFactoryName) {
-        this.taskList.add(new NullTaskFunAbs() {
+        this.taskList.add(new NullAsyncTaskFunAbs() {
             @Override
             public boolean isHeavyTask() {
                 return true;
             }
 
             @Override
-            public NullTaskList.NullNode nodeTask(Object preValue) throws RuntimeException {
+            public CompletableFuture<NullTaskList.NullNode> nodeTaskAsync(Object preValue) {
                 if (Null.isAny(nullGroupTask, threadFactoryName)) {
                     throw new NullChainException(linkLog.append(TASK_Q).append("传参不能为空").toString());
                 }
@@ -160,6 +143,12 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
         return nfTask(nullTaskInfo);
     }
 
+    @Override
+    public NullChain<?> nfTask(NfCompiledScript compiledScript, Object... params) {
+        NullGroupNfTask.NullTaskInfo nullTaskInfo = NullGroupNfTask.task(compiledScript, params);
+        return nfTask(nullTaskInfo);
+    }
+
     @Override
     public NullChain<?> nfTask(NullGroupNfTask.NullTaskInfo nullTaskInfo) {
         return nfTask(nullTaskInfo, ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME);
@@ -181,13 +170,13 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
                     throw new NullChainException(linkLog.toString());
                 }
                 //脚本内容不能是空
-                if (Null.is(nullTaskInfo.getNfContext())) {
+                if (!nullTaskInfo.hasScript()) {
                     linkLog.append(NFTASK_Q).append("脚本内容不能为空");
                     throw new NullChainException(linkLog.toString());
                 }
 
                 try {
-                    Object o = __nfTask__(preValue,nullTaskInfo.getNfContext(), threadFactoryName, nullTaskInfo.getLogger(), nullTaskInfo.getParams());
+                    Object o = __nfTask__(preValue, nullTaskInfo, threadFactoryName);
                     if (Null.is(o)) {
                         linkLog.append(NFTASK_Q);
                         return NullBuild.empty();
@@ -207,73 +196,56 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
 
     @Override
     public NullChain<Map<String, Object>> nfTasks(NullGroupNfTask nullGroupNfTask, String threadFactoryName) {
-        this.taskList.add(new NullTaskFunAbs() {
+        this.taskList.add(new NullAsyncTaskFunAbs() {
             @Override
             public boolean isHeavyTask() {
                 return true;
             }
 
             @Override
-            public NullTaskList.NullNode  nodeTask(Object preValue) throws RuntimeException {
+            public CompletableFuture<NullTaskList.NullNode> nodeTaskAsync(Object preValue) {
                 if (Null.isAny(nullGroupNfTask, threadFactoryName)) {
                     linkLog.append(NFTASKS_Q).append("传参不能为空");
                     throw new NullChainException(linkLog.toString());
                 }
-                ThreadPoolExecutor executor = ThreadFactoryUtil.getExecutor(threadFactoryName);
+                ExecutorService executor = NullExecutors.getExecutor(threadFactoryName);
                 NullGroupNfTask.NullTaskInfo[] list = nullGroupNfTask.getList();
                 //脚本内容不能是空
                 for (NullGroupNfTask.NullTaskInfo nullTaskInfo : list) {
-                    if (Null.is(nullTaskInfo.getNfContext())) {
+                    if (!nullTaskInfo.hasScript()) {
                         linkLog.append(NFTASKS_Q).append("脚本内容不能为空");
                         throw new NullChainException(linkLog.toString());
                     }
                 }
-                // 保存 linkLog 的快照，为每个并发任务创建独立的副本，避免并发修改问题
-                String linkLogSnapshot = linkLog.toString();
-                StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-                List<Future<?>> futures = new ArrayList<>();
-                Map<String, Object> nullChainMap = new ConcurrentHashMap<>();
-                for (NullGroupNfTask.NullTaskInfo nullTaskInfo : list) {
-                    // 为每个并发任务创建独立的 linkLog 副本和异常实例，避免并发修改
-                    StringBuilder taskLinkLog = new StringBuilder(linkLogSnapshot);
-                    // 为每个任务创建独立的异常实例，避免共享异常对象导致的信息覆盖问题
-                    NullChainException taskException = new NullChainException();
-                    Future<?> submit = executor.submit(() -> {
+                StackTraceElement[] stackTrace = NullCallSite.capture();
+                String[] keys = new String[list.length];
+                NullGroupRunner.NullGroupJob[] jobs = new NullGroupRunner.NullGroupJob[list.length];
+                for (int i = 0; i < list.length; i++) {
+                    NullGroupNfTask.NullTaskInfo nullTaskInfo = list[i];
+                    // 为每个并发任务创建独立的 linkLog 副本，避免并发修改
+                    NullLinkLog taskLinkLog = linkLog.copy();
+                    keys[i] = nullTaskInfo.getKey();
+                    jobs[i] = () -> {
                         try {
-                            Object run = __nfTask__(preValue,nullTaskInfo.getNfContext(), threadFactoryName, nullTaskInfo.getLogger(), nullTaskInfo.getParams());
-                            if (Null.is(run)) {
-                                return;
-                            }
-                            nullChainMap.put(nullTaskInfo.getKey(), run);
+                            return __nfTask__(preValue, nullTaskInfo, threadFactoryName);
                         } catch (Exception e) {
-                            taskException.setMessage(stackTrace, taskLinkLog.toString());
-                            e.addSuppressed(taskException);
+                            // 异常发生时才为任务创建独立的异常实例，避免正常执行时的开销
+                            e.addSuppressed(NullCallSite.exception(stackTrace, taskLinkLog.toString()));
                             log.error("{}{}{}多任务脚本并发执行失败", taskLinkLog, TASK_Q, nullTaskInfo.getKey(), e);
+                            throw e;
                         }
-                    });
-                    futures.add(submit);
+                    };
                 }
-                //等待所有任务执行完毕
-                for (Future<?> future : futures) {
-                    try {
-                        future.get();
-                    } catch (Exception ignored) {
-
-                    }
-                }
-                linkLog.append(TASK_ARROW);
-                return NullBuild.noEmpty(nullChainMap);
+                return fanIn(NullGroupRunner.run(executor, keys, jobs, nullGroupNfTask.getPolicy(), nullGroupNfTask.getTimeoutMillis()));
             }
         });
         return NullBuild.busy(this);
     }
 
 
-    private NullTaskList.NullNode <Map<String, Object>> __task__(Object preValue,NullGroupTask nullGroupTask, String threadFactoryName) {
+    private CompletableFuture<NullTaskList.NullNode> __task__(Object preValue,NullGroupTask nullGroupTask, String threadFactoryName) {
 
-        ThreadPoolExecutor executor = ThreadFactoryUtil.getExecutor(threadFactoryName);
-        Map<String, Object> nullChainMap = new ConcurrentHashMap<>();
-        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executor = NullExecutors.getExecutor(threadFactoryName);
         NullGroupTask.NullTaskInfo[] list = nullGroupTask.getList();
         for (NullGroupTask.NullTaskInfo nullTaskInfo : list) {
             if (StringUtil.isEmpty(nullTaskInfo.getTaskName())) {
@@ -281,42 +253,43 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
                 throw new NullChainException(linkLog.toString());
             }
         }
-        // 保存 linkLog 的快照，为每个并发任务创建独立的副本，避免并发修改问题
-        String linkLogSnapshot = linkLog.toString();
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        for (NullGroupTask.NullTaskInfo nullTaskInfo : list) {
-            String taskName = nullTaskInfo.getTaskName();
-            Object[] params = nullTaskInfo.getParams();
+        StackTraceElement[] stackTrace = NullCallSite.capture();
+        String[] keys = new String[list.length];
+        NullGroupRunner.NullGroupJob[] jobs = new NullGroupRunner.NullGroupJob[list.length];
+        for (int i = 0; i < list.length; i++) {
+            String taskName = list[i].getTaskName();
+            Object[] params = list[i].getParams();
             NullTask nullTask = getNullTask(taskName);
-            // 为每个并发任务创建独立的 linkLog 副本和异常实例，避免并发修改
-            StringBuilder taskLinkLog = new StringBuilder(linkLogSnapshot);
-            // 为每个任务创建独立的异常实例，避免共享异常对象导致的信息覆盖问题
-            NullChainException taskException = new NullChainException();
-            Future<?> submit = executor.submit(() -> {
+            // 为每个并发任务创建独立的 linkLog 副本，避免并发修改
+            NullLinkLog taskLinkLog = linkLog.copy();
+            keys[i] = taskName;
+            jobs[i] = () -> {
                 try {
-                    Object run = taskRun((T)preValue, nullTask, taskLinkLog, params);
-                    if (Null.is(run)) {
-                        return;
-                    }
-                    nullChainMap.put(taskName, run);
+                    return taskRun((T)preValue, nullTask, taskLinkLog, params);
                 }catch (Exception e) {
-                    taskException.setMessage(stackTrace, "{}{}", taskLinkLog, TASK_Q);
-                    e.addSuppressed(taskException);
+                    // 异常发生时才为任务创建独立的异常实例，避免正常执行时的开销
+                    e.addSuppressed(NullCallSite.exception(stackTrace, "{}{}", taskLinkLog, TASK_Q));
                     log.error("{}{}多任务并发执行失败:{}", taskLinkLog, TASK_Q, taskName, e);
+                    throw e;
                 }
-            });
-            futures.add(submit);
+            };
         }
-        //等待所有任务执行完毕
-        for (Future<?> future : futures) {
-            try {
-                future.get();
-            } catch (Exception ignored) {
+        return fanIn(NullGroupRunner.run(executor, keys, jobs, nullGroupTask.getPolicy(), nullGroupTask.getTimeoutMillis()));
+    }
 
+    /**
+     * 任务组结束后记录链路日志并生成节点, 失败(快速失败或者超时)时把链路信息放入异常
+     */
+    private CompletableFuture<NullTaskList.NullNode> fanIn(CompletableFuture<Map<String, Object>> group) {
+        return group.<NullTaskList.NullNode>handle((nullChainMap, e) -> {
+            if (e != null) {
+                linkLog.append(TASK_Q);
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                throw NullReflectionKit.addRunErrorMessage(cause, linkLog);
             }
-        }
-        linkLog.append(TASK_ARROW);
-        return NullBuild.noEmpty(nullChainMap);
+            linkLog.append(TASK_ARROW);
+            return NullBuild.noEmpty(nullChainMap);
+        });
     }
 
 
@@ -357,19 +330,24 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
     }
 
 
-    private Object __nfTask__(Object preValue,String nfContext, String threadFactoryName, Logger logger, Object[] params) {
+    private Object __nfTask__(Object preValue, NullGroupNfTask.NullTaskInfo nullTaskInfo, String threadFactoryName) {
         //校验线程池是否存在
-        ThreadFactoryUtil.addExecutor(threadFactoryName);
+        NullExecutors.addExecutor(threadFactoryName);
         Map<String, Object> mainSystemContext = new HashMap<>();
         // 使用 $ 前缀标识系统变量，避免与用户定义的变量名冲突
         mainSystemContext.put("$threadFactoryName", threadFactoryName);
         mainSystemContext.put("$preValue", preValue);//上一个任务的值
-        mainSystemContext.put("$params", params == null ? NullConstants.EMPTY_OBJECT_ARRAY : params);
-        return NfMain.run(nfContext, logger, mainSystemContext);
+        mainSystemContext.put("$params", nullTaskInfo.getParams());
+        //预编译的脚本直接执行, 不再计算脚本内容的MD5查找缓存
+        NfCompiledScript compiledScript = nullTaskInfo.getCompiledScript();
+        if (compiledScript != null) {
+            return compiledScript.run(nullTaskInfo.getLogger(), mainSystemContext);
+        }
+        return NfMain.run(nullTaskInfo.getNfContext(), nullTaskInfo.getLogger(), mainSystemContext);
     }
 
 
-    private  < R> R taskRun(T value, NullTask<T, R> nullTask, StringBuilder linkLog, Object... params) throws Exception {
+    private  < R> R taskRun(T value, NullTask<T, R> nullTask, NullLinkLog linkLog, Object... params) throws Exception {
         Map<String, Object> map = new HashMap<>();
         Object[] objects = params == null ? NullConstants.EMPTY_OBJECT_ARRAY : params;
         //校验参数类型和长度
@@ -386,7 +364,7 @@ public class NullWorkFlowBase<T> extends NullFinalityBase<T> implements NullWork
         return nullTask.run(value, nullChains, map);
     }
 
-    private  <R> R toolRun(T value, NullTool<T, R> nullTool, StringBuilder linkLog, Object... params) throws NullChainCheckException {
+    private  <R> R toolRun(T value, NullTool<T, R> nullTool, NullLinkLog linkLog, Object... params) throws NullChainCheckException {
         Map<String, Object> map = new HashMap<>();
         Object[] objects = params == null ? NullConstants.EMPTY_OBJECT_ARRAY : params;
         //校验参数类型和长度
@@ -5,6 +5,7 @@ import com.gitee.huanminabc.nullchain.common.NullGroupNfTask;
 import com.gitee.huanminabc.nullchain.common.NullGroupTask;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 import com.gitee.huanminabc.nullchain.core.NullWorkFlow;
+import com.gitee.huanminabc.nullchain.language.NfCompiledScript;
 import com.gitee.huanminabc.nullchain.task.NullTask;
 import com.gitee.huanminabc.nullchain.tool.NullTool;
 
@@ -77,6 +78,12 @@ public interface NullWorkFlowExt<T> extends NullWorkFlow<T>,  NullFinalityExt<T>
         return tNullChain.nfTask(filePath, params);
     }
 
+    @Override
+    default NullChain<?> nfTask(NfCompiledScript compiledScript, Object... params){
+        NullChain<T> tNullChain = toNULL();
+        return tNullChain.nfTask(compiledScript, params);
+    }
+
     @Override
     default NullChain<?> nfTask(NullGroupNfTask.NullTaskInfo nullTaskInfo){
         NullChain<T> tNullChain = toNULL();
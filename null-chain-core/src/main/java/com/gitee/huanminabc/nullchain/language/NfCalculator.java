@@ -4,6 +4,7 @@ import com.gitee.huanminabc.nullchain.language.internal.FunDefInfo;
 import com.gitee.huanminabc.nullchain.language.internal.FunRefInfo;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
+import com.gitee.huanminabc.nullchain.language.internal.NfJexlContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.linenode.FunCallSyntaxNode;
 import com.gitee.huanminabc.nullchain.language.token.Token;
@@ -20,6 +21,7 @@ import org.apache.commons.jexl3.MapContext;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,6 +69,14 @@ public class NfCalculator {
         .maximumSize(10000)
         .expireAfterAccess(1, TimeUnit.HOURS)
         .build();
+    /**
+     * 编译后的NF表达式缓存, 语法节点在解析时直接持有编译结果, 其他地方传入的表达式字符串通过这里复用
+     * key: 表达式字符串, value: 编译后的NF表达式
+     */
+    private static final Cache<String, NfExpression> compiledExpressionCache = Caffeine.newBuilder()
+        .maximumSize(10000)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
     private static final Cache<String, List<Token>> functionCallTokenCache = Caffeine.newBuilder()
         .maximumSize(5000)
         .expireAfterAccess(1, TimeUnit.HOURS)
@@ -93,41 +103,6 @@ public class NfCalculator {
         }
     }
 
-    /**
-     * JEXL 分层上下文：基础变量视图只读复用，表达式执行过程中的临时变量、导入类型放到 overlay。
-     */
-    private static class LayeredJexlContext implements JexlContext {
-        private final Map<String, Object> baseValues;
-        private final Map<String, Object> importedValues;
-        private final Map<String, Object> overlayValues = new HashMap<>();
-
-        LayeredJexlContext(Map<String, Object> baseValues, Map<String, Object> importedValues) {
-            this.baseValues = baseValues == null ? Collections.emptyMap() : baseValues;
-            this.importedValues = importedValues == null ? Collections.emptyMap() : importedValues;
-        }
-
-        @Override
-        public boolean has(String name) {
-            return overlayValues.containsKey(name) || importedValues.containsKey(name) || baseValues.containsKey(name);
-        }
-
-        @Override
-        public Object get(String name) {
-            if (overlayValues.containsKey(name)) {
-                return overlayValues.get(name);
-            }
-            if (importedValues.containsKey(name)) {
-                return importedValues.get(name);
-            }
-            return baseValues.get(name);
-        }
-
-        @Override
-        public void set(String name, Object value) {
-            overlayValues.put(name, value);
-        }
-    }
-
     /**
      * 预处理表达式，将 instanceof 转换为 JEXL 支持的语法
      * instanceof 有两层含义：1.判断类型相等 2.判断是否是子类
@@ -202,10 +177,105 @@ public class NfCalculator {
         return jexl.createExpression(expression).evaluate(context);
     }
 
+    /**
+     * 编译表达式 - 静态分析表达式文本, 结果按表达式字符串全局缓存
+     *
+     * <p>只做不依赖运行时上下文的处理: 收集标识符、`名称.成员`访问和函数调用, 改写instanceof。
+     * JEXL表达式在第一次计算时才编译, 编译失败的表达式(需要运行时改写的)不影响解析。</p>
+     *
+     * @param expression 表达式
+     * @return 编译后的表达式
+     */
+    public static NfExpression compile(String expression) {
+        if (expression == null) {
+            throw new NfException("表达式不能为null");
+        }
+        return compiledExpressionCache.get(expression, NfCalculator::analyze);
+    }
+
+    private static NfExpression analyze(String expression) {
+        Set<String> identifiers = new LinkedHashSet<>();
+        Set<String> qualifiers = new LinkedHashSet<>();
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char current = expression.charAt(i);
+            if (!Character.isJavaIdentifierPart(current)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && Character.isJavaIdentifierPart(expression.charAt(i))) {
+                i++;
+            }
+            //数字开头的不是标识符, 比如1e5
+            if (!Character.isJavaIdentifierStart(current)) {
+                continue;
+            }
+            String name = expression.substring(start, i);
+            identifiers.add(name);
+            int next = i;
+            while (next < length && Character.isWhitespace(expression.charAt(next))) {
+                next++;
+            }
+            if (next < length && expression.charAt(next) == '.') {
+                qualifiers.add(name);
+            }
+        }
+        java.util.regex.Matcher scriptMatcher = IMPORTED_SCRIPT_ACCESS_PATTERN.matcher(expression);
+        while (scriptMatcher.find()) {
+            qualifiers.add(scriptMatcher.group(1));
+        }
+
+        // instanceof的改写只依赖类型名, 类型的全限定名在计算时按importMap解析
+        java.util.regex.Matcher matcher = INSTANCEOF_PATTERN.matcher(expression);
+        StringBuffer sb = new StringBuffer();
+        List<String[]> instanceofTypes = new java.util.ArrayList<>();
+        while (matcher.find()) {
+            String varName = matcher.group(1);
+            String typeName = matcher.group(2);
+            String typeVarName = "__" + typeName.replace(".", "_") + "_Class";
+            instanceofTypes.add(new String[]{typeVarName, typeName});
+            matcher.appendReplacement(sb, String.format("%s.isAssignableFrom(%s.class)", typeVarName, varName));
+        }
+        matcher.appendTail(sb);
+
+        boolean call = expression.indexOf('(') >= 0 && expression.indexOf(')') >= 0;
+        return new NfExpression(
+            expression,
+            Collections.unmodifiableSet(identifiers),
+            Collections.unmodifiableSet(qualifiers),
+            GLOBAL_ACCESS_PATTERN.matcher(expression).find(),
+            call,
+            containsLambdaArrow(expression),
+            sb.toString(),
+            instanceofTypes.toArray(new String[0][]),
+            isValidIdentifier(expression.trim())
+        );
+    }
+
     public static Object arithmetic(String expression, NfContext nfContext) {
         if (nfContext == null) {
             throw new NfException("nfContext为null，无法计算表达式: " + expression);
         }
+        return arithmetic(compile(expression), nfContext);
+    }
+
+    /**
+     * 计算编译后的表达式
+     *
+     * <p>表达式没有引用导入脚本、全局变量和NF函数时, 直接绑定变量计算缓存的JEXL表达式,
+     * 否则和以前一样先对表达式文本做改写再计算。</p>
+     *
+     * @param compiled  编译后的表达式
+     * @param nfContext NF上下文
+     * @return 计算结果
+     */
+    public static Object arithmetic(NfExpression compiled, NfContext nfContext) {
+        String expression = compiled.getSource();
+        if (nfContext == null) {
+            throw new NfException("nfContext为null，无法计算表达式: " + expression);
+        }
 
         //检查超时（表达式计算前检查，防止复杂表达式长时间执行）
         nfContext.checkTimeout();
@@ -216,15 +286,11 @@ public class NfCalculator {
         if (currentScope == null) {
             throw new NfException("当前作用域为null，无法计算表达式: " + expression + "，currentScopeId: " + nfContext.getCurrentScopeId());
         }
-        JexlContext context = new LayeredJexlContext(
-            nfContext.getVisibleVariables(),
-            nfContext.getResolvedImportValues(NfCalculator::resolveClass)
-        );
 
         // 特殊处理：如果表达式只是单个标识符，检查是否是函数引用变量
         // 函数引用变量不能参与表达式计算，只能作为参数传递
-        String trimmedExpression = expression.trim();
-        if (isValidIdentifier(trimmedExpression)) {
+        String trimmedExpression = compiled.getTrimmed();
+        if (compiled.isIdentifier()) {
             // 检查是否是函数引用变量
             if (nfContext.hasFunRef(trimmedExpression)) {
                 // 直接返回函数引用对象，不参与表达式计算
@@ -245,6 +311,15 @@ public class NfCalculator {
         //获取类型导入
         Map<String, String> importMap = nfContext.getImportMap();
 
+        if (!compiled.needsRewrite(nfContext)) {
+            return evaluateCompiled(compiled, nfContext, currentScope, importMap);
+        }
+
+        JexlContext context = new NfJexlContext(
+            nfContext.getVisibleVariables(),
+            nfContext.getResolvedImportValues(NfCalculator::resolveClass)
+        );
+
         // 增加递归深度
         int depth = nfContext.getRecursionDepth();
         nfContext.setRecursionDepth(depth + 1);
@@ -309,6 +384,41 @@ public class NfCalculator {
         }
     }
 
+    /**
+     * 快速路径：表达式不需要改写，复用当前递归深度的JEXL上下文，直接计算编译好的表达式
+     * 变量直接从当前作用域按帧布局查找，不再合并作用域链上的变量
+     */
+    private static Object evaluateCompiled(NfExpression compiled, NfContext nfContext, NfContextScope currentScope,
+                                           Map<String, String> importMap) {
+        int depth = nfContext.getRecursionDepth();
+        nfContext.setRecursionDepth(depth + 1);
+        try {
+            NfJexlContext context = nfContext.acquireJexlContext(depth).reset(
+                currentScope,
+                nfContext.getResolvedImportValues(NfCalculator::resolveClass)
+            );
+            for (String[] type : compiled.instanceofTypes) {
+                context.set(type[0], resolveClass(resolveTypeName(type[1], importMap)));
+            }
+            JexlExpression jexlExpression = compiled.jexlExpression;
+            if (jexlExpression == null) {
+                jexlExpression = globalExpressionCache.get(compiled.rewritten, jexl::createExpression);
+                compiled.jexlExpression = jexlExpression;
+            }
+            return jexlExpression.evaluate(context);
+        } catch (NfReturnException e) {
+            // return语句需要穿透表达式计算，传播到函数调用处
+            throw e;
+        } catch (NfTimeoutException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("表达式计算错误 - 原始表达式: {}, 异常信息: {}", compiled.getSource(), e.getMessage(), e);
+            throw new NfException(e, "表达式计算错误: {}, 错误详情: {}", compiled.getSource(), e.getMessage());
+        } finally {
+            nfContext.setRecursionDepth(depth);
+        }
+    }
+
     /**
      * 预处理表达式中的导入脚本变量访问
      * 识别 `脚本名称.变量名` 模式，从导入脚本的作用域中获取变量值，替换为临时变量
@@ -0,0 +1,86 @@
+package com.gitee.huanminabc.nullchain.language;
+
+import com.gitee.huanminabc.nullchain.language.internal.NfContext;
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import org.slf4j.Logger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的NF脚本 - 由{@link NfMain#compile(String)}生成
+ *
+ * <p>脚本在编译时完成分词、语法解析、语法验证和作用域解析, 之后每次执行只创建新的上下文运行语法树,
+ * 不再计算脚本内容的MD5查找缓存, 也不再重复语法验证。适合同一个脚本被反复执行的场景, 编译一次后保存句柄复用。</p>
+ *
+ * <p>对象创建后不再修改, 每次执行使用独立的{@link NfContext}, 可以在多个线程之间共享并发执行。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public final class NfCompiledScript {
+
+    /** 脚本内容的MD5, 编译时计算一次 */
+    private final String key;
+
+    /** 解析后的语法节点 */
+    private final List<SyntaxNode> syntaxNodes;
+
+    /** 全局作用域的帧布局 */
+    private final NfFrameLayout mainLayout;
+
+    NfCompiledScript(String key, List<SyntaxNode> syntaxNodes, NfFrameLayout mainLayout) {
+        this.key = key;
+        this.syntaxNodes = Collections.unmodifiableList(syntaxNodes);
+        this.mainLayout = mainLayout;
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param logger            日志
+     * @param mainSystemContext 主系统上下文
+     * @return 脚本执行结果
+     */
+    public Object run(Logger logger, Map<String, Object> mainSystemContext) {
+        return NfRun.execute(syntaxNodes, mainLayout, new NfContext(), logger, mainSystemContext);
+    }
+
+    /**
+     * 执行脚本（支持性能监控）
+     *
+     * @param logger                      日志
+     * @param mainSystemContext           主系统上下文
+     * @param enablePerformanceMonitoring 是否启用性能监控
+     * @return 脚本执行结果
+     */
+    public Object run(Logger logger, Map<String, Object> mainSystemContext, boolean enablePerformanceMonitoring) {
+        return NfRun.execute(syntaxNodes, mainLayout, new NfContext(), logger, mainSystemContext, enablePerformanceMonitoring);
+    }
+
+    /**
+     * 获取脚本内容的MD5, 可以作为任务的唯一标识
+     *
+     * @return 脚本内容的MD5
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 获取解析后的语法节点
+     *
+     * @return 只读的语法节点列表
+     */
+    public List<SyntaxNode> getSyntaxNodes() {
+        return syntaxNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "NfCompiledScript[" + key + "]";
+    }
+}
@@ -0,0 +1,139 @@
+package com.gitee.huanminabc.nullchain.language;
+
+import com.gitee.huanminabc.nullchain.language.internal.NfContext;
+import org.apache.commons.jexl3.JexlExpression;
+
+import java.util.Set;
+
+/**
+ * NF编译后的表达式 - 由{@link NfCalculator#compile(String)}生成
+ *
+ * <p>表达式文本在解析时做一次静态分析, 记录表达式中出现的标识符、`名称.成员`形式的访问、
+ * 函数调用和instanceof, instanceof在这里就改写为JEXL支持的语法。
+ * 执行时如果表达式没有引用导入脚本、全局变量和NF函数, 就跳过所有的文本改写,
+ * 直接绑定变量计算缓存的{@link JexlExpression}。</p>
+ *
+ * <p>对象创建后不再修改(JEXL表达式延迟编译), 可以在多个线程和多次执行之间共享,
+ * 同一个语法树上的节点直接持有它。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NfCalculator#arithmetic(NfExpression, NfContext)
+ */
+public final class NfExpression {
+
+    /** 原始表达式 */
+    private final String source;
+
+    /** 去掉首尾空白的表达式 */
+    private final String trimmed;
+
+    /** 表达式是否只是单个标识符, 可能是函数引用 */
+    private final boolean identifier;
+
+    /** 表达式中出现的全部标识符, 包括字符串中的, 用于判断是否引用了NF函数或者函数引用 */
+    private final Set<String> identifiers;
+
+    /** `名称.成员`中的名称, 可能是导入的脚本 */
+    private final Set<String> qualifiers;
+
+    /** 是否有global.xxx访问 */
+    private final boolean globalAccess;
+
+    /** 是否可能有函数调用 */
+    private final boolean call;
+
+    /** 是否有lambda箭头 */
+    private final boolean arrow;
+
+    /** instanceof改写后的表达式, 没有instanceof时就是原表达式 */
+    final String rewritten;
+
+    /** instanceof需要的类型变量, 每项是[类型变量名, 类型名] */
+    final String[][] instanceofTypes;
+
+    /** 编译后的JEXL表达式, 第一次走快速路径时编译 */
+    volatile JexlExpression jexlExpression;
+
+    NfExpression(String source, Set<String> identifiers, Set<String> qualifiers, boolean globalAccess,
+                 boolean call, boolean arrow, String rewritten, String[][] instanceofTypes, boolean identifier) {
+        this.source = source;
+        this.trimmed = source.trim();
+        this.identifiers = identifiers;
+        this.qualifiers = qualifiers;
+        this.globalAccess = globalAccess;
+        this.call = call;
+        this.arrow = arrow;
+        this.rewritten = rewritten;
+        this.instanceofTypes = instanceofTypes;
+        this.identifier = identifier;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getTrimmed() {
+        return trimmed;
+    }
+
+    public boolean isIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * 获取表达式中出现的标识符(变量、函数、类型等)
+     *
+     * @return 只读的标识符集合
+     */
+    public Set<String> getIdentifiers() {
+        return identifiers;
+    }
+
+    /**
+     * 获取`名称.成员`形式访问中的名称
+     *
+     * @return 只读的名称集合
+     */
+    public Set<String> getQualifiers() {
+        return qualifiers;
+    }
+
+    /**
+     * 判断在当前上下文中是否需要走文本改写的完整路径
+     *
+     * <p>和{@link NfCalculator}中各个改写步骤的触发条件一致, 但只做哈希查找:
+     * 引用了导入脚本、global.xxx、NF函数或者函数引用, 以及带lambda的方法调用时需要改写。</p>
+     *
+     * @param context NF上下文
+     * @return true需要改写
+     */
+    boolean needsRewrite(NfContext context) {
+        if (globalAccess) {
+            return true;
+        }
+        for (String qualifier : qualifiers) {
+            if (context.hasImportedScript(qualifier)) {
+                return true;
+            }
+        }
+        if (!call) {
+            return false;
+        }
+        if (arrow) {
+            return true;
+        }
+        for (String name : identifiers) {
+            if (context.hasFunction(name) || context.hasFunRef(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
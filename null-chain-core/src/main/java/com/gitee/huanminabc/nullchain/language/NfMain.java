@@ -55,11 +55,11 @@ public class NfMain {
      * <p>key选择说明：</p>
      * <ul>
      *   <li>key: 脚本内容的MD5哈希值（32字符固定长度）</li>
-     *   <li>value: 解析后的语法节点列表</li>
+     *   <li>value: 预编译的脚本, 已完成解析、语法验证和作用域解析</li>
      *   <li>内存优化：1000个脚本约32KB（vs 直接存储脚本内容可能几GB）</li>
      * </ul>
      */
-    private static final Cache<String, List<SyntaxNode>> syntaxCache = Caffeine.newBuilder()
+    private static final Cache<String, NfCompiledScript> syntaxCache = Caffeine.newBuilder()
         .maximumSize(1000)
         .expireAfterAccess(1, TimeUnit.HOURS)
         .build();
@@ -94,11 +94,8 @@ public class NfMain {
         String hash = HashUtil.md5(context);
         //从缓存中获取语法节点，如果不存在则解析并缓存
         //Caffeine会自动处理过期和容量限制
-        List<SyntaxNode> getSyntaxNodes = syntaxCache.get(hash, key -> {
-            List<Token> tokens = NfToken.tokens(context);
-            return NfSynta.buildMainStatement(tokens);
-        });
-        return NfRun.run(getSyntaxNodes, logger, mainSystemContext);
+        NfCompiledScript compiled = syntaxCache.get(hash, key -> compile(key, context));
+        return compiled.run(logger, mainSystemContext);
     }
 
     /**
@@ -115,11 +112,40 @@ public class NfMain {
         String hash = HashUtil.md5(context);
         //从缓存中获取语法节点，如果不存在则解析并缓存
         //Caffeine会自动处理过期和容量限制
-        List<SyntaxNode> getSyntaxNodes = syntaxCache.get(hash, key -> {
-            List<Token> tokens = NfToken.tokens(context);
-            return NfSynta.buildMainStatement(tokens);
-        });
-        return NfRun.run(getSyntaxNodes, logger, mainSystemContext, enablePerformanceMonitoring);
+        NfCompiledScript compiled = syntaxCache.get(hash, key -> compile(key, context));
+        return compiled.run(logger, mainSystemContext, enablePerformanceMonitoring);
+    }
+
+    /**
+     * 预编译脚本
+     *
+     * <p>完成分词、语法解析、语法验证和作用域解析, 返回的句柄可以在多个线程之间共享并反复执行,
+     * 执行时不再计算脚本内容的MD5, 也不再重复语法验证。相同内容的脚本共用{@link #run(String, Logger, Map)}的语法缓存。</p>
+     *
+     * @param context 脚本内容
+     * @return 预编译的脚本
+     * @throws NfException 如果脚本内容为空或者存在语法错误
+     */
+    public static NfCompiledScript compile(String context) {
+        if (context == null || context.trim().isEmpty()) {
+            throw new NfException("脚本内容不能为空");
+        }
+        return syntaxCache.get(HashUtil.md5(context), key -> compile(key, context));
+    }
+
+    /**
+     * 解析并验证脚本, 语法树放入缓存之前完成作用域解析
+     *
+     * @param key     脚本内容的MD5
+     * @param context 脚本内容
+     * @return 预编译的脚本
+     */
+    private static NfCompiledScript compile(String key, String context) {
+        List<Token> tokens = NfToken.tokens(context);
+        List<SyntaxNode> syntaxNodes = NfSynta.buildMainStatement(tokens);
+        // 编译时验证一次, 执行时不再重复验证
+        SyntaxValidator.validate(syntaxNodes);
+        return new NfCompiledScript(key, syntaxNodes, NfScopeResolver.resolve(syntaxNodes));
     }
 
 }
@@ -1,10 +1,11 @@
 package com.gitee.huanminabc.nullchain.language;
 
 import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
-import com.gitee.huanminabc.jcommon.reflect.BeanCopyUtil;
+import com.gitee.huanminabc.nullchain.common.NullCopier;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
 import com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeFactory;
@@ -12,11 +13,6 @@ import com.gitee.huanminabc.nullchain.language.syntaxNode.linenode.ExportSyntaxN
 import com.gitee.huanminabc.nullchain.language.SyntaxValidator;
 import org.slf4j.Logger;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +26,30 @@ import java.util.Map;
  */
 public class NfRun {
 
+    /**
+     * 脚本参数是否使用写时复制, 默认false深拷贝全部可变参数
+     * 开启后Map和List参数只在脚本修改时才复制, 适合只读为主的参数
+     */
+    private static volatile boolean copyOnWriteParams = false;
+
+    /**
+     * 设置脚本参数是否使用写时复制
+     *
+     * @param copyOnWrite true开启写时复制
+     */
+    public static void setCopyOnWriteParams(boolean copyOnWrite) {
+        copyOnWriteParams = copyOnWrite;
+    }
+
+    /**
+     * 获取脚本参数是否使用写时复制
+     *
+     * @return true开启写时复制
+     */
+    public static boolean isCopyOnWriteParams() {
+        return copyOnWriteParams;
+    }
+
     /**
      * 初始化上下文和作用域
      * 
@@ -39,6 +59,20 @@ public class NfRun {
      * @return 创建的全局作用域
      */
     public static NfContextScope prepareContext(NfContext context, Logger logger, Map<String, Object> mainSystemContext) {
+        return prepareContext(context, logger, mainSystemContext, null);
+    }
+
+    /**
+     * 初始化上下文和作用域
+     *
+     * @param context 上下文
+     * @param logger 日志
+     * @param mainSystemContext 主系统上下文
+     * @param mainLayout 全局作用域的帧布局, 由{@link NfScopeResolver#resolve(List)}生成, 可以为null
+     * @return 创建的全局作用域
+     */
+    public static NfContextScope prepareContext(NfContext context, Logger logger, Map<String, Object> mainSystemContext,
+                                                NfFrameLayout mainLayout) {
         // 开始执行，记录开始时间用于超时检查
         context.startExecution();
         
@@ -47,7 +81,7 @@ public class NfRun {
         context.setMainScopeId(mainScopeId);
         context.setCurrentScopeId(mainScopeId);
         //创建一个作用域(全局)
-        NfContextScope scope = context.createScope(mainScopeId, null, NfContextScopeType.ALL);
+        NfContextScope scope = context.createScope(mainScopeId, null, NfContextScopeType.ALL, mainLayout);
         
         //添加日志
         if (logger != null) {
@@ -85,6 +119,7 @@ public class NfRun {
     private static void setupMainSystemContext(NfContextScope scope, Map<String, Object> mainSystemContext) {
         //添加系统上下文
         if (mainSystemContext != null) {
+            boolean copyOnWrite = copyOnWriteParams;
             for (Map.Entry<String, Object> entry : mainSystemContext.entrySet()) {
                 Object value = entry.getValue();
                 Object copiedValue;
@@ -94,8 +129,8 @@ public class NfRun {
                 if (value == null || isImmutableType(valueClass)) {
                     copiedValue = value; // 直接使用原值
                 } else {
-                    //对可变对象进行深度复制,避免被修改
-                    copiedValue = BeanCopyUtil.deepCopy(value);
+                    //对可变对象进行深度复制,避免被修改; 开启写时复制时Map和List在修改时才复制
+                    copiedValue = copyOnWrite ? NullCopier.copyOnWrite(value) : NullCopier.deepCopy(value);
                     valueClass = copiedValue != null ? copiedValue.getClass() : valueClass;
                 }
                 scope.addVariable(new NfVariableInfo(entry.getKey(), copiedValue, valueClass));
@@ -139,9 +174,24 @@ public class NfRun {
     public static Object run(List<SyntaxNode> syntaxNodes, NfContext context, Logger logger, Map<String,Object> mainSystemContext) {
         // 在执行前进行语法验证，提前发现语法错误
         SyntaxValidator.validate(syntaxNodes);
-        
+        return execute(syntaxNodes, null, context, logger, mainSystemContext);
+    }
+
+    /**
+     * 执行已经验证过的语法树, 不再重复语法验证
+     *
+     * @param syntaxNodes 语法节点列表
+     * @param mainLayout 全局作用域的帧布局, 可以为null
+     * @param context 上下文
+     * @param logger 日志
+     * @param mainSystemContext 主系统上下文
+     * @return 执行结果
+     * @see NfCompiledScript
+     */
+    static Object execute(List<SyntaxNode> syntaxNodes, NfFrameLayout mainLayout, NfContext context, Logger logger,
+                          Map<String,Object> mainSystemContext) {
         //初始化上下文和作用域
-        NfContextScope scope = prepareContext(context, logger, mainSystemContext);
+        NfContextScope scope = prepareContext(context, logger, mainSystemContext, mainLayout);
 
         try {
             //执行语法节点
@@ -166,6 +216,24 @@ public class NfRun {
      */
     public static Object run(List<SyntaxNode> syntaxNodes, NfContext context, Logger logger, 
                             Map<String,Object> mainSystemContext, boolean enablePerformanceMonitoring) {
+        // 在执行前进行语法验证，提前发现语法错误
+        SyntaxValidator.validate(syntaxNodes);
+        return execute(syntaxNodes, null, context, logger, mainSystemContext, enablePerformanceMonitoring);
+    }
+
+    /**
+     * 执行已经验证过的语法树（支持性能监控）, 不再重复语法验证
+     *
+     * @param syntaxNodes 语法节点列表
+     * @param mainLayout 全局作用域的帧布局, 可以为null
+     * @param context 上下文
+     * @param logger 日志
+     * @param mainSystemContext 主系统上下文
+     * @param enablePerformanceMonitoring 是否启用性能监控
+     * @return 执行结果
+     */
+    static Object execute(List<SyntaxNode> syntaxNodes, NfFrameLayout mainLayout, NfContext context, Logger logger,
+                          Map<String,Object> mainSystemContext, boolean enablePerformanceMonitoring) {
         NfPerformanceMonitor monitor = enablePerformanceMonitoring ? new NfPerformanceMonitor() : null;
         NfPerformanceMonitor previousMonitor = context.getPerformanceMonitor();
         
@@ -174,11 +242,8 @@ public class NfRun {
         }
         context.setPerformanceMonitor(monitor);
         
-        // 在执行前进行语法验证，提前发现语法错误
-        SyntaxValidator.validate(syntaxNodes);
-        
         //初始化上下文和作用域
-        NfContextScope scope = prepareContext(context, logger, mainSystemContext);
+        NfContextScope scope = prepareContext(context, logger, mainSystemContext, mainLayout);
 
         try {
             //执行语法节点（如果启用性能监控，传递monitor）
@@ -238,48 +303,15 @@ public class NfRun {
      * 不可变类型包括：
      * - 基本类型的包装类（String, Integer, Long, Double, Float, Boolean, Byte, Short, Character）
      * - 数值类型（BigInteger, BigDecimal）
-     * - 日期时间类型（Date, LocalDate, LocalDateTime, LocalTime）
-     * - Class类型
+     * - 日期时间类型（Date, LocalDate, LocalDateTime, LocalTime, Instant等）
+     * - 枚举、Class和UUID类型
      * 
      * @param clazz 类型
      * @return 如果是不可变类型返回true，否则返回false
      */
     private static boolean isImmutableType(Class<?> clazz) {
-        if (clazz == null) {
-            return true;
-        }
-        // 基本类型包装类
-        if (clazz == String.class || 
-            clazz == Integer.class || 
-            clazz == Long.class || 
-            clazz == Double.class || 
-            clazz == Float.class || 
-            clazz == Boolean.class || 
-            clazz == Byte.class || 
-            clazz == Short.class || 
-            clazz == Character.class) {
-            return true;
-        }
-        // 数值类型
-        if (clazz == BigInteger.class || clazz == BigDecimal.class) {
-            return true;
-        }
-        // 日期时间类型
-        if (clazz == Date.class || 
-            clazz == LocalDate.class || 
-            clazz == LocalDateTime.class || 
-            clazz == LocalTime.class) {
-            return true;
-        }
-        // Class类型
-        if (clazz == Class.class) {
-            return true;
-        }
-        // 基本类型
-        if (clazz.isPrimitive()) {
-            return true;
-        }
-        return false;
+        //脚本只读取Date参数, 和之前一样直接使用原值
+        return clazz == Date.class || NullCopier.isImmutable(clazz);
     }
 
 }
@@ -0,0 +1,100 @@
+package com.gitee.huanminabc.nullchain.language;
+
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.BlockSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeAbs;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.DoWhileSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.ForSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.FunDefSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.IFSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.SwitchSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.WhileSyntaxNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 作用域解析器 - 在{@link NfSynta#buildMainStatement(List)}之后对语法树做一次解析
+ *
+ * <p>为脚本全局和每个会创建作用域的块(if/switch的分支、for/while/do-while的循环体、函数体)生成{@link NfFrameLayout},
+ * 块中声明的变量分配槽位, 块中能看到的变量得到(深度, 槽位)坐标。
+ * 运行时作用域按布局把变量存放在数组中, 查找变量时按坐标直接定位, 不再逐层按名称查找和合并作用域链上的变量。</p>
+ *
+ * <p>解析只读取解析阶段记录在节点上的声明信息, 不改变脚本的语义:
+ * 没有经过解析的语法树(比如运行时才构建的lambda函数体)照常按名称查找变量。
+ * 解析结果保存在节点上, 需要在语法树被多个线程共享之前完成。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public final class NfScopeResolver {
+
+    private NfScopeResolver() {
+    }
+
+    /**
+     * 解析脚本的语法树
+     *
+     * @param syntaxNodes 脚本最外层的语法节点
+     * @return 脚本全局作用域的帧布局
+     */
+    public static NfFrameLayout resolve(List<SyntaxNode> syntaxNodes) {
+        return resolveBlock(syntaxNodes, null, null);
+    }
+
+    /**
+     * 解析一个块
+     *
+     * @param syntaxNodes    块中的语法节点
+     * @param frameVariables 块自己的变量, 比如循环变量和函数参数
+     * @param parent         外层块的布局, 函数体和脚本全局为null
+     * @return 块的帧布局
+     */
+    private static NfFrameLayout resolveBlock(List<SyntaxNode> syntaxNodes, List<String> frameVariables, NfFrameLayout parent) {
+        List<String> names = new ArrayList<>();
+        if (frameVariables != null) {
+            names.addAll(frameVariables);
+        }
+        List<SyntaxNode> nodes = syntaxNodes == null ? Collections.<SyntaxNode>emptyList() : syntaxNodes;
+        //先收集当前块声明的变量, 再解析内层的块, 内层的坐标需要外层完整的布局
+        for (SyntaxNode node : nodes) {
+            if (!(node instanceof BlockSyntaxNode) && node instanceof SyntaxNodeAbs) {
+                List<String> declared = ((SyntaxNodeAbs) node).getDeclaredVariables();
+                if (declared != null) {
+                    names.addAll(declared);
+                }
+            }
+        }
+        NfFrameLayout layout = new NfFrameLayout(names, parent);
+        for (SyntaxNode node : nodes) {
+            resolveNested(node, layout);
+        }
+        return layout;
+    }
+
+    private static void resolveNested(SyntaxNode node, NfFrameLayout layout) {
+        if (node instanceof IFSyntaxNode || node instanceof SwitchSyntaxNode) {
+            //if和switch的每个分支单独创建作用域
+            List<SyntaxNode> branches = ((SyntaxNodeAbs) node).getChildSyntaxNodeList();
+            if (branches == null) {
+                return;
+            }
+            for (SyntaxNode branch : branches) {
+                if (branch instanceof SyntaxNodeAbs) {
+                    SyntaxNodeAbs branchNode = (SyntaxNodeAbs) branch;
+                    branchNode.setFrameLayout(resolveBlock(branchNode.getChildSyntaxNodeList(), null, layout));
+                }
+            }
+        } else if (node instanceof ForSyntaxNode || node instanceof WhileSyntaxNode || node instanceof DoWhileSyntaxNode) {
+            SyntaxNodeAbs loopNode = (SyntaxNodeAbs) node;
+            loopNode.setFrameLayout(resolveBlock(loopNode.getChildSyntaxNodeList(), loopNode.getDeclaredVariables(), layout));
+        } else if (node instanceof FunDefSyntaxNode) {
+            //函数作用域的父作用域是调用方的作用域, 坐标在函数边界停止
+            SyntaxNodeAbs funNode = (SyntaxNodeAbs) node;
+            funNode.setFrameLayout(resolveBlock(funNode.getChildSyntaxNodeList(), funNode.getDeclaredVariables(), null));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.gitee.huanminabc.nullchain.language;
 
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
 import com.gitee.huanminabc.nullchain.language.token.Token;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,13 @@ public class NfScriptRegistry {
      */
     private static final Map<String, List<SyntaxNode>> scriptMap = new ConcurrentHashMap<>();
 
+    /**
+     * 脚本全局作用域的帧布局
+     * key: 脚本名称
+     * value: 注册时解析语法树生成的帧布局
+     */
+    private static final Map<String, NfFrameLayout> layoutMap = new ConcurrentHashMap<>();
+
     /**
      * 注册 nf 脚本
      *
@@ -54,8 +62,10 @@ public class NfScriptRegistry {
             List<Token> tokens = NfToken.tokens(scriptContent);
             List<SyntaxNode> syntaxNodes = NfSynta.buildMainStatement(tokens);
             SyntaxValidator.validate(syntaxNodes);
+            NfFrameLayout mainLayout = NfScopeResolver.resolve(syntaxNodes);
 
-            // 存储到注册表
+            // 存储到注册表, 先放布局再放语法节点, 查到语法节点时布局一定已经存在
+            layoutMap.put(name, mainLayout);
             scriptMap.put(name, syntaxNodes);
             log.debug("注册NF脚本成功: {}, 语法节点数量: {}", name, syntaxNodes.size());
         } catch (Exception e) {
@@ -73,6 +83,16 @@ public class NfScriptRegistry {
         return scriptMap.get(name);
     }
 
+    /**
+     * 获取脚本全局作用域的帧布局
+     *
+     * @param name 脚本名称
+     * @return 帧布局，如果脚本不存在返回 null
+     */
+    public static NfFrameLayout getScriptFrameLayout(String name) {
+        return layoutMap.get(name);
+    }
+
     /**
      * 检查脚本是否存在
      *
@@ -91,6 +111,7 @@ public class NfScriptRegistry {
      */
     public static boolean removeScript(String name) {
         List<SyntaxNode> removed = scriptMap.remove(name);
+        layoutMap.remove(name);
         if (removed != null) {
             log.debug("移除NF脚本: {}", name);
             return true;
@@ -103,6 +124,7 @@ public class NfScriptRegistry {
      */
     public static void clear() {
         scriptMap.clear();
+        layoutMap.clear();
         log.debug("清空所有NF脚本");
     }
 
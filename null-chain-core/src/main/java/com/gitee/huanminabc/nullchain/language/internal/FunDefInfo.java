@@ -39,6 +39,11 @@ public class FunDefInfo {
      * 函数体（语法节点列表）
      */
     private List<SyntaxNode> bodyNodes = new ArrayList<>();
+
+    /**
+     * 函数作用域的帧布局（参数和函数体中声明的变量），没有经过解析的函数为null
+     */
+    private NfFrameLayout frameLayout;
     
     /**
      * 函数参数信息
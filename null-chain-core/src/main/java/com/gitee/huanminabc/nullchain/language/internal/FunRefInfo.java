@@ -55,6 +55,12 @@ public class FunRefInfo {
      */
     private FunTypeInfo funTypeInfo;
 
+    /**
+     * 捕获时作用域的重置次数
+     * 循环的全部迭代复用同一个作用域, 调用时重置次数不同说明已经是后面的迭代, 捕获时的作用域已经不存在
+     */
+    private int captureScopeResetCount;
+
     /**
      * 判断两个函数引用是否相等
      * 相等条件：函数名相同或函数定义信息相同
@@ -105,7 +111,7 @@ public class FunRefInfo {
      * @return 函数引用信息
      */
     public static FunRefInfo createFunRef(String functionName, FunDefInfo funDefInfo, FunTypeInfo funTypeInfo) {
-        return new FunRefInfo(functionName, funDefInfo, false, null, null, funTypeInfo);
+        return new FunRefInfo(functionName, funDefInfo, false, null, null, funTypeInfo, 0);
     }
 
     /**
@@ -121,6 +127,24 @@ public class FunRefInfo {
                                           Map<String, Object> capturedVariables,
                                           String captureScopeId,
                                           FunTypeInfo funTypeInfo) {
-        return new FunRefInfo(null, funDefInfo, true, capturedVariables, captureScopeId, funTypeInfo);
+        return createLambda(funDefInfo, capturedVariables, captureScopeId, 0, funTypeInfo);
+    }
+
+    /**
+     * 创建 Lambda 表达式, 记录捕获时作用域的重置次数
+     *
+     * @param funDefInfo             函数定义信息
+     * @param capturedVariables      捕获的外部变量
+     * @param captureScopeId         捕获时的作用域 ID
+     * @param captureScopeResetCount 捕获时作用域的重置次数
+     * @param funTypeInfo            函数类型信息
+     * @return Lambda 表达式信息
+     */
+    public static FunRefInfo createLambda(FunDefInfo funDefInfo,
+                                          Map<String, Object> capturedVariables,
+                                          String captureScopeId,
+                                          int captureScopeResetCount,
+                                          FunTypeInfo funTypeInfo) {
+        return new FunRefInfo(null, funDefInfo, true, capturedVariables, captureScopeId, funTypeInfo, captureScopeResetCount);
     }
 }
@@ -164,6 +164,9 @@ public class NfContext {
     //从 ThreadLocal 改为实例字段，因为每个脚本执行都有独立的 NfContext
     private int recursionDepth = 0;
 
+    //表达式计算使用的JEXL上下文, 按递归深度复用, 避免循环中每次计算都创建上下文
+    private NfJexlContext[] jexlContextPool = new NfJexlContext[4];
+
     //脚本执行开始时间（毫秒时间戳）
     //用于计算脚本执行总时长，判断是否超时
     private long executionStartTime = 0;
@@ -295,8 +298,24 @@ public class NfContext {
 
     //创建一个作用域
     public NfContextScope createScope(String id, String parentScopeId, NfContextScopeType type) {
+        return createScope(id, parentScopeId, type, null);
+    }
+
+    /**
+     * 创建一个作用域
+     *
+     * @param id            作用域id
+     * @param parentScopeId 父作用域id
+     * @param type          作用域类型
+     * @param layout        帧布局, 为null时变量全部按名称存放
+     * @return 新的作用域
+     */
+    public NfContextScope createScope(String id, String parentScopeId, NfContextScopeType type, NfFrameLayout layout) {
         checkCleared();
-        NfContextScope nfContextScope = new NfContextScope(id, parentScopeId, type);
+        NfContextScope nfContextScope = new NfContextScope(id, parentScopeId, type, layout);
+        if (parentScopeId != null) {
+            nfContextScope.setParentScope(scopeMap.get(parentScopeId));
+        }
         scopeMap.put(id, nfContextScope);
         return nfContextScope;
     }
@@ -346,14 +365,7 @@ public class NfContext {
 
         Map<String, Object> visibleVariables = new HashMap<>(Math.max(16, chainState.estimatedSize * 2));
         for (int i = chainState.scopes.size() - 1; i >= 0; i--) {
-            NfContextScope scope = chainState.scopes.get(i);
-            Map<String, NfVariableInfo> variables = scope.getValue();
-            if (variables == null || variables.isEmpty()) {
-                continue;
-            }
-            for (Map.Entry<String, NfVariableInfo> entry : variables.entrySet()) {
-                visibleVariables.put(entry.getKey(), entry.getValue().getValue());
-            }
+            chainState.scopes.get(i).collectVariables(visibleVariables);
         }
 
         VisibleVariablesSnapshot snapshot = new VisibleVariablesSnapshot(
@@ -420,10 +432,7 @@ public class NfContext {
             }
 
             scopes.add(scope);
-            Map<String, NfVariableInfo> variables = scope.getValue();
-            if (variables != null) {
-                estimatedSize += variables.size();
-            }
+            estimatedSize += scope.variableCount();
 
             fingerprint ^= currentId.hashCode();
             fingerprint *= SNAPSHOT_HASH_PRIME;
@@ -448,11 +457,23 @@ public class NfContext {
     //创建子作用域
     //原理就是将主作用域和父作用域合并到新的作用域
     public NfContextScope createChildScope(String parentScopeId, NfContextScopeType type) {
+        return createChildScope(parentScopeId, type, null);
+    }
+
+    /**
+     * 创建子作用域并切换为当前作用域
+     *
+     * @param parentScopeId 父作用域id
+     * @param type          作用域类型
+     * @param layout        块的帧布局, 为null时变量全部按名称存放
+     * @return 新的作用域
+     */
+    public NfContextScope createChildScope(String parentScopeId, NfContextScopeType type, NfFrameLayout layout) {
         checkCleared();
         //创建一个作用域id
         String scopeId = NfContext.generateScopeId();
         //新的作用域
-        NfContextScope scope = createScope(scopeId, parentScopeId, type);
+        NfContextScope scope = createScope(scopeId, parentScopeId, type, layout);
         //切换当前作用域为新的作用域
         switchScope(scopeId);
         return scope;
@@ -550,27 +571,11 @@ public class NfContext {
 
 
     //获取变量,优先从当前作用域获取,如果没有,那么就从父作用域获取直到全局作用域
+    //作用域有帧布局时按解析阶段分配的(深度, 槽位)坐标直接定位
     public NfVariableInfo getVariable(String name) {
         checkCleared();
-        return getVariable(name, currentScopeId);
-    }
-
-    //递归获取变量, 获取父作用域的变量
-    private NfVariableInfo getVariable(String name, String scopeId) {
-        if (scopeId == null) {
-            return null;
-        }
-
-        NfContextScope nfContextScope = scopeMap.get(scopeId);
-        if (nfContextScope != null) {
-            NfVariableInfo nfVariableInfo = nfContextScope.getVariable(name);
-            if (nfVariableInfo != null) {
-                return nfVariableInfo;
-            }
-            //如果当前没有找到,那么就从父作用域获取
-            return getVariable(name, nfContextScope.getParentScopeId());
-        }
-        return null;
+        NfContextScope currentScope = currentScopeId == null ? null : scopeMap.get(currentScopeId);
+        return currentScope == null ? null : currentScope.findVisibleVariable(name);
     }
 
     /**
@@ -582,27 +587,8 @@ public class NfContext {
      */
     public NfContextScope findVariableScope(String name) {
         checkCleared();
-        return findVariableScope(name, currentScopeId);
-    }
-
-    /**
-     * 递归查找变量所在的作用域
-     * 
-     * @param name 变量名
-     * @param scopeId 当前作用域ID
-     * @return 包含该变量的作用域，如果不存在则返回null
-     */
-    private NfContextScope findVariableScope(String name, String scopeId) {
-        NfContextScope nfContextScope = scopeMap.get(scopeId);
-        if (nfContextScope != null) {
-            NfVariableInfo nfVariableInfo = nfContextScope.getVariable(name);
-            if (nfVariableInfo != null) {
-                return nfContextScope;
-            }
-            //如果当前作用域没有找到,那么就从父作用域查找
-            return findVariableScope(name, nfContextScope.getParentScopeId());
-        }
-        return null;
+        NfContextScope currentScope = currentScopeId == null ? null : scopeMap.get(currentScopeId);
+        return currentScope == null ? null : currentScope.findVariableFrame(name);
     }
 
     //移除一个作用域
@@ -831,6 +817,28 @@ public class NfContext {
         interfaceDefaultImplMap.put(interfaceType, implType);
     }
 
+    /**
+     * 获取指定递归深度复用的JEXL上下文
+     *
+     * <p>表达式计算中调用的函数会在更深的递归深度上计算表达式, 不同深度使用不同的上下文对象,
+     * 所以外层表达式计算期间它的上下文不会被内层覆盖。</p>
+     *
+     * @param depth 表达式的递归深度
+     * @return JEXL上下文, 使用前需要调用{@link NfJexlContext#reset(Map, Map)}
+     */
+    public NfJexlContext acquireJexlContext(int depth) {
+        checkCleared();
+        if (depth >= jexlContextPool.length) {
+            jexlContextPool = Arrays.copyOf(jexlContextPool, Math.max(depth + 1, jexlContextPool.length * 2));
+        }
+        NfJexlContext jexlContext = jexlContextPool[depth];
+        if (jexlContext == null) {
+            jexlContext = new NfJexlContext();
+            jexlContextPool[depth] = jexlContext;
+        }
+        return jexlContext;
+    }
+
     /**
      * 添加函数引用
      *
@@ -930,6 +938,10 @@ public class NfContext {
             tempVarStorage.clear();
         }
 
+        if (jexlContextPool != null) {
+            Arrays.fill(jexlContextPool, null);
+        }
+
         // 重置其他字段
         recursionDepth = 0;
         executionStartTime = 0;
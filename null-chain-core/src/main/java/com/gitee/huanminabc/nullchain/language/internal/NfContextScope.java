@@ -1,13 +1,19 @@
 package com.gitee.huanminabc.nullchain.language.internal;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * 上下文作用域:
  * 1.用于存储在作用域中产生的变量等信息
+ * 2.有帧布局时, 布局中声明的变量按槽位存放在数组中, 其他变量(系统变量、脚本参数等)存放在value中
  */
 
 /**
@@ -17,6 +23,7 @@ import java.util.Map;
 @Data
 public class NfContextScope {
     private static final long INITIAL_VERSION = 0L;
+    private static final NfVariableInfo[] NO_SLOTS = new NfVariableInfo[0];
 
     private boolean isBreak = false;
     private boolean isContinue = false;
@@ -25,11 +32,24 @@ public class NfContextScope {
     //父作用域id
     private String parentScopeId;
     private String scopeId;//作用域id
-    //key:变量名, value:变量信息
+    //key:变量名, value:变量信息, 有帧布局时只存放布局以外的变量
     private Map<String, NfVariableInfo> value = new HashMap<>();
     // 作用域版本号，用于缓存当前作用域链的可见变量快照
     private long version = INITIAL_VERSION;
-    
+    // 重置次数, 循环复用作用域时用来区分不同的迭代
+    private int resetCount;
+
+    //帧布局, 解析后由NfScopeResolver生成, 没有经过解析的语法树为null
+    private NfFrameLayout layout;
+    //按布局槽位存放的变量
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private NfVariableInfo[] slots = NO_SLOTS;
+    //父作用域, 创建作用域时绑定, 查找变量时直接沿引用向上, 不再按id查找
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private NfContextScope parentScope;
+
     //作用域是否已被清除的标志
     //clear() 后设置为 true，防止误用导致 NPE
     private boolean cleared = false;
@@ -40,9 +60,17 @@ public class NfContextScope {
         this.type = type;
     }
 
+    public NfContextScope(String scopeId, String parentScopeId, NfContextScopeType type, NfFrameLayout layout) {
+        this(scopeId, parentScopeId, type);
+        this.layout = layout;
+        if (layout != null && layout.size() > 0) {
+            this.slots = new NfVariableInfo[layout.size()];
+        }
+    }
+
     /**
      * 检查作用域是否已被清除
-     * 
+     *
      * @throws IllegalStateException 如果作用域已被清除
      */
     private void checkCleared() {
@@ -58,30 +86,159 @@ public class NfContextScope {
         if (value != null) {
             value.clear();
         }
+        Arrays.fill(slots, null);
+        parentScope = null;
         // 不置 null，避免 NPE，但清空内容
     }
-    
+
+    /**
+     * 重置作用域, 循环的下一次迭代复用同一个作用域
+     *
+     * <p>清空变量和break、continue标志, 保留作用域id、父作用域和帧布局。
+     * 版本号继续递增, 之前缓存的可见变量快照随之失效。</p>
+     */
+    public void reset() {
+        checkCleared();
+        isBreak = false;
+        isContinue = false;
+        isBreakAll = false;
+        if (!value.isEmpty()) {
+            value.clear();
+        }
+        Arrays.fill(slots, null);
+        version++;
+        resetCount++;
+    }
+
     //添加或者更新一个变量
     public void addVariable(NfVariableInfo nfVariableInfo){
         checkCleared();
-        value.put(nfVariableInfo.getName(), nfVariableInfo);
+        int slot = layout == null ? -1 : layout.slotOf(nfVariableInfo.getName());
+        if (slot >= 0) {
+            slots[slot] = nfVariableInfo;
+        } else {
+            value.put(nfVariableInfo.getName(), nfVariableInfo);
+        }
         version++;
     }
-    
+
     //获取一个变量
     public NfVariableInfo getVariable(String name){
         checkCleared();
-        return value.get(name);
+        int slot = layout == null ? -1 : layout.slotOf(name);
+        if (slot >= 0) {
+            return slots[slot];
+        }
+        return value.isEmpty() ? null : value.get(name);
+    }
+
+    /**
+     * 从当前作用域开始沿作用域链查找变量
+     *
+     * <p>变量在布局中有坐标时直接按(深度, 槽位)定位, 只需要确认中间经过的作用域没有同名的动态变量;
+     * 没有坐标、作用域链和布局对不上或者槽位还没有赋值时, 按名称逐层查找。</p>
+     *
+     * @param name 变量名
+     * @return 变量信息, 不存在返回null
+     */
+    public NfVariableInfo findVisibleVariable(String name) {
+        NfContextScope frame = findVariableFrame(name);
+        return frame == null ? null : frame.getVariable(name);
+    }
+
+    /**
+     * 从当前作用域开始沿作用域链查找变量所在的作用域
+     *
+     * @param name 变量名
+     * @return 变量所在的作用域, 不存在返回null
+     */
+    public NfContextScope findVariableFrame(String name) {
+        checkCleared();
+        if (layout != null) {
+            int coordinate = layout.resolve(name);
+            if (coordinate >= 0) {
+                int depth = NfFrameLayout.depthOf(coordinate);
+                NfContextScope frame = this;
+                for (int i = 0; i < depth && frame != null; i++) {
+                    //中间层的动态变量(没有槽位的)优先
+                    if (!frame.value.isEmpty() && frame.value.containsKey(name)) {
+                        return frame;
+                    }
+                    frame = frame.parentScope;
+                }
+                if (frame != null && frame.layout == layout.enclosing(depth)
+                    && frame.slots[NfFrameLayout.slotOf(coordinate)] != null) {
+                    return frame;
+                }
+            }
+        }
+        //按名称逐层查找
+        for (NfContextScope frame = this; frame != null && !frame.cleared; frame = frame.parentScope) {
+            if (frame.getVariable(name) != null) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 当前作用域中变量的数量
+     *
+     * @return 槽位中已赋值的变量和其他变量的总数
+     */
+    public int variableCount() {
+        int count = value.size();
+        for (NfVariableInfo slot : slots) {
+            if (slot != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 把当前作用域中的变量值放入目标Map
+     *
+     * @param target 目标Map key:变量名, value:变量值
+     */
+    public void collectVariables(Map<String, Object> target) {
+        checkCleared();
+        for (NfVariableInfo slot : slots) {
+            if (slot != null) {
+                target.put(slot.getName(), slot.getValue());
+            }
+        }
+        for (Map.Entry<String, NfVariableInfo> entry : value.entrySet()) {
+            target.put(entry.getKey(), entry.getValue().getValue());
+        }
     }
 
+    /**
+     * 获取作用域中的全部变量
+     *
+     * <p>没有帧布局时返回内部的Map; 有帧布局时返回槽位变量和其他变量合并后的只读副本。</p>
+     *
+     * @return key:变量名, value:变量信息
+     */
+    public Map<String, NfVariableInfo> getValue() {
+        if (layout == null) {
+            return value;
+        }
+        Map<String, NfVariableInfo> variables = new LinkedHashMap<>();
+        for (NfVariableInfo slot : slots) {
+            if (slot != null) {
+                variables.put(slot.getName(), slot);
+            }
+        }
+        variables.putAll(value);
+        return Collections.unmodifiableMap(variables);
+    }
 
     //将作用域转化为  Map<String, Object>
     public Map<String, Object> toMap(){
         checkCleared();
         Map<String, Object> map = new HashMap<>();
-        for (Map.Entry<String, NfVariableInfo> entry : value.entrySet()) {
-            map.put(entry.getKey(), entry.getValue().getValue());
-        }
+        collectVariables(map);
         return map;
     }
 }
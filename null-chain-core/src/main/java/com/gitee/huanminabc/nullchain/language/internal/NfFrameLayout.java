@@ -0,0 +1,158 @@
+package com.gitee.huanminabc.nullchain.language.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 作用域帧布局 - 由{@link com.gitee.huanminabc.nullchain.language.NfScopeResolver}在解析后生成
+ *
+ * <p>一个布局对应语法树中的一个块(脚本全局、if分支、switch分支、循环体、函数体),
+ * 块中声明的每个变量分配一个槽位, 运行时作用域按槽位把变量存放在数组中。</p>
+ *
+ * <p>布局同时记录了从这个块开始静态可见的全部变量的坐标(深度, 槽位):
+ * 深度是沿父作用域向上的层数, 槽位是变量在那一层作用域中的下标。
+ * 坐标在函数边界停止, 函数体内访问调用方的变量仍然按名称查找。</p>
+ *
+ * <p>对象创建后不再修改, 可以在多个线程和多次执行之间共享。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NfContextScope#findVisibleVariable(String)
+ */
+public final class NfFrameLayout {
+    private static final int SLOT_BITS = 16;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    /** 槽位对应的变量名 */
+    private final String[] names;
+
+    /** 当前块声明的变量 key:变量名, value:槽位 */
+    private final Map<String, Integer> slots;
+
+    /** 静态可见变量的坐标 key:变量名, value:深度和槽位编码后的坐标 */
+    private final Map<String, Integer> coordinates;
+
+    /** 布局链, chain[0]是当前布局, chain[n]是向上第n层的布局 */
+    private final NfFrameLayout[] chain;
+
+    /**
+     * 创建布局
+     *
+     * @param names  当前块声明的变量名, 按声明顺序分配槽位, 重复的变量名只分配一次
+     * @param parent 外层块的布局, 函数体和脚本全局为null
+     */
+    public NfFrameLayout(List<String> names, NfFrameLayout parent) {
+        Map<String, Integer> slotMap = new HashMap<>();
+        for (String name : names) {
+            if (name != null && !slotMap.containsKey(name)) {
+                slotMap.put(name, slotMap.size());
+            }
+        }
+        if (slotMap.size() > SLOT_MASK) {
+            throw new IllegalArgumentException("作用域中声明的变量过多: " + slotMap.size());
+        }
+        this.names = new String[slotMap.size()];
+        for (Map.Entry<String, Integer> entry : slotMap.entrySet()) {
+            this.names[entry.getValue()] = entry.getKey();
+        }
+        this.slots = Collections.unmodifiableMap(slotMap);
+
+        Map<String, Integer> coordinateMap = new HashMap<>();
+        if (parent != null) {
+            //外层的坐标深度加1, 当前块的同名变量优先
+            for (Map.Entry<String, Integer> entry : parent.coordinates.entrySet()) {
+                int coordinate = entry.getValue();
+                coordinateMap.put(entry.getKey(), encode(depthOf(coordinate) + 1, slotOf(coordinate)));
+            }
+            this.chain = new NfFrameLayout[parent.chain.length + 1];
+            System.arraycopy(parent.chain, 0, this.chain, 1, parent.chain.length);
+        } else {
+            this.chain = new NfFrameLayout[1];
+        }
+        this.chain[0] = this;
+        for (Map.Entry<String, Integer> entry : slotMap.entrySet()) {
+            coordinateMap.put(entry.getKey(), encode(0, entry.getValue()));
+        }
+        this.coordinates = Collections.unmodifiableMap(coordinateMap);
+    }
+
+    /**
+     * 槽位数量
+     *
+     * @return 当前块声明的变量数量
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 获取槽位对应的变量名
+     *
+     * @param slot 槽位
+     * @return 变量名
+     */
+    public String nameAt(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * 获取变量在当前块中的槽位
+     *
+     * @param name 变量名
+     * @return 槽位, 当前块没有声明该变量时返回-1
+     */
+    public int slotOf(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * 获取变量的坐标
+     *
+     * @param name 变量名
+     * @return 坐标, 使用{@link #depthOf(int)}和{@link #slotOf(int)}解码, 静态不可见时返回-1
+     */
+    public int resolve(String name) {
+        Integer coordinate = coordinates.get(name);
+        return coordinate == null ? -1 : coordinate;
+    }
+
+    /**
+     * 获取向上第depth层的布局
+     *
+     * @param depth 深度, 0是当前布局
+     * @return 布局, 超出静态作用域链时返回null
+     */
+    public NfFrameLayout enclosing(int depth) {
+        return depth < chain.length ? chain[depth] : null;
+    }
+
+    /**
+     * 获取静态可见变量的坐标表
+     *
+     * @return 只读的坐标表
+     */
+    public Map<String, Integer> getCoordinates() {
+        return coordinates;
+    }
+
+    public static int depthOf(int coordinate) {
+        return coordinate >>> SLOT_BITS;
+    }
+
+    public static int slotOf(int coordinate) {
+        return coordinate & SLOT_MASK;
+    }
+
+    private static int encode(int depth, int slot) {
+        return (depth << SLOT_BITS) | slot;
+    }
+
+    @Override
+    public String toString() {
+        return "NfFrameLayout" + slots.keySet();
+    }
+}
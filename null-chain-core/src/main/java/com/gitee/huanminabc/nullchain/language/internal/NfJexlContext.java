@@ -0,0 +1,100 @@
+package com.gitee.huanminabc.nullchain.language.internal;
+
+import org.apache.commons.jexl3.JexlContext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JEXL 分层上下文：基础变量视图只读复用，表达式执行过程中的临时变量、导入类型放到 overlay。
+ *
+ * <p>同一个{@link NfContext}按表达式的递归深度复用上下文对象, 每次计算前通过{@link #reset(Map, Map)}重新绑定,
+ * 循环中的表达式计算不再每次创建上下文和overlay。</p>
+ *
+ * <p>通过{@link #reset(NfContextScope, Map)}绑定作用域时, 变量直接按作用域的帧布局查找,
+ * 不再把作用域链上的变量合并成一个Map。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NfContext#acquireJexlContext(int)
+ */
+public class NfJexlContext implements JexlContext {
+    private Map<String, Object> baseValues = Collections.emptyMap();
+    private Map<String, Object> importedValues = Collections.emptyMap();
+    private Map<String, Object> overlayValues;
+    private NfContextScope scope;
+
+    public NfJexlContext() {
+    }
+
+    public NfJexlContext(Map<String, Object> baseValues, Map<String, Object> importedValues) {
+        reset(baseValues, importedValues);
+    }
+
+    /**
+     * 重新绑定基础变量和导入类型, 清空overlay
+     *
+     * @param baseValues     当前作用域链上可见的变量
+     * @param importedValues 已解析的导入类型
+     * @return 当前上下文
+     */
+    public NfJexlContext reset(Map<String, Object> baseValues, Map<String, Object> importedValues) {
+        this.baseValues = baseValues == null ? Collections.emptyMap() : baseValues;
+        this.scope = null;
+        return resetImported(importedValues);
+    }
+
+    /**
+     * 绑定当前作用域和导入类型, 清空overlay
+     *
+     * @param scope          当前作用域, 变量沿它的作用域链查找
+     * @param importedValues 已解析的导入类型
+     * @return 当前上下文
+     */
+    public NfJexlContext reset(NfContextScope scope, Map<String, Object> importedValues) {
+        this.baseValues = Collections.emptyMap();
+        this.scope = scope;
+        return resetImported(importedValues);
+    }
+
+    private NfJexlContext resetImported(Map<String, Object> importedValues) {
+        this.importedValues = importedValues == null ? Collections.emptyMap() : importedValues;
+        if (overlayValues != null && !overlayValues.isEmpty()) {
+            overlayValues.clear();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean has(String name) {
+        if ((overlayValues != null && overlayValues.containsKey(name)) || importedValues.containsKey(name)) {
+            return true;
+        }
+        return scope != null ? scope.findVisibleVariable(name) != null : baseValues.containsKey(name);
+    }
+
+    @Override
+    public Object get(String name) {
+        if (overlayValues != null && overlayValues.containsKey(name)) {
+            return overlayValues.get(name);
+        }
+        if (importedValues.containsKey(name)) {
+            return importedValues.get(name);
+        }
+        if (scope != null) {
+            NfVariableInfo variable = scope.findVisibleVariable(name);
+            return variable == null ? null : variable.getValue();
+        }
+        return baseValues.get(name);
+    }
+
+    @Override
+    public void set(String name, Object value) {
+        if (overlayValues == null) {
+            overlayValues = new HashMap<>();
+        }
+        overlayValues.put(name, value);
+    }
+}
@@ -0,0 +1,85 @@
+package com.gitee.huanminabc.nullchain.language.internal;
+
+/**
+ * 循环帧 - 一次循环的全部迭代复用同一个作用域
+ *
+ * <p>第一次迭代时创建作用域, 之后每次迭代只重置作用域中的变量和break、continue标志,
+ * 循环变量使用同一个{@link NfVariableInfo}原地更新值, 迭代之间不再创建作用域、作用域id和变量信息。
+ * 循环正常结束后调用{@link #close()}移除作用域。</p>
+ *
+ * <p>只在一次循环的执行过程中使用, 不能跨线程共享。</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public final class NfLoopFrame {
+    private final NfContext context;
+    private final String parentScopeId;
+    private final NfFrameLayout layout;
+    //循环变量, 按构造时的顺序绑定
+    private final NfVariableInfo[] loopVariables;
+    private NfContextScope scope;
+
+    /**
+     * 创建循环帧
+     *
+     * @param context       上下文
+     * @param parentScopeId 循环所在的作用域id
+     * @param layout        循环体的帧布局, 可以为null
+     * @param variableNames 循环变量名
+     */
+    public NfLoopFrame(NfContext context, String parentScopeId, NfFrameLayout layout, String... variableNames) {
+        this.context = context;
+        this.parentScopeId = parentScopeId;
+        this.layout = layout;
+        this.loopVariables = new NfVariableInfo[variableNames.length];
+        for (int i = 0; i < variableNames.length; i++) {
+            loopVariables[i] = new NfVariableInfo(variableNames[i], null, null);
+        }
+    }
+
+    /**
+     * 进入下一次迭代: 第一次创建作用域, 之后重置作用域, 并切换为当前作用域
+     *
+     * @return 本次迭代的作用域
+     */
+    public NfContextScope next() {
+        if (scope == null) {
+            scope = context.createChildScope(parentScopeId, NfContextScopeType.FOR, layout);
+        } else {
+            scope.reset();
+            context.switchScope(scope.getScopeId());
+        }
+        return scope;
+    }
+
+    /**
+     * 绑定循环变量的值
+     *
+     * @param index 循环变量的下标
+     * @param value 变量值
+     * @param type  变量类型
+     */
+    public void bind(int index, Object value, Class<?> type) {
+        NfVariableInfo variable = loopVariables[index];
+        variable.setValue(value);
+        variable.setType(type);
+        //循环体可能把循环变量改成了函数引用
+        if (variable.isFunctionReference()) {
+            variable.setFunctionReference(false);
+            variable.setFunRefInfo(null);
+        }
+        scope.addVariable(variable);
+    }
+
+    /**
+     * 循环结束, 移除作用域
+     */
+    public void close() {
+        if (scope != null) {
+            context.removeScope(scope.getScopeId());
+            scope = null;
+        }
+    }
+}
@@ -183,8 +183,10 @@ public class LambdaProxyFactory {
         }
 
         // 使用捕获时的作用域作为父作用域
+        // 循环的迭代复用同一个作用域, 捕获后进入了下一次迭代时和作用域已被移除一样使用主作用域
         String parentScopeId = funRef.getCaptureScopeId();
-        if (parentScopeId == null || executionContext.getScope(parentScopeId) == null) {
+        NfContextScope captureScope = parentScopeId == null ? null : executionContext.getScope(parentScopeId);
+        if (captureScope == null || captureScope.getResetCount() != funRef.getCaptureScopeResetCount()) {
             parentScopeId = executionContext.getMainScopeId();
         }
 
@@ -1,6 +1,10 @@
 package com.gitee.huanminabc.nullchain.language.syntaxNode;
 
+import com.gitee.huanminabc.nullchain.language.NfCalculator;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
 import com.gitee.huanminabc.nullchain.language.token.Token;
+import com.gitee.huanminabc.nullchain.language.utils.TokenUtil;
 import lombok.Data;
 
 import java.util.ArrayList;
@@ -33,6 +37,18 @@ public abstract class SyntaxNodeAbs {
     /** 结构类型 是行节点还是块节点 */
     private SyntaxNodeStructType structType;
 
+    /** 编译后的表达式, 比如if、while的条件, 解析时生成, 执行时直接计算 */
+    private NfExpression expression;
+
+    /**
+     * 节点声明的变量名, 解析时记录
+     * 行节点(var、声明、带类型的赋值)声明到所在的作用域, for的循环变量和函数参数声明到节点自己的作用域
+     */
+    private List<String> declaredVariables;
+
+    /** 节点执行时创建的作用域的帧布局, 由{@link com.gitee.huanminabc.nullchain.language.NfScopeResolver}生成 */
+    private NfFrameLayout frameLayout;
+
     public SyntaxNodeAbs() {
     }
 
@@ -40,6 +56,47 @@ public abstract class SyntaxNodeAbs {
         this.type = type;
     }
 
+    /**
+     * 把表达式的token编译为{@link NfExpression}并保存到节点上
+     *
+     * @param tokens 表达式的token, 为空时不编译
+     */
+    public void compileExpression(List<Token> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return;
+        }
+        this.expression = NfCalculator.compile(TokenUtil.mergeToken(tokens).toString());
+    }
+
+    /**
+     * 获取节点解析时编译的表达式, 节点没有编译过时(比如直接构造的节点)按token编译
+     *
+     * @param syntaxNode 语法节点
+     * @param tokens     表达式的token
+     * @return 编译后的表达式
+     */
+    public static NfExpression expressionOf(SyntaxNode syntaxNode, List<Token> tokens) {
+        if (syntaxNode instanceof SyntaxNodeAbs) {
+            NfExpression expression = ((SyntaxNodeAbs) syntaxNode).getExpression();
+            if (expression != null) {
+                return expression;
+            }
+        }
+        return NfCalculator.compile(TokenUtil.mergeToken(tokens).toString());
+    }
+
+    /**
+     * 记录节点声明的变量名
+     *
+     * @param name 变量名
+     */
+    public void declareVariable(String name) {
+        if (declaredVariables == null) {
+            declaredVariables = new ArrayList<>();
+        }
+        declaredVariables.add(name);
+    }
+
     public void  addChild(SyntaxNode syntaxNode){
         if (childSyntaxNodeList == null) {
             childSyntaxNodeList = new ArrayList<>();
@@ -1,12 +1,14 @@
 package com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode;
 
 import com.gitee.huanminabc.nullchain.language.NfCalculator;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.NfException;
 import com.gitee.huanminabc.nullchain.language.NfSyntaxException;
 import com.gitee.huanminabc.nullchain.language.NfSynta;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
+import com.gitee.huanminabc.nullchain.language.internal.NfLoopFrame;
 import com.gitee.huanminabc.nullchain.language.internal.ParseScopeTracker;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.BlockSyntaxNode;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
@@ -163,6 +165,8 @@ public class DoWhileSyntaxNode extends BlockSyntaxNode {
 
         // 设置条件
         syntaxNode.setValue(conditionTokens);
+        //解析时编译条件表达式, 每次循环只需要绑定变量计算
+        ((DoWhileSyntaxNode) syntaxNode).compileExpression(conditionTokens);
 
         // 构建循环体
         // do-while循环体创建新作用域
@@ -198,9 +202,14 @@ public class DoWhileSyntaxNode extends BlockSyntaxNode {
 
         String currentScopeId = context.getCurrentScopeId();
 
-        StringBuilder conditionBuilder = TokenUtil.mergeToken(condition);
+        NfExpression conditionExpression = doWhileSyntaxNode.getExpression();
+        if (conditionExpression == null) {
+            conditionExpression = NfCalculator.compile(TokenUtil.mergeToken(condition).toString());
+        }
 
         // do-while循环：先执行一次，再判断条件
+        // 全部迭代复用同一个作用域
+        NfLoopFrame frame = new NfLoopFrame(context, currentScopeId, doWhileSyntaxNode.getFrameLayout());
         while (true) {
             // 检查超时（每次循环迭代检查）
             context.checkTimeout();
@@ -211,9 +220,8 @@ public class DoWhileSyntaxNode extends BlockSyntaxNode {
             }
 
             // 创建子作用域并执行循环体
-            NfContextScope newScope = context.createChildScope(currentScopeId, NfContextScopeType.FOR);
-            // 设置当前作用域为新创建的子作用域
-            context.setCurrentScopeId(newScope.getScopeId());
+            // 进入下一次迭代, 当前作用域切换为循环作用域
+            NfContextScope newScope = frame.next();
 
             if (childList != null) {
                 SyntaxNodeFactory.executeAll(childList, context);
@@ -221,7 +229,6 @@ public class DoWhileSyntaxNode extends BlockSyntaxNode {
 
             // 恢复原作用域
             context.setCurrentScopeId(currentScopeId);
-            context.removeScope(newScope.getScopeId());
 
             // 执行后检查控制流标志
             if (context.isGlobalBreakAll()) {
@@ -245,19 +252,21 @@ public class DoWhileSyntaxNode extends BlockSyntaxNode {
             // 检查while条件
             boolean isTrue = false;
             try {
-                Object result = NfCalculator.arithmetic(conditionBuilder.toString(), context);
+                Object result = NfCalculator.arithmetic(conditionExpression, context);
                 if (result instanceof Boolean) {
                     isTrue = (Boolean) result;
                 }
             } catch (Exception e) {
                 throw new NfException(e, "Line:{}  do-while表达式计算错误: {} ",
-                    doWhileSyntaxNode.getLine(), conditionBuilder.toString());
+                    doWhileSyntaxNode.getLine(), conditionExpression.getSource());
             }
 
             if (!isTrue) {
                 break;
             }
         }
+        // 移除循环作用域
+        frame.close();
 
         clearBreakAllState(context, currentScopeId);
     }
@@ -7,6 +7,7 @@ import com.gitee.huanminabc.nullchain.language.NfSynta;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
+import com.gitee.huanminabc.nullchain.language.internal.NfLoopFrame;
 import com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo;
 import com.gitee.huanminabc.nullchain.language.internal.ParseScopeTracker;
 
@@ -314,6 +315,11 @@ public class ForSyntaxNode extends BlockSyntaxNode {
                 loopTracker.checkDuplicateVariable(varName, forTokens.get(0).line, syntaxStr);
             }
         }
+        // 记录循环变量, 循环变量声明在循环体的作用域中
+        ((ForSyntaxNode) syntaxNode).declareVariable(forTokens.get(0).value);
+        if (isDoubleVariable) {
+            ((ForSyntaxNode) syntaxNode).declareVariable(forTokens.get(2).value);
+        }
         // 删除
         SyntaxNodeUtil.clearLeadingTokens(tokenList, endIndex + 2);
         // 删除最后的}
@@ -451,6 +457,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             // for循环体为空，直接返回
             return;
         }
+        // 全部迭代复用同一个作用域
+        NfLoopFrame frame = new NfLoopFrame(context, currentScopeId, forSyntaxNode.getFrameLayout(), i);
         for (int j = startInt; j <= endInt; j++) {
             // 检查超时（每次循环迭代检查）
             context.checkTimeout();
@@ -459,16 +467,14 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             if (context.isGlobalBreakAll()) {
                 break;
             }
-            // 创建子作用域
-            NfContextScope newScope = context.createChildScope(currentScopeId, NfContextScopeType.FOR);
+            // 进入下一次迭代
+            NfContextScope newScope = frame.next();
             // 将i的值赋值
-            newScope.addVariable(new NfVariableInfo(i, j, Integer.class));
+            frame.bind(0, j, Integer.class);
             // 执行子节点
             if (childList != null) {
                 SyntaxNodeFactory.executeAll(childList, context);
             }
-            // 移除子作用域
-            context.removeScope(newScope.getScopeId());
 
             // 执行子节点后再次检查globalBreakAll标志（breakall可能在子节点中被触发）
             // 如果globalBreakAll被设置，立即跳出循环，不要执行后续的清除操作
@@ -487,6 +493,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
                 break;
             }
         }
+        // 移除循环作用域
+        frame.close();
         clearBreakAllState(context, currentScopeId);
     }
 
@@ -583,6 +591,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             return;
         }
 
+        // 全部迭代复用同一个作用域
+        NfLoopFrame frame = new NfLoopFrame(context, currentScopeId, forSyntaxNode.getFrameLayout(), itemName);
         for (Object item : list) {
             // 检查超时（每次循环迭代检查）
             context.checkTimeout();
@@ -591,17 +601,15 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             if (context.isGlobalBreakAll()) {
                 break;
             }
-            // 创建子作用域
-            NfContextScope newScope = context.createChildScope(currentScopeId, NfContextScopeType.FOR);
+            // 进入下一次迭代
+            NfContextScope newScope = frame.next();
             // 将当前元素的值赋给循环变量
             Class<?> itemClass = item != null ? item.getClass() : Object.class;
-            newScope.addVariable(new NfVariableInfo(itemName, item, itemClass));
+            frame.bind(0, item, itemClass);
             // 执行子节点
             if (childList != null) {
                 SyntaxNodeFactory.executeAll(childList, context);
             }
-            // 移除子作用域
-            context.removeScope(newScope.getScopeId());
 
             // 执行子节点后再次检查globalBreakAll标志
             if (context.isGlobalBreakAll()) {
@@ -617,6 +625,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
                 break;
             }
         }
+        // 移除循环作用域
+        frame.close();
         clearBreakAllState(context, currentScopeId);
     }
 
@@ -635,6 +645,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             return;
         }
 
+        // 全部迭代复用同一个作用域
+        NfLoopFrame frame = new NfLoopFrame(context, currentScopeId, forSyntaxNode.getFrameLayout(), keyName, valueName);
         for (java.util.Map.Entry<Object, Object> entry : map.entrySet()) {
             // 检查超时（每次循环迭代检查）
             context.checkTimeout();
@@ -643,22 +655,20 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             if (context.isGlobalBreakAll()) {
                 break;
             }
-            // 创建子作用域
-            NfContextScope newScope = context.createChildScope(currentScopeId, NfContextScopeType.FOR);
+            // 进入下一次迭代
+            NfContextScope newScope = frame.next();
             // 将键的值赋给键变量
             Object key = entry.getKey();
             Class<?> keyClass = key != null ? key.getClass() : Object.class;
-            newScope.addVariable(new NfVariableInfo(keyName, key, keyClass));
+            frame.bind(0, key, keyClass);
             // 将值的值赋给值变量
             Object value = entry.getValue();
             Class<?> valueClass = value != null ? value.getClass() : Object.class;
-            newScope.addVariable(new NfVariableInfo(valueName, value, valueClass));
+            frame.bind(1, value, valueClass);
             // 执行子节点
             if (childList != null) {
                 SyntaxNodeFactory.executeAll(childList, context);
             }
-            // 移除子作用域
-            context.removeScope(newScope.getScopeId());
 
             // 执行子节点后再次检查globalBreakAll标志
             if (context.isGlobalBreakAll()) {
@@ -674,6 +684,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
                 break;
             }
         }
+        // 移除循环作用域
+        frame.close();
         clearBreakAllState(context, currentScopeId);
     }
 
@@ -698,6 +710,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             return;
         }
 
+        // 全部迭代复用同一个作用域
+        NfLoopFrame frame = new NfLoopFrame(context, currentScopeId, forSyntaxNode.getFrameLayout(), itemName);
         for (Object item : set) {
             // 检查超时（每次循环迭代检查）
             context.checkTimeout();
@@ -706,17 +720,15 @@ public class ForSyntaxNode extends BlockSyntaxNode {
             if (context.isGlobalBreakAll()) {
                 break;
             }
-            // 创建子作用域
-            NfContextScope newScope = context.createChildScope(currentScopeId, NfContextScopeType.FOR);
+            // 进入下一次迭代
+            NfContextScope newScope = frame.next();
             // 将当前元素的值赋给循环变量
             Class<?> itemClass = item != null ? item.getClass() : Object.class;
-            newScope.addVariable(new NfVariableInfo(itemName, item, itemClass));
+            frame.bind(0, item, itemClass);
             // 执行子节点
             if (childList != null) {
                 SyntaxNodeFactory.executeAll(childList, context);
             }
-            // 移除子作用域
-            context.removeScope(newScope.getScopeId());
 
             // 执行子节点后再次检查globalBreakAll标志
             if (context.isGlobalBreakAll()) {
@@ -732,6 +744,8 @@ public class ForSyntaxNode extends BlockSyntaxNode {
                 break;
             }
         }
+        // 移除循环作用域
+        frame.close();
         clearBreakAllState(context, currentScopeId);
     }
 
@@ -8,6 +8,7 @@ import com.gitee.huanminabc.nullchain.language.internal.FunDefInfo;
 import com.gitee.huanminabc.nullchain.language.internal.FunRefInfo;
 import com.gitee.huanminabc.nullchain.language.internal.FunTypeInfo;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
 import com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo;
 import com.gitee.huanminabc.nullchain.language.internal.ParseScopeTracker;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.BlockSyntaxNode;
@@ -342,6 +343,11 @@ public class FunDefSyntaxNode extends BlockSyntaxNode {
         }
         tokenList.remove(tokenList.size() - 1); // 移除右大括号
 
+        // 记录函数参数, 参数声明在函数体的作用域中
+        for (FunDefInfo.FunParameter param : parameters) {
+            ((FunDefSyntaxNode) syntaxNode).declareVariable(param.getName());
+        }
+
         // 构建函数体语法节点（用于子节点）
         // 函数体创建新作用域（重用之前获取的tracker）
         if (tracker != null) {
@@ -808,9 +814,11 @@ public class FunDefSyntaxNode extends BlockSyntaxNode {
 
         // 从子节点列表获取函数体（buildChildStatement 在解析阶段已经构建了）
         List<SyntaxNode> bodyNodes = null;
+        NfFrameLayout frameLayout = null;
         if (syntaxNode instanceof SyntaxNodeAbs) {
             SyntaxNodeAbs nodeAbs = (SyntaxNodeAbs) syntaxNode;
             bodyNodes = nodeAbs.getChildSyntaxNodeList();
+            frameLayout = nodeAbs.getFrameLayout();
         }
 
         // 确保bodyNodes不为null
@@ -824,6 +832,7 @@ public class FunDefSyntaxNode extends BlockSyntaxNode {
         funDefInfo.setParameters(parameters);
         funDefInfo.setReturnTypes(returnTypes);
         funDefInfo.setBodyNodes(bodyNodes);
+        funDefInfo.setFrameLayout(frameLayout);
 
         // 将函数定义存储到context中
         context.addFunction(functionName, funDefInfo);
@@ -1,6 +1,7 @@
 package com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode;
 
 import com.gitee.huanminabc.nullchain.language.NfCalculator;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.NfException;
 import com.gitee.huanminabc.nullchain.language.NfReturnException;
 import com.gitee.huanminabc.nullchain.language.NfSyntaxException;
@@ -223,7 +224,7 @@ public class IFSyntaxNode extends BlockSyntaxNode {
             //判断是否是else,那么就没有条件直接执行
             if (nodeIf.ifType==IFType.ELSE){
                 //创建子作用域
-                NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.IF);
+                NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.IF, nodeIf.getFrameLayout());
                 //执行else if代码块内部的语句
                 List<SyntaxNode> elseChildList = nodeIf.getChildSyntaxNodeList();
                 if (elseChildList != null) {
@@ -247,13 +248,16 @@ public class IFSyntaxNode extends BlockSyntaxNode {
             if (ifValue == null || ifValue.isEmpty()) {
                 continue;
             }
-            StringBuilder ifBuilder = TokenUtil.mergeToken(ifValue);
+            NfExpression ifExpression = nodeIf.getExpression();
+            if (ifExpression == null) {
+                ifExpression = NfCalculator.compile(TokenUtil.mergeToken(ifValue).toString());
+            }
             try {
-                Object arithmetic = NfCalculator.arithmetic(ifBuilder.toString(), context);
+                Object arithmetic = NfCalculator.arithmetic(ifExpression, context);
                 //判断是否是true
                 if (arithmetic instanceof Boolean && (Boolean) arithmetic) {
                     //创建子作用域
-                    NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.IF);
+                    NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.IF, nodeIf.getFrameLayout());
                     //执行if代码块内部的语句
                     List<SyntaxNode> ifChildList = nodeIf.getChildSyntaxNodeList();
                     if (ifChildList != null) {
@@ -276,7 +280,7 @@ public class IFSyntaxNode extends BlockSyntaxNode {
                 // return语句需要穿透if块，传播到函数调用处
                 throw e;
             } catch (Exception e) {
-                throw new NfException(e,"Line:{}  if表达式计算错误:{} ", ifSyntaxNode.getLine(), ifBuilder.toString());
+                throw new NfException(e,"Line:{}  if表达式计算错误:{} ", ifSyntaxNode.getLine(), ifExpression.getSource());
             }
         }
     }
@@ -339,6 +343,8 @@ public class IFSyntaxNode extends BlockSyntaxNode {
         }
         //if表达式的条件
         ifStatement.setValue(conditionTokens);
+        //解析时编译条件表达式, else没有条件不需要编译
+        ifStatement.compileExpression(conditionTokens);
 
         //继续构建代码体
         // if块创建新作用域
@@ -166,7 +166,7 @@ public class SwitchSyntaxNode extends BlockSyntaxNode {
             SwitchSyntaxNode caseNode= (SwitchSyntaxNode) node;
             if (caseNode.getSwitchType()==SwitchType.DEFAULT){
                 //创建子作用域
-                NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.SWITCH);
+                NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.SWITCH, caseNode.getFrameLayout());
                 //执行else if代码块内部的语句
                 List<SyntaxNode> defaultChildList = caseNode.getChildSyntaxNodeList();
                 if (defaultChildList != null) {
@@ -189,7 +189,7 @@ public class SwitchSyntaxNode extends BlockSyntaxNode {
                     Object caseValueIf = DataType.realType(token.type, token.value);
                     if (isCaseMatched(switchValue, caseValueIf)) {
                         //创建子作用域
-                        NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.SWITCH);
+                        NfContextScope childScope = context.createChildScope(context.getCurrentScopeId(), NfContextScopeType.SWITCH, caseNode.getFrameLayout());
                         //执行else if代码块内部的语句
                         List<SyntaxNode> caseChildList = caseNode.getChildSyntaxNodeList();
                         if (caseChildList != null) {
@@ -1,12 +1,14 @@
 package com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode;
 
 import com.gitee.huanminabc.nullchain.language.NfCalculator;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.NfException;
 import com.gitee.huanminabc.nullchain.language.NfSyntaxException;
 import com.gitee.huanminabc.nullchain.language.NfSynta;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
+import com.gitee.huanminabc.nullchain.language.internal.NfLoopFrame;
 import com.gitee.huanminabc.nullchain.language.internal.ParseScopeTracker;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.BlockSyntaxNode;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
@@ -130,6 +132,8 @@ public class WhileSyntaxNode extends BlockSyntaxNode {
         }
 
         syntaxNode.setValue(conditionTokens);
+        //解析时编译条件表达式, 每次循环只需要绑定变量计算
+        ((WhileSyntaxNode) syntaxNode).compileExpression(conditionTokens);
 
         // while循环体创建新作用域
         ParseScopeTracker tracker = NfSynta.getCurrentTracker();
@@ -168,8 +172,13 @@ public class WhileSyntaxNode extends BlockSyntaxNode {
 
         String currentScopeId = context.getCurrentScopeId();
 
-        StringBuilder conditionBuilder = TokenUtil.mergeToken(condition);
+        NfExpression conditionExpression = whileSyntaxNode.getExpression();
+        if (conditionExpression == null) {
+            conditionExpression = NfCalculator.compile(TokenUtil.mergeToken(condition).toString());
+        }
 
+        // 全部迭代复用同一个作用域
+        NfLoopFrame frame = new NfLoopFrame(context, currentScopeId, whileSyntaxNode.getFrameLayout());
         while (true) {
             // 检查超时（每次循环迭代检查）
             context.checkTimeout();
@@ -180,22 +189,21 @@ public class WhileSyntaxNode extends BlockSyntaxNode {
 
             boolean isTrue = false;
             try {
-                Object result = NfCalculator.arithmetic(conditionBuilder.toString(), context);
+                Object result = NfCalculator.arithmetic(conditionExpression, context);
                 if (result instanceof Boolean) {
                     isTrue = (Boolean) result;
                 }
             } catch (Exception e) {
                 throw new NfException(e, "Line:{}  while表达式计算错误: {} ",
-                    whileSyntaxNode.getLine(), conditionBuilder.toString());
+                    whileSyntaxNode.getLine(), conditionExpression.getSource());
             }
 
             if (!isTrue) {
                 break;
             }
 
-            NfContextScope newScope = context.createChildScope(currentScopeId, NfContextScopeType.FOR);
-            // 设置当前作用域为新创建的子作用域
-            context.setCurrentScopeId(newScope.getScopeId());
+            // 进入下一次迭代, 当前作用域切换为循环作用域
+            NfContextScope newScope = frame.next();
 
             if (childList != null) {
                 SyntaxNodeFactory.executeAll(childList, context);
@@ -203,7 +211,6 @@ public class WhileSyntaxNode extends BlockSyntaxNode {
 
             // 恢复原作用域
             context.setCurrentScopeId(currentScopeId);
-            context.removeScope(newScope.getScopeId());
 
             if (context.isGlobalBreakAll()) {
                 break;
@@ -223,6 +230,8 @@ public class WhileSyntaxNode extends BlockSyntaxNode {
                 continue;
             }
         }
+        // 移除循环作用域
+        frame.close();
 
         clearBreakAllState(context, currentScopeId);
     }
@@ -18,7 +18,6 @@ import com.gitee.huanminabc.nullchain.language.utils.ConstructorCallUtil;
 import com.gitee.huanminabc.nullchain.language.utils.DataType;
 import com.gitee.huanminabc.nullchain.language.utils.KeywordUtil;
 import com.gitee.huanminabc.nullchain.language.utils.SyntaxNodeUtil;
-import com.gitee.huanminabc.nullchain.language.utils.TokenUtil;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -272,6 +271,11 @@ public class AssignSyntaxNode extends LineSyntaxNode {
                 SyntaxNodeUtil.removeComments(newToken);
                 AssignSyntaxNode assignSyntaxNode = new AssignSyntaxNode(SyntaxNodeType.ASSIGN_EXP);
                 assignSyntaxNode.setValue(newToken);
+                if (hasTypeDeclaration) {
+                    assignSyntaxNode.declareVariable(varName.value);
+                }
+                //解析时编译赋值的表达式, 执行时直接计算
+                assignSyntaxNode.compileExpression(SyntaxNodeUtil.assignExpressionTokens(newToken, hasTypeDeclaration));
                 //设置行号
                 assignSyntaxNode.setLine(token.getLine());
                 syntaxNodeList.add(assignSyntaxNode);
@@ -461,14 +465,13 @@ public class AssignSyntaxNode extends LineSyntaxNode {
         }
         
         //计算表达式
-        StringBuilder exp = TokenUtil.mergeToken(expTokens);
         Object arithmetic;
         try {
             // 如果表达式只包含模板字符串，直接使用处理后的值
             if (hasTemplateString && expTokens.size() == 1 && expTokens.get(0).type == TokenType.TEMPLATE_STRING) {
                 arithmetic = templateStringValue;
             } else {
-                arithmetic = NfCalculator.arithmetic(exp.toString(), context);
+                arithmetic = NfCalculator.arithmetic(expressionOf(syntaxNode, expTokens), context);
                 // 如果计算结果是字符串且包含占位符，进行替换
                 if (arithmetic instanceof String && ((String) arithmetic).contains("{") && ((String) arithmetic).contains("}")) {
                     arithmetic = EchoSyntaxNode.replaceTemplate((String) arithmetic, context);
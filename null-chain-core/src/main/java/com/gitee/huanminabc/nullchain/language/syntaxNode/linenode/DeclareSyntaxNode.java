@@ -84,6 +84,7 @@ public class DeclareSyntaxNode extends LineSyntaxNode {
                 SyntaxNodeUtil.removeComments(newToken);
                 DeclareSyntaxNode declareSyntaxNode = new DeclareSyntaxNode(SyntaxNodeType.DECLARE_EXP);
                 declareSyntaxNode.setValue(newToken);
+                declareSyntaxNode.declareVariable(varName.value);
                 //设置行号
                 declareSyntaxNode.setLine(token.getLine());
                 syntaxNodeList.add(declareSyntaxNode);
@@ -3,11 +3,13 @@ package com.gitee.huanminabc.nullchain.language.syntaxNode.linenode;
 import com.gitee.huanminabc.nullchain.common.NullConstants;
 import com.gitee.huanminabc.nullchain.language.NfCalculator;
 import com.gitee.huanminabc.nullchain.language.NfException;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.LineSyntaxNode;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeAbs;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeType;
 import com.gitee.huanminabc.nullchain.language.token.Token;
 import com.gitee.huanminabc.nullchain.language.token.TokenType;
@@ -61,6 +63,11 @@ public class EchoSyntaxNode extends LineSyntaxNode {
                 SyntaxNodeUtil.removeComments(newToken);
                 EchoSyntaxNode exportExpNode = new EchoSyntaxNode(SyntaxNodeType.ECHO_EXP);
                 exportExpNode.setValue(newToken);
+                //只打印一个表达式时解析时编译, 执行时直接计算
+                String expression = singleExpression(newToken);
+                if (expression != null) {
+                    exportExpNode.setExpression(NfCalculator.compile(expression));
+                }
                 //设置行号
                 exportExpNode.setLine(token.getLine());
                 syntaxNodeList.add(exportExpNode);
@@ -104,6 +111,14 @@ public class EchoSyntaxNode extends LineSyntaxNode {
 
     private  StringBuilder toPrint(List<Token> tokens,NfContext context,SyntaxNode syntaxNode){
         StringBuilder sb = new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+        NfExpression compiled = syntaxNode instanceof SyntaxNodeAbs ? ((SyntaxNodeAbs) syntaxNode).getExpression() : null;
+        if (compiled != null) {
+            try {
+                return sb.append(NfCalculator.arithmetic(compiled, context));
+            } catch (Exception e) {
+                throw new NfException(e, "Line:{}, 表达式计算错误: {} , syntax: {}", syntaxNode.getLine(), compiled.getSource(), syntaxNode);
+            }
+        }
         StringBuilder exp= new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
         //目前打印只支持字符串和变量和常亮
         for (Token token : tokens) {
@@ -177,6 +192,36 @@ public class EchoSyntaxNode extends LineSyntaxNode {
     }
 
 
+    /**
+     * 只打印一个表达式时返回表达式文本, 和toPrint拼接表达式的方式一致;
+     * 包含逗号、换行符、模板字符串或者带占位符的字符串时需要在执行时处理, 返回null
+     */
+    private static String singleExpression(List<Token> tokens) {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        StringBuilder exp = new StringBuilder(NullConstants.STRING_BUILDER_INITIAL_CAPACITY);
+        for (Token token : tokens) {
+            switch (token.type) {
+                case LINE_END_SYMBOL:
+                case TAB_SYMBOL:
+                case TEMPLATE_STRING:
+                case COMMA:
+                    return null;
+                case STRING:
+                    if (token.value.contains("{") && token.value.contains("}")) {
+                        return null;
+                    }
+                    exp.append(token.value);
+                    break;
+                default:
+                    exp.append(token.value);
+                    break;
+            }
+        }
+        return exp.toString();
+    }
+
     /**
      * 传入一个字符串"123:{c} {b}"  将全部的模版替换为实际的值
      * 公共静态方法，供其他语法节点复用
@@ -286,7 +286,7 @@ public class FunCallSyntaxNode extends LineSyntaxNode {
 
         // 创建函数作用域（使用解析参数之前保存的父作用域ID）
         String functionScopeId = NfContext.generateScopeId();
-        NfContextScope functionScope = context.createScope(functionScopeId, parentScopeId, NfContextScopeType.ALL);
+        NfContextScope functionScope = context.createScope(functionScopeId, parentScopeId, NfContextScopeType.ALL, funDef.getFrameLayout());
 
         // 保存当前作用域ID（用于恢复）
         String savedScopeId = context.getCurrentScopeId();
@@ -352,7 +352,7 @@ public class FunCallSyntaxNode extends LineSyntaxNode {
 
         // 创建函数作用域
         String functionScopeId = NfContext.generateScopeId();
-        NfContextScope functionScope = context.createScope(functionScopeId, parentScopeId, NfContextScopeType.ALL);
+        NfContextScope functionScope = context.createScope(functionScopeId, parentScopeId, NfContextScopeType.ALL, funDef.getFrameLayout());
 
         // 保存当前作用域ID
         String savedScopeId = context.getCurrentScopeId();
@@ -428,7 +428,7 @@ public class FunCallSyntaxNode extends LineSyntaxNode {
         // 创建函数作用域（使用脚本上下文，父作用域是脚本的全局作用域）
         String scriptMainScopeId = scriptContext.getMainScopeId();
         String functionScopeId = NfContext.generateScopeId();
-        NfContextScope functionScope = scriptContext.createScope(functionScopeId, scriptMainScopeId, NfContextScopeType.ALL);
+        NfContextScope functionScope = scriptContext.createScope(functionScopeId, scriptMainScopeId, NfContextScopeType.ALL, funDef.getFrameLayout());
         
         // 保存脚本上下文的当前作用域ID（用于恢复）
         String savedScriptScopeId = scriptContext.getCurrentScopeId();
@@ -1221,7 +1221,8 @@ public class FunCallSyntaxNode extends LineSyntaxNode {
         funTypeInfo.setReturnType("Object");
 
         // 10. 创建函数引用（无闭包支持）
-        FunRefInfo funRef = FunRefInfo.createLambda(funDefInfo, null, context.getCurrentScopeId(), funTypeInfo);
+        FunRefInfo funRef = FunRefInfo.createLambda(funDefInfo, null, context.getCurrentScopeId(),
+            context.getCurrentScope().getResetCount(), funTypeInfo);
 
         return funRef;
     }
@@ -364,7 +364,8 @@ public class ImportSyntaxNode extends LineSyntaxNode {
 
             // 与主脚本执行链保持一致：先校验，再初始化上下文和超时控制
             SyntaxValidator.validate(scriptSyntaxNodes);
-            NfContextScope scriptMainScope = NfRun.prepareContext(scriptContext, null, null);
+            NfContextScope scriptMainScope = NfRun.prepareContext(scriptContext, null, null,
+                NfScriptRegistry.getScriptFrameLayout(scriptName));
             try {
                 // 执行脚本语法节点（不调用NfRun.run，避免clear）
                 SyntaxNodeFactory.executeAll(scriptSyntaxNodes, scriptContext);
@@ -292,7 +292,8 @@ public class LambdaSyntaxNode extends LineSyntaxNode {
         // 9. 创建函数引用指向 Lambda 函数
         // 支持闭包（变量捕获）
         java.util.Map<String, Object> capturedVariables = captureCurrentScopeVariables(context, paramNames);
-        FunRefInfo funRef = FunRefInfo.createLambda(funDefInfo, capturedVariables, context.getCurrentScopeId(), funTypeInfo);
+        FunRefInfo funRef = FunRefInfo.createLambda(funDefInfo, capturedVariables, context.getCurrentScopeId(),
+            context.getCurrentScope().getResetCount(), funTypeInfo);
 
         // 10. 将函数引用存储到变量
         String varName = lambdaNode.getVarName();
@@ -2,6 +2,7 @@ package com.gitee.huanminabc.nullchain.language.syntaxNode.linenode;
 
 import com.gitee.huanminabc.nullchain.language.NfCalculator;
 import com.gitee.huanminabc.nullchain.language.NfException;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.NfReturnException;
 import com.gitee.huanminabc.nullchain.language.NfSynta;
 import com.gitee.huanminabc.nullchain.language.internal.FunDefInfo;
@@ -12,6 +13,7 @@ import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.LineSyntaxNode;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeAbs;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeType;
 import com.gitee.huanminabc.nullchain.language.token.Token;
 import com.gitee.huanminabc.nullchain.language.token.TokenType;
@@ -21,6 +23,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -76,6 +79,11 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
         SyntaxNodeUtil.removeComments(newToken);
         ReturnSyntaxNode returnSyntaxNode = new ReturnSyntaxNode(SyntaxNodeType.RETURN_EXP);
         returnSyntaxNode.setValue(newToken);
+        // 单个返回值的表达式在解析时编译, 多返回值和Lambda在执行时处理
+        List<Token> expTokens = newToken.subList(1, newToken.size());
+        if (isSingleExpression(expTokens)) {
+            returnSyntaxNode.compileExpression(expTokens);
+        }
         // 设置行号
         returnSyntaxNode.setLine(newToken.get(0).getLine());
         syntaxNodeList.add(returnSyntaxNode);
@@ -110,7 +118,39 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
             return;
         }
 
-        // 解析返回值（支持多返回值，用逗号分割）
+        // 解析时编译过的是单个返回值的表达式, 直接计算, 否则按逗号拆分多返回值
+        NfExpression compiled = syntaxNode instanceof SyntaxNodeAbs ? ((SyntaxNodeAbs) syntaxNode).getExpression() : null;
+        List<Object> returnValues;
+        if (compiled != null) {
+            returnValues = Collections.singletonList(evaluateReturnValue(expTokens, context, syntaxNode.getLine(), compiled));
+        } else {
+            returnValues = evaluateReturnValues(expTokens, context, syntaxNode.getLine());
+        }
+
+        // 将返回值存储到函数作用域的特定变量中
+        // 必须存储到函数作用域（ALL类型）而不是当前作用域（可能是IF作用域）
+        NfContextScope functionScope = context.findByTypeScope(NfContextScopeType.ALL);
+        if (functionScope == null) {
+            functionScope = context.getCurrentScope();
+        }
+        if (returnValues.size() == 1) {
+            // 单返回值
+            functionScope.addVariable(new com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo(
+                "$__return__", returnValues.get(0), returnValues.get(0).getClass()));
+        } else {
+            // 多返回值，使用List存储
+            functionScope.addVariable(new com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo(
+                "$__return__", returnValues, java.util.List.class));
+        }
+
+        // 抛出返回异常，提前终止函数体的执行
+        throw new NfReturnException(syntaxNode.getLine());
+    }
+
+    /**
+     * 按顶层的逗号拆分并计算返回值（支持多返回值）
+     */
+    private List<Object> evaluateReturnValues(List<Token> expTokens, NfContext context, int line) {
         List<Object> returnValues = new ArrayList<>();
         List<Token> currentExp = new ArrayList<>();
         int parenDepth = 0;      // 括号深度
@@ -132,7 +172,7 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
             if (token.type == TokenType.COMMA && parenDepth == 0 && braceDepth == 0) {
                 if (!currentExp.isEmpty()) {
                     // 计算当前表达式
-                    Object value = evaluateReturnValue(currentExp, context, syntaxNode.getLine());
+                    Object value = evaluateReturnValue(currentExp, context, line, null);
                     returnValues.add(value);
                     currentExp.clear();
                 }
@@ -143,30 +183,31 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
 
         // 处理最后一个表达式
         if (!currentExp.isEmpty()) {
-            Object value = evaluateReturnValue(currentExp, context, syntaxNode.getLine());
+            Object value = evaluateReturnValue(currentExp, context, line, null);
             returnValues.add(value);
         }
+        return returnValues;
+    }
 
-        // 将返回值存储到函数作用域的特定变量中
-        // 必须存储到函数作用域（ALL类型）而不是当前作用域（可能是IF作用域）
-        NfContextScope functionScope = context.findByTypeScope(NfContextScopeType.ALL);
-        if (functionScope == null) {
-            functionScope = context.getCurrentScope();
+    /**
+     * 是否是单个返回值的普通表达式, 没有顶层的逗号并且不是Lambda
+     */
+    private static boolean isSingleExpression(List<Token> expTokens) {
+        if (expTokens.isEmpty()) {
+            return false;
         }
-        if (returnValues.size() == 1) {
-            // 单返回值
-            functionScope.addVariable(new com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo(
-                "$__return__", returnValues.get(0), returnValues.get(0).getClass()));
-        } else {
-            // 多返回值，使用List存储
-            functionScope.addVariable(new com.gitee.huanminabc.nullchain.language.internal.NfVariableInfo(
-                "$__return__", returnValues, java.util.List.class));
+        int depth = 0;
+        for (Token token : expTokens) {
+            if (token.type == TokenType.LPAREN || token.type == TokenType.LBRACE) {
+                depth++;
+            } else if (token.type == TokenType.RPAREN || token.type == TokenType.RBRACE) {
+                depth--;
+            } else if (token.type == TokenType.ARROW || (token.type == TokenType.COMMA && depth == 0)) {
+                return false;
+            }
         }
-
-        // 抛出返回异常，提前终止函数体的执行
-        throw new NfReturnException(syntaxNode.getLine());
+        return true;
     }
-
     /**
      * 计算返回值表达式
      * 支持普通表达式和 Lambda 表达式
@@ -174,9 +215,10 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
      * @param expTokens 表达式 token 列表
      * @param context 上下文
      * @param line 行号
+     * @param compiled 解析时编译的表达式, 没有时为null
      * @return 计算结果
      */
-    private Object evaluateReturnValue(List<Token> expTokens, NfContext context, int line) {
+    private Object evaluateReturnValue(List<Token> expTokens, NfContext context, int line, NfExpression compiled) {
         // 检查是否是 Lambda 表达式 (params) -> { body }
         boolean hasLambda = false;
         int lparenIndex = -1;
@@ -223,6 +265,9 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
         }
 
         // 普通表达式，使用 NfCalculator 计算
+        if (compiled != null) {
+            return NfCalculator.arithmetic(compiled, context);
+        }
         StringBuilder exp = TokenUtil.mergeToken(expTokens);
         return NfCalculator.arithmetic(exp.toString(), context);
     }
@@ -285,7 +330,8 @@ public class ReturnSyntaxNode extends LineSyntaxNode {
         java.util.Map<String, Object> capturedVariables = captureCurrentScopeVariables(context, paramNames);
 
         // 创建函数引用（支持闭包）
-        FunRefInfo funRef = FunRefInfo.createLambda(funDefInfo, capturedVariables, context.getCurrentScopeId(), funTypeInfo);
+        FunRefInfo funRef = FunRefInfo.createLambda(funDefInfo, capturedVariables, context.getCurrentScopeId(),
+            context.getCurrentScope().getResetCount(), funTypeInfo);
 
         return funRef;
     }
@@ -1,9 +1,9 @@
 package com.gitee.huanminabc.nullchain.language.syntaxNode.linenode;
 
-import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
 import com.gitee.huanminabc.nullchain.Null;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 import com.gitee.huanminabc.nullchain.common.NullBuild;
+import com.gitee.huanminabc.nullchain.common.NullExecutors;
 import com.gitee.huanminabc.nullchain.common.NullNode;
 import com.gitee.huanminabc.nullchain.common.NullType;
 import com.gitee.huanminabc.nullchain.language.NfCheckException;
@@ -32,7 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ExecutorService;
 
 /*
   运行任务表达式: run test1( a,b )
@@ -239,7 +239,7 @@ public class RunSyntaxNode extends LineSyntaxNode {
             //获取线程池名称（使用 $ 前缀的系统变量）
             NfVariableInfo threadFactory = mainScope.getVariable("$threadFactoryName");
             String threadFactoryName = (String) threadFactory.getValue();
-            ThreadPoolExecutor executor = ThreadFactoryUtil.getExecutor(threadFactoryName);
+            ExecutorService executor = NullExecutors.getExecutor(threadFactoryName);
             List<Future<?>> futures = new ArrayList<>();
             for (NullNode<String, List<Object>> nullNode : nullNodes) {
                 String taskName = nullNode.getKey();
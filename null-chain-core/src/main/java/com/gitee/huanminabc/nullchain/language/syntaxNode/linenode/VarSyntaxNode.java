@@ -233,6 +233,7 @@ public class VarSyntaxNode extends LineSyntaxNode {
         // 解析时检查变量名重复
         ParseScopeTracker tracker = NfSynta.getCurrentTracker();
         String syntaxStr = printExp(newToken);
+        VarSyntaxNode varSyntaxNode = new VarSyntaxNode(SyntaxNodeType.VAR_EXP);
         
         if (isMultiReturn) {
             // 多返回值函数调用：解析所有变量名并检查
@@ -256,6 +257,7 @@ public class VarSyntaxNode extends LineSyntaxNode {
                         tracker.checkDuplicateVariable(varName, varNameToken.line, syntaxStr);
                         tracker.addVariable(varName, varNameToken.line);
                     }
+                    varSyntaxNode.declareVariable(varName);
                     i++;
                     // 可选的类型声明
                     if (i < newToken.size() && newToken.get(i).type == TokenType.COLON) {
@@ -292,12 +294,14 @@ public class VarSyntaxNode extends LineSyntaxNode {
                 tracker.checkDuplicateVariable(varName.value, varName.line, syntaxStr);
                 tracker.addVariable(varName.value, varName.line);
             }
+            varSyntaxNode.declareVariable(varName.value);
         }
 
         // 去掉注释
         SyntaxNodeUtil.removeComments(newToken);
-        VarSyntaxNode varSyntaxNode = new VarSyntaxNode(SyntaxNodeType.VAR_EXP);
         varSyntaxNode.setValue(newToken);
+        // 解析时编译赋值的表达式, 执行时直接计算
+        varSyntaxNode.compileExpression(SyntaxNodeUtil.assignExpressionTokens(newToken, true));
         // 设置行号
         varSyntaxNode.setLine(newToken.get(0).getLine());
         syntaxNodeList.add(varSyntaxNode);
@@ -423,10 +427,9 @@ public class VarSyntaxNode extends LineSyntaxNode {
             }
 
             // 计算函数调用表达式
-            StringBuilder exp = TokenUtil.mergeToken(expTokens);
             Object returnValue;
             try {
-                returnValue = NfCalculator.arithmetic(exp.toString(), context);
+                returnValue = NfCalculator.arithmetic(expressionOf(syntaxNode, expTokens), context);
             } catch (Exception e) {
                 int line = valueTokens.get(0).line;
                 throw new NfException(e, "Line:{} ,函数调用表达式计算错误 , syntax: {}", line, syntaxNode);
@@ -545,14 +548,13 @@ public class VarSyntaxNode extends LineSyntaxNode {
         }
 
         // 计算表达式
-        StringBuilder exp = TokenUtil.mergeToken(expTokens);
         Object arithmetic;
         try {
             // 如果表达式只包含模板字符串，直接使用处理后的值
             if (hasTemplateString && expTokens.size() == 1 && expTokens.get(0).type == TokenType.TEMPLATE_STRING) {
                 arithmetic = templateStringValue;
             } else {
-                arithmetic = NfCalculator.arithmetic(exp.toString(), context);
+                arithmetic = NfCalculator.arithmetic(expressionOf(syntaxNode, expTokens), context);
                 // 如果计算结果是字符串且包含占位符，进行替换
                 if (arithmetic instanceof String && ((String) arithmetic).contains("{") && ((String) arithmetic).contains("}")) {
                     arithmetic = EchoSyntaxNode.replaceTemplate((String) arithmetic, context);
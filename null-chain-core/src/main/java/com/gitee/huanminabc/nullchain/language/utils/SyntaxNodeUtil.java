@@ -91,6 +91,36 @@ public class SyntaxNodeUtil {
     public static void removeComments(List<Token> tokens) {
         tokens.removeIf(t -> t.type == TokenType.COMMENT);
     }
+
+    /**
+     * 获取赋值语句中第一个赋值号后面的表达式token, 用于解析时编译表达式
+     *
+     * <p>new创建对象和单独的模板字符串不通过表达式计算, 返回null。</p>
+     *
+     * @param tokens  赋值语句的Token列表
+     * @param skipNew new开头的表达式是否由创建对象处理
+     * @return 表达式的Token列表, 不需要编译时返回null
+     */
+    public static List<Token> assignExpressionTokens(List<Token> tokens, boolean skipNew) {
+        int assignIndex = -1;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).type == TokenType.ASSIGN) {
+                assignIndex = i;
+                break;
+            }
+        }
+        if (assignIndex == -1 || assignIndex + 1 >= tokens.size()) {
+            return null;
+        }
+        List<Token> expTokens = tokens.subList(assignIndex + 1, tokens.size());
+        if (skipNew && expTokens.get(0).type == TokenType.NEW) {
+            return null;
+        }
+        if (expTokens.size() == 1 && expTokens.get(0).type == TokenType.TEMPLATE_STRING) {
+            return null;
+        }
+        return expTokens;
+    }
 }
 
 
@@ -19,7 +19,7 @@ import java.math.RoundingMode;
  */
 @Slf4j
 public class NullCalculateBase<T extends BigDecimal> extends NullKernelAsyncAbstract<T> implements NullCalculate<T> {
-    public NullCalculateBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullCalculateBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog,taskList);
     }
 
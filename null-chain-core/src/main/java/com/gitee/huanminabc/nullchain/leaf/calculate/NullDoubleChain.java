@@ -0,0 +1,215 @@
+package com.gitee.huanminabc.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.core.NullChain;
+
+import java.math.BigDecimal;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Null浮点数链接口 - 不装箱的double空值安全链
+ *
+ * <p>和{@link NullIntChain}一样直接保存double值和是否为空的标记, 所有操作都是立即执行的,
+ * 链上的操作修改并返回当前对象。运算按double的规则进行, 不保证十进制精度,
+ * 需要精确小数运算时使用{@link #calc()}转换为BigDecimal计算链。</p>
+ *
+ * <h3>设计特点：</h3>
+ * <ul>
+ *   <li>不装箱：值以double保存, 映射和运算都使用基本类型的函数接口</li>
+ *   <li>空值安全：值为空时映射和运算都会跳过, 直到{@link #or(double)}或者{@link #orElse(double)}给出默认值</li>
+ *   <li>除数检查：和{@link NullCalculate#div(Number)}一样, 除数为0时抛出异常而不是得到Infinity</li>
+ *   <li>边界转换：只有{@link #boxed()}、{@link #mapToObj(DoubleFunction)}和{@link #calc()}会转换为对象链</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * double ratio = Null.ofDouble(stat.getHit())
+ *     .div(stat.getTotal())
+ *     .mul(100)
+ *     .orElse(0D);
+ * }</pre>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullIntChain
+ * @see NullLongChain
+ */
+public interface NullDoubleChain {
+
+    /**
+     * 判断值是否为空
+     *
+     * @return true为空
+     */
+    boolean is();
+
+    /**
+     * 判断值是否不为空
+     *
+     * @return true不为空
+     */
+    boolean non();
+
+    /**
+     * 获取值
+     *
+     * @return 当前值
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 值为空时抛出
+     */
+    double get();
+
+    /**
+     * 获取值, 为空时返回默认值
+     *
+     * @param defaultValue 默认值
+     * @return 当前值或者默认值
+     */
+    double orElse(double defaultValue);
+
+    /**
+     * 获取值, 为空时使用提供者的返回值
+     *
+     * @param supplier 默认值提供者
+     * @return 当前值或者提供者的返回值
+     */
+    double orElseGet(DoubleSupplier supplier);
+
+    /**
+     * 值不为空时执行操作
+     *
+     * @param action 要执行的操作
+     */
+    void ifPresent(DoubleConsumer action);
+
+    /**
+     * 值为空时使用默认值继续
+     *
+     * @param defaultValue 默认值
+     * @return 当前链
+     */
+    NullDoubleChain or(double defaultValue);
+
+    /**
+     * 条件判断 - 条件不成立时值变为空
+     *
+     * @param predicate 判断条件
+     * @return 当前链
+     */
+    NullDoubleChain ifGo(DoublePredicate predicate);
+
+    /**
+     * 映射为另一个double值
+     *
+     * @param mapper 映射函数
+     * @return 当前链
+     */
+    NullDoubleChain map(DoubleUnaryOperator mapper);
+
+    /**
+     * 映射为int值
+     *
+     * @param mapper 映射函数
+     * @return 整数链
+     */
+    NullIntChain mapToInt(DoubleToIntFunction mapper);
+
+    /**
+     * 映射为long值
+     *
+     * @param mapper 映射函数
+     * @return 长整数链
+     */
+    NullLongChain mapToLong(DoubleToLongFunction mapper);
+
+    /**
+     * 映射为对象, 转换为对象链
+     *
+     * @param mapper 映射函数, 返回null时对象链为空
+     * @param <U>    对象类型
+     * @return 对象链
+     */
+    <U> NullChain<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    /**
+     * 加法运算
+     *
+     * @param value 加数
+     * @return 当前链
+     */
+    NullDoubleChain add(double value);
+
+    /**
+     * 减法运算
+     *
+     * @param value 减数
+     * @return 当前链
+     */
+    NullDoubleChain sub(double value);
+
+    /**
+     * 乘法运算
+     *
+     * @param value 乘数
+     * @return 当前链
+     */
+    NullDoubleChain mul(double value);
+
+    /**
+     * 除法运算
+     *
+     * @param value 除数
+     * @return 当前链
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 除数为0时抛出
+     */
+    NullDoubleChain div(double value);
+
+    /**
+     * 取反运算
+     *
+     * @return 当前链
+     */
+    NullDoubleChain negate();
+
+    /**
+     * 取绝对值运算
+     *
+     * @return 当前链
+     */
+    NullDoubleChain abs();
+
+    /**
+     * 取最大值运算
+     *
+     * @param value 要比较的值
+     * @return 当前链
+     */
+    NullDoubleChain max(double value);
+
+    /**
+     * 取最小值运算
+     *
+     * @param value 要比较的值
+     * @return 当前链
+     */
+    NullDoubleChain min(double value);
+
+    /**
+     * 装箱, 转换为对象链
+     *
+     * @return 对象链
+     */
+    NullChain<Double> boxed();
+
+    /**
+     * 转换为BigDecimal计算链, 用于需要精确小数运算的场景
+     *
+     * @return 计算链
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 值为NaN或者Infinity时抛出
+     */
+    NullCalculate<BigDecimal> calc();
+}
@@ -0,0 +1,208 @@
+package com.gitee.huanminabc.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullBuild;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.core.NullChain;
+
+import java.math.BigDecimal;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.gitee.huanminabc.nullchain.common.NullLog.*;
+import static com.gitee.huanminabc.nullchain.leaf.calculate.NullIntChainBase.checkFunction;
+
+/**
+ * Null浮点数链基础实现类
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public class NullDoubleChainBase implements NullDoubleChain {
+    private double value;
+    private boolean empty;
+
+    public NullDoubleChainBase(double value, boolean empty) {
+        this.value = value;
+        this.empty = empty;
+    }
+
+    @Override
+    public boolean is() {
+        return empty;
+    }
+
+    @Override
+    public boolean non() {
+        return !empty;
+    }
+
+    @Override
+    public double get() {
+        if (empty) {
+            throw new NullChainException(PRIMITIVE_CHAIN_GET_Q);
+        }
+        return value;
+    }
+
+    @Override
+    public double orElse(double defaultValue) {
+        return empty ? defaultValue : value;
+    }
+
+    @Override
+    public double orElseGet(DoubleSupplier supplier) {
+        if (!empty) {
+            return value;
+        }
+        checkFunction(supplier, "orElseGet");
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public void ifPresent(DoubleConsumer action) {
+        checkFunction(action, "ifPresent");
+        if (!empty) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public NullDoubleChain or(double defaultValue) {
+        if (empty) {
+            value = defaultValue;
+            empty = false;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain ifGo(DoublePredicate predicate) {
+        checkFunction(predicate, "ifGo");
+        if (!empty && !predicate.test(value)) {
+            empty = true;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain map(DoubleUnaryOperator mapper) {
+        checkFunction(mapper, "map");
+        if (!empty) {
+            value = mapper.applyAsDouble(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain mapToInt(DoubleToIntFunction mapper) {
+        checkFunction(mapper, "mapToInt");
+        return empty ? NullBuild.emptyIntChain() : NullBuild.intChain(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public NullLongChain mapToLong(DoubleToLongFunction mapper) {
+        checkFunction(mapper, "mapToLong");
+        return empty ? NullBuild.emptyLongChain() : NullBuild.longChain(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <U> NullChain<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        checkFunction(mapper, "mapToObj");
+        return empty ? Null.empty() : Null.of(mapper.apply(value));
+    }
+
+    @Override
+    public NullDoubleChain add(double value) {
+        if (!empty) {
+            this.value += value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain sub(double value) {
+        if (!empty) {
+            this.value -= value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain mul(double value) {
+        if (!empty) {
+            this.value *= value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain div(double value) {
+        if (!empty) {
+            if (value == 0) {
+                throw new NullChainException(CALC_DIV_Q + "除数不能为0");
+            }
+            this.value /= value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain negate() {
+        if (!empty) {
+            value = -value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain abs() {
+        if (!empty) {
+            value = Math.abs(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain max(double value) {
+        if (!empty) {
+            this.value = Math.max(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullDoubleChain min(double value) {
+        if (!empty) {
+            this.value = Math.min(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullChain<Double> boxed() {
+        return empty ? Null.empty() : Null.of(value);
+    }
+
+    @Override
+    public NullCalculate<BigDecimal> calc() {
+        if (empty) {
+            return Null.ofCalc((BigDecimal) null);
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new NullChainException(PRIMITIVE_CHAIN_CALC_NOT_FINITE + value);
+        }
+        return Null.ofCalc(BigDecimal.valueOf(value));
+    }
+
+    @Override
+    public String toString() {
+        return empty ? "NullDoubleChain.empty" : "NullDoubleChain[" + value + "]";
+    }
+}
@@ -0,0 +1,220 @@
+package com.gitee.huanminabc.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.core.NullChain;
+
+import java.math.BigDecimal;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Null整数链接口 - 不装箱的int空值安全链
+ *
+ * <p>{@link NullChain}中的数值都是包装类型, {@link NullCalculate}会把数值都转换为BigDecimal,
+ * 计数、统计这类简单的整数运算大部分开销都在创建对象上。整数链直接保存int值和是否为空的标记,
+ * 所有操作都是立即执行的, 链上的操作修改并返回当前对象, 整个链只创建一个对象。</p>
+ *
+ * <h3>设计特点：</h3>
+ * <ul>
+ *   <li>不装箱：值以int保存, 映射和运算都使用基本类型的函数接口</li>
+ *   <li>空值安全：值为空时映射和运算都会跳过, 直到{@link #or(int)}或者{@link #orElse(int)}给出默认值</li>
+ *   <li>溢出检查：加、减、乘、取反、取绝对值溢出时抛出{@link ArithmeticException}, 不会静默回绕</li>
+ *   <li>边界转换：只有{@link #boxed()}、{@link #mapToObj(IntFunction)}和{@link #calc()}会转换为对象链</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * int total = Null.ofInt(order.getCount())
+ *     .ifGo(count -> count > 0)
+ *     .mul(price)
+ *     .add(fee)
+ *     .orElse(0);
+ * }</pre>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullLongChain
+ * @see NullDoubleChain
+ */
+public interface NullIntChain {
+
+    /**
+     * 判断值是否为空
+     *
+     * @return true为空
+     */
+    boolean is();
+
+    /**
+     * 判断值是否不为空
+     *
+     * @return true不为空
+     */
+    boolean non();
+
+    /**
+     * 获取值
+     *
+     * @return 当前值
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 值为空时抛出
+     */
+    int get();
+
+    /**
+     * 获取值, 为空时返回默认值
+     *
+     * @param defaultValue 默认值
+     * @return 当前值或者默认值
+     */
+    int orElse(int defaultValue);
+
+    /**
+     * 获取值, 为空时使用提供者的返回值
+     *
+     * @param supplier 默认值提供者
+     * @return 当前值或者提供者的返回值
+     */
+    int orElseGet(IntSupplier supplier);
+
+    /**
+     * 值不为空时执行操作
+     *
+     * @param action 要执行的操作
+     */
+    void ifPresent(IntConsumer action);
+
+    /**
+     * 值为空时使用默认值继续
+     *
+     * @param defaultValue 默认值
+     * @return 当前链
+     */
+    NullIntChain or(int defaultValue);
+
+    /**
+     * 条件判断 - 条件不成立时值变为空
+     *
+     * @param predicate 判断条件
+     * @return 当前链
+     */
+    NullIntChain ifGo(IntPredicate predicate);
+
+    /**
+     * 映射为另一个int值
+     *
+     * @param mapper 映射函数
+     * @return 当前链
+     */
+    NullIntChain map(IntUnaryOperator mapper);
+
+    /**
+     * 映射为long值
+     *
+     * @param mapper 映射函数
+     * @return 长整数链
+     */
+    NullLongChain mapToLong(IntToLongFunction mapper);
+
+    /**
+     * 映射为double值
+     *
+     * @param mapper 映射函数
+     * @return 浮点数链
+     */
+    NullDoubleChain mapToDouble(IntToDoubleFunction mapper);
+
+    /**
+     * 映射为对象, 转换为对象链
+     *
+     * @param mapper 映射函数, 返回null时对象链为空
+     * @param <U>    对象类型
+     * @return 对象链
+     */
+    <U> NullChain<U> mapToObj(IntFunction<? extends U> mapper);
+
+    /**
+     * 加法运算
+     *
+     * @param value 加数
+     * @return 当前链
+     * @throws ArithmeticException 结果溢出时抛出
+     */
+    NullIntChain add(int value);
+
+    /**
+     * 减法运算
+     *
+     * @param value 减数
+     * @return 当前链
+     * @throws ArithmeticException 结果溢出时抛出
+     */
+    NullIntChain sub(int value);
+
+    /**
+     * 乘法运算
+     *
+     * @param value 乘数
+     * @return 当前链
+     * @throws ArithmeticException 结果溢出时抛出
+     */
+    NullIntChain mul(int value);
+
+    /**
+     * 除法运算, 结果向0取整
+     *
+     * @param value 除数
+     * @return 当前链
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 除数为0时抛出
+     */
+    NullIntChain div(int value);
+
+    /**
+     * 取反运算
+     *
+     * @return 当前链
+     * @throws ArithmeticException 值为Integer.MIN_VALUE时抛出
+     */
+    NullIntChain negate();
+
+    /**
+     * 取绝对值运算
+     *
+     * @return 当前链
+     * @throws ArithmeticException 值为Integer.MIN_VALUE时抛出
+     */
+    NullIntChain abs();
+
+    /**
+     * 取最大值运算
+     *
+     * @param value 要比较的值
+     * @return 当前链
+     */
+    NullIntChain max(int value);
+
+    /**
+     * 取最小值运算
+     *
+     * @param value 要比较的值
+     * @return 当前链
+     */
+    NullIntChain min(int value);
+
+    /**
+     * 装箱, 转换为对象链
+     *
+     * @return 对象链
+     */
+    NullChain<Integer> boxed();
+
+    /**
+     * 转换为BigDecimal计算链, 用于需要精确小数运算的场景
+     *
+     * @return 计算链
+     */
+    NullCalculate<BigDecimal> calc();
+}
@@ -0,0 +1,211 @@
+package com.gitee.huanminabc.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullBuild;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.core.NullChain;
+
+import java.math.BigDecimal;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+import static com.gitee.huanminabc.nullchain.common.NullLog.*;
+
+/**
+ * Null整数链基础实现类
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public class NullIntChainBase implements NullIntChain {
+    private int value;
+    private boolean empty;
+
+    public NullIntChainBase(int value, boolean empty) {
+        this.value = value;
+        this.empty = empty;
+    }
+
+    @Override
+    public boolean is() {
+        return empty;
+    }
+
+    @Override
+    public boolean non() {
+        return !empty;
+    }
+
+    @Override
+    public int get() {
+        if (empty) {
+            throw new NullChainException(PRIMITIVE_CHAIN_GET_Q);
+        }
+        return value;
+    }
+
+    @Override
+    public int orElse(int defaultValue) {
+        return empty ? defaultValue : value;
+    }
+
+    @Override
+    public int orElseGet(IntSupplier supplier) {
+        if (!empty) {
+            return value;
+        }
+        checkFunction(supplier, "orElseGet");
+        return supplier.getAsInt();
+    }
+
+    @Override
+    public void ifPresent(IntConsumer action) {
+        checkFunction(action, "ifPresent");
+        if (!empty) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public NullIntChain or(int defaultValue) {
+        if (empty) {
+            value = defaultValue;
+            empty = false;
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain ifGo(IntPredicate predicate) {
+        checkFunction(predicate, "ifGo");
+        if (!empty && !predicate.test(value)) {
+            empty = true;
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain map(IntUnaryOperator mapper) {
+        checkFunction(mapper, "map");
+        if (!empty) {
+            value = mapper.applyAsInt(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain mapToLong(IntToLongFunction mapper) {
+        checkFunction(mapper, "mapToLong");
+        return empty ? NullBuild.emptyLongChain() : NullBuild.longChain(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public NullDoubleChain mapToDouble(IntToDoubleFunction mapper) {
+        checkFunction(mapper, "mapToDouble");
+        return empty ? NullBuild.emptyDoubleChain() : NullBuild.doubleChain(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <U> NullChain<U> mapToObj(IntFunction<? extends U> mapper) {
+        checkFunction(mapper, "mapToObj");
+        return empty ? Null.empty() : Null.of(mapper.apply(value));
+    }
+
+    @Override
+    public NullIntChain add(int value) {
+        if (!empty) {
+            this.value = Math.addExact(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain sub(int value) {
+        if (!empty) {
+            this.value = Math.subtractExact(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain mul(int value) {
+        if (!empty) {
+            this.value = Math.multiplyExact(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain div(int value) {
+        if (!empty) {
+            if (value == 0) {
+                throw new NullChainException(CALC_DIV_Q + "除数不能为0");
+            }
+            //MIN_VALUE / -1 的结果超出范围, 和negateExact一样抛出溢出异常
+            if (value == -1 && this.value == Integer.MIN_VALUE) {
+                throw new ArithmeticException("integer overflow");
+            }
+            this.value = this.value / value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain negate() {
+        if (!empty) {
+            value = Math.negateExact(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain abs() {
+        if (!empty && value < 0) {
+            value = Math.negateExact(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain max(int value) {
+        if (!empty) {
+            this.value = Math.max(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain min(int value) {
+        if (!empty) {
+            this.value = Math.min(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullChain<Integer> boxed() {
+        return empty ? Null.empty() : Null.of(value);
+    }
+
+    @Override
+    public NullCalculate<BigDecimal> calc() {
+        return Null.ofCalc(empty ? null : BigDecimal.valueOf(value));
+    }
+
+    @Override
+    public String toString() {
+        return empty ? "NullIntChain.empty" : "NullIntChain[" + value + "]";
+    }
+
+    static void checkFunction(Object function, String name) {
+        if (function == null) {
+            throw new NullChainException(name + PRIMITIVE_CHAIN_FUNCTION_NULL);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.gitee.huanminabc.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.core.NullChain;
+
+import java.math.BigDecimal;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Null长整数链接口 - 不装箱的long空值安全链
+ *
+ * <p>和{@link NullIntChain}一样直接保存long值和是否为空的标记, 所有操作都是立即执行的,
+ * 链上的操作修改并返回当前对象, 适合金额(分)、计数器这类超出int范围的整数运算。</p>
+ *
+ * <h3>设计特点：</h3>
+ * <ul>
+ *   <li>不装箱：值以long保存, 映射和运算都使用基本类型的函数接口</li>
+ *   <li>空值安全：值为空时映射和运算都会跳过, 直到{@link #or(long)}或者{@link #orElse(long)}给出默认值</li>
+ *   <li>溢出检查：加、减、乘、取反、取绝对值溢出时抛出{@link ArithmeticException}, 不会静默回绕</li>
+ *   <li>边界转换：只有{@link #boxed()}、{@link #mapToObj(LongFunction)}和{@link #calc()}会转换为对象链</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * long amount = Null.ofLong(order.getAmount())
+ *     .mul(order.getCount())
+ *     .sub(discount)
+ *     .max(0L)
+ *     .orElse(0L);
+ * }</pre>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullIntChain
+ * @see NullDoubleChain
+ */
+public interface NullLongChain {
+
+    /**
+     * 判断值是否为空
+     *
+     * @return true为空
+     */
+    boolean is();
+
+    /**
+     * 判断值是否不为空
+     *
+     * @return true不为空
+     */
+    boolean non();
+
+    /**
+     * 获取值
+     *
+     * @return 当前值
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 值为空时抛出
+     */
+    long get();
+
+    /**
+     * 获取值, 为空时返回默认值
+     *
+     * @param defaultValue 默认值
+     * @return 当前值或者默认值
+     */
+    long orElse(long defaultValue);
+
+    /**
+     * 获取值, 为空时使用提供者的返回值
+     *
+     * @param supplier 默认值提供者
+     * @return 当前值或者提供者的返回值
+     */
+    long orElseGet(LongSupplier supplier);
+
+    /**
+     * 值不为空时执行操作
+     *
+     * @param action 要执行的操作
+     */
+    void ifPresent(LongConsumer action);
+
+    /**
+     * 值为空时使用默认值继续
+     *
+     * @param defaultValue 默认值
+     * @return 当前链
+     */
+    NullLongChain or(long defaultValue);
+
+    /**
+     * 条件判断 - 条件不成立时值变为空
+     *
+     * @param predicate 判断条件
+     * @return 当前链
+     */
+    NullLongChain ifGo(LongPredicate predicate);
+
+    /**
+     * 映射为另一个int值
+     *
+     * @param mapper 映射函数
+     * @return 当前链
+     */
+    NullLongChain map(LongUnaryOperator mapper);
+
+    /**
+     * 映射为int值
+     *
+     * @param mapper 映射函数
+     * @return 整数链
+     */
+    NullIntChain mapToInt(LongToIntFunction mapper);
+
+    /**
+     * 映射为double值
+     *
+     * @param mapper 映射函数
+     * @return 浮点数链
+     */
+    NullDoubleChain mapToDouble(LongToDoubleFunction mapper);
+
+    /**
+     * 映射为对象, 转换为对象链
+     *
+     * @param mapper 映射函数, 返回null时对象链为空
+     * @param <U>    对象类型
+     * @return 对象链
+     */
+    <U> NullChain<U> mapToObj(LongFunction<? extends U> mapper);
+
+    /**
+     * 加法运算
+     *
+     * @param value 加数
+     * @return 当前链
+     * @throws ArithmeticException 结果溢出时抛出
+     */
+    NullLongChain add(long value);
+
+    /**
+     * 减法运算
+     *
+     * @param value 减数
+     * @return 当前链
+     * @throws ArithmeticException 结果溢出时抛出
+     */
+    NullLongChain sub(long value);
+
+    /**
+     * 乘法运算
+     *
+     * @param value 乘数
+     * @return 当前链
+     * @throws ArithmeticException 结果溢出时抛出
+     */
+    NullLongChain mul(long value);
+
+    /**
+     * 除法运算, 结果向0取整
+     *
+     * @param value 除数
+     * @return 当前链
+     * @throws com.gitee.huanminabc.nullchain.common.NullChainException 除数为0时抛出
+     */
+    NullLongChain div(long value);
+
+    /**
+     * 取反运算
+     *
+     * @return 当前链
+     * @throws ArithmeticException 值为Long.MIN_VALUE时抛出
+     */
+    NullLongChain negate();
+
+    /**
+     * 取绝对值运算
+     *
+     * @return 当前链
+     * @throws ArithmeticException 值为Long.MIN_VALUE时抛出
+     */
+    NullLongChain abs();
+
+    /**
+     * 取最大值运算
+     *
+     * @param value 要比较的值
+     * @return 当前链
+     */
+    NullLongChain max(long value);
+
+    /**
+     * 取最小值运算
+     *
+     * @param value 要比较的值
+     * @return 当前链
+     */
+    NullLongChain min(long value);
+
+    /**
+     * 装箱, 转换为对象链
+     *
+     * @return 对象链
+     */
+    NullChain<Long> boxed();
+
+    /**
+     * 转换为BigDecimal计算链, 用于需要精确小数运算的场景
+     *
+     * @return 计算链
+     */
+    NullCalculate<BigDecimal> calc();
+}
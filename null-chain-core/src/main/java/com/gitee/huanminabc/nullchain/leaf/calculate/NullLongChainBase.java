@@ -0,0 +1,206 @@
+package com.gitee.huanminabc.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullBuild;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.core.NullChain;
+
+import java.math.BigDecimal;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import static com.gitee.huanminabc.nullchain.common.NullLog.*;
+import static com.gitee.huanminabc.nullchain.leaf.calculate.NullIntChainBase.checkFunction;
+
+/**
+ * Null长整数链基础实现类
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ */
+public class NullLongChainBase implements NullLongChain {
+    private long value;
+    private boolean empty;
+
+    public NullLongChainBase(long value, boolean empty) {
+        this.value = value;
+        this.empty = empty;
+    }
+
+    @Override
+    public boolean is() {
+        return empty;
+    }
+
+    @Override
+    public boolean non() {
+        return !empty;
+    }
+
+    @Override
+    public long get() {
+        if (empty) {
+            throw new NullChainException(PRIMITIVE_CHAIN_GET_Q);
+        }
+        return value;
+    }
+
+    @Override
+    public long orElse(long defaultValue) {
+        return empty ? defaultValue : value;
+    }
+
+    @Override
+    public long orElseGet(LongSupplier supplier) {
+        if (!empty) {
+            return value;
+        }
+        checkFunction(supplier, "orElseGet");
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public void ifPresent(LongConsumer action) {
+        checkFunction(action, "ifPresent");
+        if (!empty) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public NullLongChain or(long defaultValue) {
+        if (empty) {
+            value = defaultValue;
+            empty = false;
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain ifGo(LongPredicate predicate) {
+        checkFunction(predicate, "ifGo");
+        if (!empty && !predicate.test(value)) {
+            empty = true;
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain map(LongUnaryOperator mapper) {
+        checkFunction(mapper, "map");
+        if (!empty) {
+            value = mapper.applyAsInt(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullIntChain mapToInt(LongToIntFunction mapper) {
+        checkFunction(mapper, "mapToInt");
+        return empty ? NullBuild.emptyIntChain() : NullBuild.intChain(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public NullDoubleChain mapToDouble(LongToDoubleFunction mapper) {
+        checkFunction(mapper, "mapToDouble");
+        return empty ? NullBuild.emptyDoubleChain() : NullBuild.doubleChain(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <U> NullChain<U> mapToObj(LongFunction<? extends U> mapper) {
+        checkFunction(mapper, "mapToObj");
+        return empty ? Null.empty() : Null.of(mapper.apply(value));
+    }
+
+    @Override
+    public NullLongChain add(long value) {
+        if (!empty) {
+            this.value = Math.addExact(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain sub(long value) {
+        if (!empty) {
+            this.value = Math.subtractExact(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain mul(long value) {
+        if (!empty) {
+            this.value = Math.multiplyExact(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain div(long value) {
+        if (!empty) {
+            if (value == 0) {
+                throw new NullChainException(CALC_DIV_Q + "除数不能为0");
+            }
+            //MIN_VALUE / -1 的结果超出范围, 和negateExact一样抛出溢出异常
+            if (value == -1 && this.value == Long.MIN_VALUE) {
+                throw new ArithmeticException("long overflow");
+            }
+            this.value = this.value / value;
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain negate() {
+        if (!empty) {
+            value = Math.negateExact(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain abs() {
+        if (!empty && value < 0) {
+            value = Math.negateExact(value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain max(long value) {
+        if (!empty) {
+            this.value = Math.max(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullLongChain min(long value) {
+        if (!empty) {
+            this.value = Math.min(this.value, value);
+        }
+        return this;
+    }
+
+    @Override
+    public NullChain<Long> boxed() {
+        return empty ? Null.empty() : Null.of(value);
+    }
+
+    @Override
+    public NullCalculate<BigDecimal> calc() {
+        return Null.ofCalc(empty ? null : BigDecimal.valueOf(value));
+    }
+
+    @Override
+    public String toString() {
+        return empty ? "NullLongChain.empty" : "NullLongChain[" + value + "]";
+    }
+}
@@ -1,6 +1,5 @@
 package com.gitee.huanminabc.nullchain.leaf.check;
 
-import com.gitee.huanminabc.jcommon.reflect.LambdaUtil;
 import com.gitee.huanminabc.nullchain.Null;
 import com.gitee.huanminabc.nullchain.common.*;
 import com.gitee.huanminabc.nullchain.common.function.NullFun;
@@ -36,7 +35,7 @@ public class NullCheckBase<T> extends NullKernelAsyncAbstract<T> implements Null
      * @param linkLog 链路日志
      * @param taskList 任务列表
      */
-    public NullCheckBase(StringBuilder linkLog, NullTaskList taskList,  List<NullCheckNode> list) {
+    public NullCheckBase(NullLinkLog linkLog, NullTaskList taskList,  List<NullCheckNode> list) {
         super(linkLog, taskList);
         this.checkNodes= list;
     }
@@ -84,7 +83,7 @@ public class NullCheckBase<T> extends NullKernelAsyncAbstract<T> implements Null
         // 获取字段名
         String fieldName;
         try {
-            fieldName = LambdaUtil.getFieldName(function);
+            fieldName = NullPickAccessor.fieldName(function);
         } catch (Exception e) {
             // 如果无法获取字段名，使用默认名称
             fieldName = "field" + checkNodes.size();
@@ -219,7 +218,8 @@ public class NullCheckBase<T> extends NullKernelAsyncAbstract<T> implements Null
         throw NullReflectionKit.addRunErrorMessage(
                 exceptionClass!=null ? exceptionClass : NullChainException.class,
                 Thread.currentThread().getStackTrace(),
-                exceptionMessage
+                exceptionMessage.toString(),
+                null
         );
     }
 
@@ -79,11 +79,11 @@ public class OkHttpBase<T> extends NullKernelAbstract implements OkHttp<T> {
         this.url = url;
     }
 
-    public OkHttpBase(String url, StringBuilder linkLog, NullTaskList taskList) {
+    public OkHttpBase(String url, NullLinkLog linkLog, NullTaskList taskList) {
         this(DEFAULT_THREAD_FACTORY_NAME, url, linkLog, taskList);
     }
 
-    public OkHttpBase(String httpName, String url, StringBuilder linkLog, NullTaskList taskList) {
+    public OkHttpBase(String httpName, String url, NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
         this.okHttpClient = OkHttpBuild.getOkHttp(httpName);
         setUrl(url);
@@ -10,7 +10,7 @@ import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
 public class NullDoubleStreamBase extends NullKernelAsyncAbstract<Double> implements NullDoubleStream {
-    public NullDoubleStreamBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullDoubleStreamBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
     }
 
@@ -10,7 +10,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class NullIntStreamBase  extends NullKernelAsyncAbstract<Integer> implements NullIntStream {
-    public NullIntStreamBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullIntStreamBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
     }
 
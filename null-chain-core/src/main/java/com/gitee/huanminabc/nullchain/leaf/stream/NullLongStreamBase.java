@@ -10,7 +10,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class NullLongStreamBase extends NullKernelAsyncAbstract<Long> implements NullLongStream {
-    public NullLongStreamBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullLongStreamBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
     }
 
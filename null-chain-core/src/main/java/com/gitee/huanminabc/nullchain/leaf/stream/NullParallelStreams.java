@@ -0,0 +1,233 @@
+package com.gitee.huanminabc.nullchain.leaf.stream;
+
+import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskContext;
+import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskSnapshot;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.common.NullExecutors;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Null并行流 - 在独立的ForkJoin线程池中执行并行流
+ *
+ * <p>{@link Stream#parallel()} 的任务都在公共的ForkJoin线程池中执行, 异步链的回调也在这个线程池中执行,
+ * 计算密集的流会和链的回调互相抢占线程。这里按线程池名称为并行流创建独立的ForkJoin线程池,
+ * 流的终结操作被提交到该线程池中执行, 拆分出的子任务也就留在该线程池中。</p>
+ *
+ * <ul>
+ *   <li>终结操作和拆分后的每个分块都在提交流时的上下文中执行({@link AsyncTaskContext})</li>
+ *   <li>可以指定分块大小, 元素数量不大于分块大小时不再拆分</li>
+ *   <li>map、filter等中间操作返回的流同样在该线程池中执行, 包括mapToInt等转换后的基本类型流</li>
+ * </ul>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ * @version 1.1.10
+ * @see NullStream#parallel(String)
+ * @see NullStream#parallel(int)
+ */
+final class NullParallelStreams {
+
+    private NullParallelStreams() {
+    }
+
+    /**
+     * 获取线程池名称对应的ForkJoin线程池
+     *
+     * @param threadFactoryName 线程池名称, 为空时使用默认名称
+     * @return ForkJoin线程池
+     * @see NullExecutors#getForkJoinPool(String)
+     */
+    static ForkJoinPool getPool(String threadFactoryName) {
+        return NullExecutors.getForkJoinPool(threadFactoryName);
+    }
+
+    /**
+     * 将流转换为在指定线程池中执行的并行流
+     *
+     * @param stream            原始的流
+     * @param threadFactoryName 线程池名称, 为空时使用默认名称
+     * @param chunkSize         分块大小, 小于等于0时按流自身的方式拆分
+     * @return 并行流
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Stream<T> parallel(Stream<T> stream, String threadFactoryName, int chunkSize) {
+        ForkJoinPool pool = getPool(threadFactoryName);
+        AsyncTaskSnapshot snapshot = AsyncTaskContext.capture();
+        Stream<T> parallel = StreamSupport.stream(new ChunkSpliterator<>(stream.spliterator(), chunkSize, snapshot), true)
+                .onClose(stream::close);
+        return (Stream<T>) proxy(Stream.class, parallel, pool, snapshot);
+    }
+
+    private static Object proxy(Class<?> type, Object stream, ForkJoinPool pool, AsyncTaskSnapshot snapshot) {
+        return Proxy.newProxyInstance(NullParallelStreams.class.getClassLoader(), new Class<?>[]{type},
+                new PoolInvocationHandler(stream, pool, snapshot));
+    }
+
+    //在快照的上下文中执行, 没有快照时使用当前的上下文
+    private static void runWith(AsyncTaskSnapshot snapshot, Runnable runnable) {
+        (snapshot == null ? AsyncTaskContext.wrap(runnable) : snapshot.wrap(runnable)).run();
+    }
+
+    /**
+     * 中间操作返回的流继续代理, 其他方法作为终结操作提交到线程池中执行
+     */
+    private static final class PoolInvocationHandler implements InvocationHandler {
+        private final Object stream;
+        private final ForkJoinPool pool;
+        private final AsyncTaskSnapshot snapshot;
+
+        private PoolInvocationHandler(Object stream, ForkJoinPool pool, AsyncTaskSnapshot snapshot) {
+            this.stream = stream;
+            this.pool = pool;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return stream.toString();
+                }
+            }
+            if (BaseStream.class.isAssignableFrom(method.getReturnType())) {
+                Object result = invokeStream(method, args);
+                if (result == stream) {
+                    return proxy;
+                }
+                return proxy(streamType(result), result, pool, snapshot);
+            }
+            switch (method.getName()) {
+                case "iterator":
+                case "spliterator":
+                case "isParallel":
+                case "close":
+                    return invokeStream(method, args);
+                default:
+                    return invokeInPool(method, args);
+            }
+        }
+
+        private Object invokeStream(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(stream, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        //终结操作在线程池中执行, 拆分出的子任务也会留在该线程池中
+        private Object invokeInPool(Method method, Object[] args) throws Throwable {
+            if (ForkJoinTask.getPool() == pool) {
+                return invokeStream(method, args);
+            }
+            Object[] result = new Object[1];
+            Throwable[] error = new Throwable[1];
+            pool.submit(() -> runWith(snapshot, () -> {
+                try {
+                    result[0] = invokeStream(method, args);
+                } catch (Throwable e) {
+                    error[0] = e;
+                }
+            })).join();
+            //直接抛出原始异常, 保留链路日志等信息
+            if (error[0] != null) {
+                throw error[0];
+            }
+            return result[0];
+        }
+
+        private static Class<?> streamType(Object stream) {
+            if (stream instanceof IntStream) {
+                return IntStream.class;
+            }
+            if (stream instanceof LongStream) {
+                return LongStream.class;
+            }
+            if (stream instanceof DoubleStream) {
+                return DoubleStream.class;
+            }
+            if (stream instanceof Stream) {
+                return Stream.class;
+            }
+            throw new NullChainException("不支持的流类型: " + stream.getClass().getName());
+        }
+    }
+
+    /**
+     * 按分块大小拆分的Spliterator, 每个分块在提交流时的上下文中执行
+     *
+     * <p>上下文在{@link #forEachRemaining(Consumer)}中按分块设置一次, 短路操作逐个调用的{@link #tryAdvance(Consumer)}不再切换。</p>
+     */
+    private static final class ChunkSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<T> delegate;
+        private final int chunkSize;
+        private final AsyncTaskSnapshot snapshot;
+
+        private ChunkSpliterator(Spliterator<T> delegate, int chunkSize, AsyncTaskSnapshot snapshot) {
+            this.delegate = delegate;
+            this.chunkSize = chunkSize;
+            this.snapshot = snapshot;
+        }
+
+        //逐个取元素时不切换上下文, 避免短路操作每个元素都创建任务和切换上下文, 上下文由执行终结操作的任务设置
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return delegate.tryAdvance(action);
+        }
+
+        //整个分块切换一次上下文
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            runWith(snapshot, () -> delegate.forEachRemaining(action));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (chunkSize > 0 && delegate.estimateSize() <= chunkSize) {
+                return null;
+            }
+            Spliterator<T> split = delegate.trySplit();
+            return split == null ? null : new ChunkSpliterator<>(split, chunkSize, snapshot);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return delegate.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+}
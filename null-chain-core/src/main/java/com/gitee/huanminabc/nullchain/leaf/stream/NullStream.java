@@ -59,6 +59,25 @@ public interface NullStream<T > extends NullKernel<T> {
      */
     NullStream<T> parallel();
 
+    /**
+     * 转换为在指定线程池中执行的并行流
+     *
+     * <p>并行流的任务在线程池名称对应的独立ForkJoin线程池中执行, 不再占用异步链使用的公共线程池,
+     * 提交流时的上下文会传递到每个并行任务中。</p>
+     *
+     * @param threadFactoryName 线程池名称, 为空时使用默认名称
+     * @return 并行流实例
+     */
+    NullStream<T> parallel(String threadFactoryName);
+
+    /**
+     * 转换为按分块大小拆分的并行流, 在默认名称的独立ForkJoin线程池中执行
+     *
+     * @param chunkSize 分块大小, 必须大于0, 元素数量不大于分块大小时不再拆分
+     * @return 并行流实例
+     */
+    NullStream<T> parallel(int chunkSize);
+
     /**
      * 流映射操作
      * 
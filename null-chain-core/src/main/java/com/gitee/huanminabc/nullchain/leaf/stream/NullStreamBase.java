@@ -24,7 +24,7 @@ import java.util.stream.*;
  * @version 1.1.1
  */
 public class NullStreamBase<T> extends NullKernelAsyncAbstract<T> implements NullStream<T> {
-    public NullStreamBase(StringBuilder linkLog, NullTaskList taskList) {
+    public NullStreamBase(NullLinkLog linkLog, NullTaskList taskList) {
         super(linkLog, taskList);
     }
 
@@ -41,6 +41,31 @@ public class NullStreamBase<T> extends NullKernelAsyncAbstract<T> implements Nul
 
     }
 
+    @Override
+    public NullStream<T> parallel(String threadFactoryName) {
+        return parallel(threadFactoryName, null);
+    }
+
+    @Override
+    public NullStream<T> parallel(int chunkSize) {
+        return parallel(null, chunkSize);
+    }
+
+    //chunkSize为null时按流自身的方式拆分
+    private NullStream<T> parallel(String threadFactoryName, Integer chunkSize) {
+        this.taskList.add((value) -> {
+            if (!(value instanceof Stream)) {
+                throw new NullChainException(linkLog.append(STREAM_PARALLEL_VALUE_NOT_STREAM).toString());
+            }
+            if (chunkSize != null && chunkSize <= 0) {
+                throw new NullChainException(linkLog.append(STREAM_PARALLEL_CHUNK_SIZE_INVALID).append(chunkSize).toString());
+            }
+            T parallel = (T) NullParallelStreams.parallel((Stream) value, threadFactoryName, chunkSize == null ? 0 : chunkSize);
+            return NullBuild.noEmpty(parallel);
+        });
+        return NullBuild.busyStream(this);
+    }
+
     @Override
     public <R> NullStream<R> map(NullFun<? super T, ? extends R> mapper) {
         this.taskList.add((value) -> {
@@ -49,11 +74,8 @@ public class NullStreamBase<T> extends NullKernelAsyncAbstract<T> implements Nul
             }
             R stream;
             try {
-                stream = (R) ((Stream) value).filter((data) -> {
-                    //对mapper进行加强,如果返回的是空那么就丢弃
-                    R apply = mapper.apply((T) data);
-                    return Null.non(apply) ;
-                }).map(mapper);
+                //对mapper进行加强,如果返回的是空那么就丢弃, 每个元素只执行一次mapper
+                stream = (R) ((Stream) value).map(mapper).filter((apply) -> Null.non(apply));
             } catch (Exception e) {
                 linkLog.append(STREAM_MAP_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -269,7 +291,18 @@ public class NullStreamBase<T> extends NullKernelAsyncAbstract<T> implements Nul
             }
             R stream;
             try {
-                stream = (R) ((Stream) value).flatMap(mapper);
+                //每个元素返回的NullStream只执行一次, 为空时丢弃
+                stream = (R) ((Stream) value).flatMap((data) -> {
+                    NullStream<? extends R> nullStream = mapper.apply((T) data);
+                    if (nullStream instanceof NullStreamBase) {
+                        NullStreamBase base = (NullStreamBase) nullStream;
+                        NullTaskList.NullNode<Object> node = base.taskList.runTaskAll();
+                        if (!node.isNull && node.value instanceof Stream) {
+                            return (Stream) node.value;
+                        }
+                    }
+                    return Stream.empty();
+                });
             } catch (Exception e) {
                 linkLog.append(STREAM_FLATMAP_Q);
                 throw NullReflectionKit.addRunErrorMessage(e, linkLog);
@@ -1,9 +1,11 @@
 package com.gitee.huanminabc.test.nullchain.common;
 
 import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullCallSite;
 import com.gitee.huanminabc.nullchain.common.NullChainException;
 import com.gitee.huanminabc.nullchain.common.NullGroupTask;
 import com.gitee.huanminabc.nullchain.common.NullGroupNfTask;
+import com.gitee.huanminabc.nullchain.common.NullLog;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 import com.gitee.huanminabc.test.nullchain.entity.UserEntity;
 import com.gitee.huanminabc.test.nullchain.task.Test1Task;
@@ -14,6 +16,9 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -198,10 +203,32 @@ public class NullChainExceptionTest {
                     .get(() -> new IllegalArgumentException("自定义异常"));
             fail("应该抛出异常");
         } catch (IllegalArgumentException e) {
-            assertEquals(" Null.of? 自定义异常", e.getMessage());
+            //不修改原异常的消息, 链路日志以suppressed的形式附加
+            assertEquals("自定义异常", e.getMessage());
+            assertEquals(1, e.getSuppressed().length);
+            assertEquals(" Null.of? ", e.getSuppressed()[0].getMessage());
         }
     }
 
+    @Test
+    public void testGetWithExceptionClassAttachesLinkLogLazily() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> Null.of((String) null).get(IllegalStateException.class, "用户{}不存在", 1));
+        assertEquals("用户1不存在", exception.getMessage());
+        Throwable linkLog = exception.getSuppressed()[0];
+        assertTrue(linkLog instanceof NullChainException);
+        assertEquals(0, linkLog.getStackTrace().length);
+        String message = linkLog.getMessage();
+        assertTrue(message.startsWith(NullLog.OF_Q), message);
+        assertSame(message, linkLog.getMessage());
+
+        //空链自己的异常仍然把链路日志渲染到消息前面
+        NullChainException chainException = assertThrows(NullChainException.class,
+                () -> Null.of((String) null).get(NullChainException.class, "fail"));
+        assertEquals(NullLog.OF_Q + " fail", chainException.getMessage());
+        assertEquals(0, chainException.getSuppressed().length);
+    }
+
     @Test
     public void testSerializeNullValueException() {
         // 测试序列化空值异常
@@ -700,5 +727,94 @@ public class NullChainExceptionTest {
             assertNotNull(e.getMessage());
         }
     }
-}
 
+    // ========== 调用点堆栈测试 ==========
+
+    @Test
+    public void testCallSiteCaptureDisabledByDefault() {
+        assertFalse(NullCallSite.isCaptureEnabled());
+        assertNull(NullCallSite.capture());
+        NullChainException exception = NullCallSite.exception(null, "{}{}", "a", "b");
+        assertNotNull(exception.getStackTrace());
+    }
+
+    @Test
+    public void testCallSiteCaptureEnabled() throws Exception {
+        try {
+            NullCallSite.setCaptureEnabled(true);
+            StackTraceElement[] callSite = NullCallSite.capture();
+            assertNotNull(callSite);
+            assertArrayEquals(callSite, NullCallSite.exception(callSite, "test").getStackTrace());
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            Null.of("test").async().map(value -> {
+                throw new IllegalStateException("fail");
+            }).capture(e -> {
+                error.set(e);
+                latch.countDown();
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            //异步异常中附带了调用方的堆栈
+            assertTrue(error.get().getCause().getSuppressed().length > 0);
+        } finally {
+            NullCallSite.setCaptureEnabled(false);
+        }
+    }
+
+    @Test
+    public void testWrappedExceptionMessageKeepsFormat() {
+        IllegalStateException cause = new IllegalStateException("fail");
+        NullChainException exception = assertThrows(NullChainException.class, () -> Null.of("test").map(value -> {
+            throw cause;
+        }).get());
+        //消息格式与原来修改被包装异常消息后的toString一致
+        assertEquals(IllegalStateException.class.getName() + ": " + NullLog.OF_ARROW + NullLog.CHAIN_MAP_Q + " fail", exception.getMessage());
+        //被包装的异常不会被修改
+        assertSame(cause, exception.getCause());
+        assertEquals("fail", cause.getMessage());
+    }
+
+    @Test
+    public void testNullChainExceptionMessageIsRenderedOnce() {
+        NullChainException exception = assertThrows(NullChainException.class, () -> Null.of("test").map(value -> {
+            throw new NullChainException("fail");
+        }).get());
+        String message = exception.getMessage();
+        assertEquals(NullLog.OF_ARROW + NullLog.CHAIN_MAP_Q + " fail", message);
+        assertSame(message, exception.getMessage());
+    }
+
+    @Test
+    public void testSetMessageWithoutReflection() {
+        NullChainException exception = new NullChainException("old");
+        exception.setMessage("new {}", 1);
+        assertEquals("new 1", exception.getMessage());
+        assertTrue(exception.toString().endsWith("new 1"));
+    }
+
+    @Test
+    public void testLinkLogMessageSerializable() throws Exception {
+        NullChainException exception = assertThrows(NullChainException.class, () -> Null.of("test").map(value -> {
+            throw new NullChainException("fail");
+        }).get());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            NullChainException copy = (NullChainException) in.readObject();
+            assertEquals(NullLog.OF_ARROW + NullLog.CHAIN_MAP_Q + " fail", copy.getMessage());
+        }
+    }
+
+    @Test
+    public void testCauseMessageRenderedLazily() {
+        IllegalStateException cause = new IllegalStateException("boom");
+        NullChainException exception = new NullChainException(cause);
+        //和RuntimeException(Throwable)一致, 消息是被包装异常的toString
+        assertEquals(cause.toString(), exception.getMessage());
+        assertSame(cause, exception.getCause());
+        assertNull(new NullChainException((Throwable) null).getMessage());
+    }
+}
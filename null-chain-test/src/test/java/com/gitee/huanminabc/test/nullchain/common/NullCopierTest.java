@@ -0,0 +1,188 @@
+package com.gitee.huanminabc.test.nullchain.common;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullCopier;
+import com.gitee.huanminabc.nullchain.common.NullCopyOnWriteList;
+import com.gitee.huanminabc.nullchain.common.NullCopyOnWriteMap;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NullCopier对象复制器测试
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+public class NullCopierTest {
+
+    @Data
+    public static class Node {
+        private String name;
+        private BigDecimal amount;
+        private int[] scores;
+        private List<String> tags;
+        private Map<String, Node> children;
+        private Node parent;
+        private transient String cache;
+    }
+
+    @Data
+    public static class Event {
+        private String name;
+        private Date time;
+    }
+
+    private Node newNode(String name) {
+        Node node = new Node();
+        node.setName(name);
+        node.setAmount(new BigDecimal("1.5"));
+        node.setScores(new int[]{1, 2, 3});
+        node.setTags(new ArrayList<>(Arrays.asList("a", "b")));
+        node.setChildren(new LinkedHashMap<>());
+        node.setCache("cache");
+        return node;
+    }
+
+    @Test
+    public void testImmutableReused() {
+        String str = "abc";
+        BigDecimal decimal = new BigDecimal("1.0");
+        UUID uuid = UUID.randomUUID();
+        assertSame(str, NullCopier.deepCopy(str));
+        assertSame(decimal, NullCopier.deepCopy(decimal));
+        assertSame(uuid, NullCopier.copy(uuid));
+        assertTrue(NullCopier.isImmutable(Thread.State.class));
+        assertFalse(NullCopier.isImmutable(ArrayList.class));
+    }
+
+    @Test
+    public void testShallowCopy() {
+        Node node = newNode("root");
+        Node copy = NullCopier.copy(node);
+        assertNotSame(node, copy);
+        assertEquals("root", copy.getName());
+        assertSame(node.getTags(), copy.getTags());
+        assertEquals("cache", copy.getCache());
+    }
+
+    @Test
+    public void testDeepCopyWithCycle() {
+        Node root = newNode("root");
+        Node child = newNode("child");
+        child.setParent(root);
+        root.getChildren().put("child", child);
+
+        Node copy = NullCopier.deepCopy(root);
+        assertNotSame(root, copy);
+        assertNotSame(root.getTags(), copy.getTags());
+        assertNotSame(root.getScores(), copy.getScores());
+        assertArrayEquals(root.getScores(), copy.getScores());
+        assertSame(root.getAmount(), copy.getAmount());
+        assertTrue(copy.getChildren() instanceof LinkedHashMap);
+
+        Node copyChild = copy.getChildren().get("child");
+        assertNotSame(child, copyChild);
+        //循环引用复制后指向复制的对象
+        assertSame(copy, copyChild.getParent());
+        //transient字段不复制
+        assertNull(copy.getCache());
+    }
+
+    @Test
+    public void testDeepCopyCollections() {
+        TreeMap<String, List<Integer>> map = new TreeMap<>(Comparator.reverseOrder());
+        map.put("a", new ArrayList<>(Arrays.asList(1, 2)));
+        map.put("b", new LinkedList<>(Collections.singletonList(3)));
+        TreeMap<String, List<Integer>> copy = NullCopier.deepCopy(map);
+        assertEquals(map, copy);
+        assertEquals("b", copy.firstKey());
+        assertNotSame(map.get("a"), copy.get("a"));
+        assertTrue(copy.get("b") instanceof LinkedList);
+
+        Object[] array = {new ArrayList<>(Collections.singletonList("x")), "y"};
+        Object[] copyArray = NullCopier.deepCopy(array);
+        assertNotSame(array[0], copyArray[0]);
+        assertEquals(array[0], copyArray[0]);
+        assertSame(array[1], copyArray[1]);
+    }
+
+    @Test
+    public void testChainCopyUsesCopier() {
+        Node root = newNode("root");
+        Node copy = Null.of(root).deepCopy().get();
+        assertNotSame(root, copy);
+        assertNotSame(root.getTags(), copy.getTags());
+        assertEquals(root.getTags(), copy.getTags());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCopyOnWriteMap() {
+        Map<String, Object> source = new HashMap<>();
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        Map<String, Object> inner = new HashMap<>();
+        inner.put("k", "v");
+        source.put("list", list);
+        source.put("inner", inner);
+        source.put("name", "test");
+
+        Map<String, Object> view = NullCopier.copyOnWrite(source);
+        assertTrue(view instanceof NullCopyOnWriteMap);
+        assertEquals("test", view.get("name"));
+        assertEquals(3, view.size());
+
+        //修改嵌套的List和Map不影响原对象
+        List<String> viewList = (List<String>) view.get("list");
+        assertTrue(viewList instanceof NullCopyOnWriteList);
+        viewList.add("c");
+        assertSame(viewList, view.get("list"));
+        ((Map<String, Object>) view.get("inner")).put("k", "changed");
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertEquals("v", inner.get("k"));
+        assertFalse(((NullCopyOnWriteMap<String, Object>) view).isCopied());
+
+        //修改自身时才复制, 之前读取的嵌套对象保留修改
+        view.put("name", "changed");
+        view.remove("inner");
+        assertTrue(((NullCopyOnWriteMap<String, Object>) view).isCopied());
+        assertEquals("test", source.get("name"));
+        assertTrue(source.containsKey("inner"));
+        assertEquals(Arrays.asList("a", "b", "c"), view.get("list"));
+        assertEquals(2, view.size());
+    }
+
+    @Test
+    public void testDeepCopyClonesDate() {
+        Event event = new Event();
+        event.setName("start");
+        event.setTime(new Date(1000L));
+
+        Event copy = Null.of(event).deepCopy().get();
+        assertNotSame(event.getTime(), copy.getTime());
+        assertEquals(event.getTime(), copy.getTime());
+        //修改复制后的Date不影响原对象
+        copy.getTime().setTime(2000L);
+        assertEquals(1000L, event.getTime().getTime());
+        assertFalse(NullCopier.isImmutable(Date.class));
+    }
+
+    @Test
+    public void testDeepCopyKeepsWrapperSemantics() {
+        List<String> unmodifiable = Collections.unmodifiableList(new ArrayList<>(Arrays.asList("a", "b")));
+        List<String> copy = NullCopier.deepCopy(unmodifiable);
+        assertEquals(unmodifiable, copy);
+        assertThrows(UnsupportedOperationException.class, () -> copy.add("c"));
+
+        List<String> fixedSize = Arrays.asList("x", "y");
+        List<String> fixedCopy = NullCopier.deepCopy(fixedSize);
+        assertNotSame(fixedSize, fixedCopy);
+        fixedCopy.set(0, "z");
+        assertEquals("x", fixedSize.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> fixedCopy.add("w"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.gitee.huanminabc.test.nullchain.common;
+
+import com.gitee.huanminabc.jcommon.multithreading.executor.ThreadFactoryUtil;
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullExecutors;
+import com.gitee.huanminabc.nullchain.common.NullGroupTask;
+import com.gitee.huanminabc.test.nullchain.task.Test1Task;
+import com.gitee.huanminabc.test.nullchain.task.Test2Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NullExecutors 执行器测试
+ *
+ * <p>不支持虚拟线程的JVM上验证退回默认线程池, 支持时验证运行在虚拟线程上</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+public class NullExecutorsTest {
+
+    @Test
+    public void testVirtualExecutorFallback() throws Exception {
+        ExecutorService executor = NullExecutors.getExecutor(NullExecutors.VIRTUAL_THREAD_FACTORY_NAME);
+        assertNotNull(executor);
+        assertEquals(NullExecutors.isVirtualThreadSupported(),
+                NullExecutors.isVirtual(NullExecutors.VIRTUAL_THREAD_FACTORY_NAME));
+        assertEquals("ok", executor.submit(() -> "ok").get(5, TimeUnit.SECONDS));
+        //虚拟线程不需要注册
+        NullExecutors.addExecutor(NullExecutors.VIRTUAL_THREAD_FACTORY_NAME);
+    }
+
+    @Test
+    public void testAsyncVirtual() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> result = new AtomicReference<>();
+        AtomicReference<String> threadName = new AtomicReference<>();
+        Null.of("test")
+                .async(NullExecutors.VIRTUAL_THREAD_FACTORY_NAME)
+                .map(String::toUpperCase)
+                .ifPresent(value -> {
+                    result.set(value);
+                    threadName.set(Thread.currentThread().toString());
+                    latch.countDown();
+                });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("TEST", result.get());
+        if (NullExecutors.isVirtualThreadSupported()) {
+            assertTrue(threadName.get().startsWith("VirtualThread"));
+        }
+    }
+
+    @Test
+    public void testTaskGroupVirtual() {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(Test1Task.class.getName()),
+                NullGroupTask.task(Test2Task.class.getName())
+        );
+        Map<String, Object> result = Null.of("123")
+                .task(nullGroupTask, NullExecutors.VIRTUAL_THREAD_FACTORY_NAME)
+                .get();
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    public void testGlobalVirtualThread() throws Exception {
+        boolean old = NullExecutors.isGlobalVirtualThread();
+        try {
+            NullExecutors.setGlobalVirtualThread(true);
+            assertEquals(NullExecutors.isVirtualThreadSupported(),
+                    NullExecutors.isVirtual(ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME));
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<Integer> result = new AtomicReference<>();
+            Null.of(1).async().map(i -> i + 1).ifPresent(value -> {
+                result.set(value);
+                latch.countDown();
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(2, result.get());
+        } finally {
+            NullExecutors.setGlobalVirtualThread(old);
+        }
+        assertFalse(NullExecutors.isVirtual(ThreadFactoryUtil.DEFAULT_THREAD_FACTORY_NAME) && !old);
+    }
+}
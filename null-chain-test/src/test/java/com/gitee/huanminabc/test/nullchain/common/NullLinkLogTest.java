@@ -6,6 +6,8 @@ import com.gitee.huanminabc.nullchain.common.NullChainException;
 import com.gitee.huanminabc.nullchain.common.NullGroupTask;
 import com.gitee.huanminabc.nullchain.common.NullGroupNfTask;
 import com.gitee.huanminabc.nullchain.common.NullKernelAbstract;
+import com.gitee.huanminabc.nullchain.common.NullLinkLog;
+import com.gitee.huanminabc.nullchain.common.NullTraceLevel;
 import com.gitee.huanminabc.nullchain.core.NullChain;
 import com.gitee.huanminabc.nullchain.core.NullChainBase;
 import com.gitee.huanminabc.test.nullchain.entity.UserEntity;
@@ -47,7 +49,7 @@ public class NullLinkLogTest {
                 Field linkLogField = FieldUtil.getField(NullKernelAbstract.class, "linkLog");
                 if (linkLogField != null) {
                     linkLogField.setAccessible(true);
-                    StringBuilder linkLog = (StringBuilder) linkLogField.get(chain);
+                    NullLinkLog linkLog = (NullLinkLog) linkLogField.get(chain);
                     return linkLog != null ? linkLog.toString() : "";
                 }
             }
@@ -593,5 +595,55 @@ public class NullLinkLogTest {
         assertTrue(linkLog.contains("map->"), 
                 "嵌套链日志应包含 'map->' 标记，实际日志: " + linkLog);
     }
-}
 
+    // ========== 链路日志级别测试 ==========
+
+    @Test
+    public void testStepLevelRendersSameTextAsFull() {
+        NullLinkLog step = new NullLinkLog(NullTraceLevel.STEP);
+        NullLinkLog full = new NullLinkLog(NullTraceLevel.FULL);
+        for (NullLinkLog linkLog : new NullLinkLog[]{step, full}) {
+            linkLog.append(" Null.of->").append("map->").append("ifGo? ").append(1).append('x').append(2L);
+        }
+        assertEquals(full.toString(), step.toString());
+        assertEquals(" Null.of->map->ifGo? 1x2", step.toString());
+    }
+
+    @Test
+    public void testOffLevelRecordsNothing() {
+        NullLinkLog linkLog = new NullLinkLog(NullTraceLevel.OFF);
+        linkLog.append(" Null.of->").append(new Object());
+        assertTrue(linkLog.isEmpty());
+        assertEquals("", linkLog.toString());
+    }
+
+    @Test
+    public void testLinkLogCopyIsIndependent() {
+        NullLinkLog linkLog = new NullLinkLog(NullTraceLevel.STEP);
+        linkLog.append(" Null.of->");
+        NullLinkLog copy = linkLog.copy();
+        copy.append("task? ");
+        linkLog.append("task->");
+        assertEquals(" Null.of->task? ", copy.toString());
+        assertEquals(" Null.of->task->", linkLog.toString());
+    }
+
+    @Test
+    public void testGlobalTraceLevel() {
+        NullTraceLevel old = NullLinkLog.getTraceLevel();
+        try {
+            NullLinkLog.setTraceLevel(NullTraceLevel.OFF);
+            NullChain<String> chain = Null.of("test").map(String::toUpperCase);
+            assertEquals("TEST", chain.get());
+            assertEquals("", getLinkLog(chain));
+
+            NullLinkLog.setTraceLevel(NullTraceLevel.FULL);
+            NullChain<String> fullChain = Null.of("test").map(String::toUpperCase);
+            assertEquals("TEST", fullChain.get());
+            assertTrue(getLinkLog(fullChain).contains("map->"));
+        } finally {
+            NullLinkLog.setTraceLevel(old);
+        }
+        assertThrows(IllegalArgumentException.class, () -> NullLinkLog.setTraceLevel(null));
+    }
+}
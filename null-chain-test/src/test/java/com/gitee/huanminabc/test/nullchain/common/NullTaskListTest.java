@@ -1,8 +1,18 @@
 package com.gitee.huanminabc.test.nullchain.common;
 
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullBuild;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.common.NullCollect;
+import com.gitee.huanminabc.nullchain.common.NullTaskFunAbs;
 import com.gitee.huanminabc.nullchain.common.NullTaskList;
+import com.gitee.huanminabc.nullchain.common.NullValueTaskFunAbs;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -23,4 +33,245 @@ public class NullTaskListTest {
         assertFalse(node.isNull);
         assertEquals("ok", node.value);
     }
+
+    @Test
+    public void testRunTaskAllIsNotDestructive() {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> NullBuild.noEmpty(counter.incrementAndGet()));
+        taskList.add((value) -> NullBuild.noEmpty((Integer) value * 10));
+
+        assertEquals(10, taskList.runTaskAll().value);
+        //第二次执行直接使用缓存的结果, 任务不会重复执行
+        assertEquals(10, taskList.runTaskAll().value);
+        assertEquals(1, counter.get());
+        assertEquals(2, taskList.size());
+
+        //重置后任务依然保留, 可以重新执行
+        taskList.reset();
+        assertEquals(20, taskList.runTaskAll().value);
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testRunTaskAllContinueLastResult() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> NullBuild.noEmpty("a"));
+        assertEquals("a", taskList.runTaskAll().value);
+
+        //追加的任务从上一次的结果续接执行
+        taskList.add((value) -> NullBuild.noEmpty(value + "b"));
+        assertEquals("ab", taskList.runTaskAll().value);
+    }
+
+    @Test
+    public void testRunTaskAllPreNullEnd() {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> NullBuild.empty());
+        taskList.add((value) -> NullBuild.noEmpty(counter.incrementAndGet()));
+        assertTrue(taskList.runTaskAll().isNull);
+        assertTrue(taskList.runTaskAll().isNull);
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testSkippedStepsMetric() {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> NullBuild.empty());
+        for (int i = 0; i < 3; i++) {
+            taskList.add((value) -> NullBuild.noEmpty(counter.incrementAndGet()));
+        }
+        long total = NullTaskList.getTotalSkippedSteps();
+        assertTrue(taskList.runTaskAll().isNull);
+        assertEquals(0, counter.get());
+        assertEquals(3, taskList.getSkippedSteps());
+        assertTrue(NullTaskList.getTotalSkippedSteps() >= total + 3);
+        //重置后重新统计
+        taskList.reset();
+        assertEquals(0, taskList.getSkippedSteps());
+    }
+
+    @Test
+    public void testFusedSkippedSteps() {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        //连续的值任务融合成一个任务, 跳过的阶段仍然按操作符计算
+        taskList.addValueTask((__) -> "a");
+        taskList.addValueTask((value) -> null);
+        taskList.addValueTask((value) -> counter.incrementAndGet());
+        taskList.addValueTask((value) -> counter.incrementAndGet());
+        assertEquals(1, taskList.size());
+        assertTrue(taskList.runTaskAll().isNull);
+        assertEquals(0, counter.get());
+        assertEquals(2, taskList.getSkippedSteps());
+    }
+
+    @Test
+    public void testChainSkippedSteps() {
+        long total = NullTaskList.getTotalSkippedSteps();
+        String value = null;
+        assertTrue(Null.of(value).map(String::trim).map(String::length).is());
+        assertTrue(NullTaskList.getTotalSkippedSteps() >= total + 2);
+    }
+
+    @Test
+    public void testAsyncSkippedSteps() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> new NullTaskList.NullNode<>(null, true, true));
+        for (int i = 0; i < 3; i++) {
+            taskList.add((value) -> NullBuild.noEmpty(counter.incrementAndGet()));
+        }
+        CompletableFuture<NullTaskList.NullNode<Object>> result = new CompletableFuture<>();
+        taskList.runTaskAll(result::complete, result::completeExceptionally);
+        assertTrue(result.get(5, TimeUnit.SECONDS).isNull);
+        assertEquals(0, counter.get());
+        assertEquals(3, taskList.getSkippedSteps());
+    }
+
+    @Test
+    public void testRunTaskAllNullTolerantTask() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> NullBuild.empty());
+        taskList.add(new NullTaskFunAbs() {
+            @Override
+            public NullTaskList.NullNode nodeTask(Object value) throws RuntimeException {
+                return NullBuild.noEmpty(value == null ? "default" : value);
+            }
+
+            @Override
+            public boolean preNullEnd() {
+                return false;
+            }
+        });
+        assertEquals("default", taskList.runTaskAll().value);
+    }
+
+    @Test
+    public void testAddBeyondDefaultCapacity() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.add((__) -> NullBuild.noEmpty(0));
+        for (int i = 0; i < 100; i++) {
+            taskList.add((value) -> NullBuild.noEmpty((Integer) value + 1));
+        }
+        assertEquals(101, taskList.size());
+        assertEquals(100, taskList.runTaskAll().value);
+    }
+
+    @Test
+    public void testEmptyNodeIsShared() {
+        assertSame(NullBuild.empty(), NullBuild.empty());
+        assertSame(NullBuild.empty(), NullBuild.noEmpty(null));
+        assertTrue(NullBuild.empty().isNull);
+    }
+
+    @Test
+    public void testValueTaskChain() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> 0);
+        for (int i = 0; i < 10; i++) {
+            taskList.addValueTask((value) -> (Integer) value + 1);
+        }
+        NullTaskList.NullNode<Integer> node = taskList.runTaskAll();
+        assertFalse(node.isNull);
+        assertEquals(10, node.value);
+    }
+
+    @Test
+    public void testValueTaskMixedWithNodeTask() {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> "a");
+        taskList.add((value) -> NullBuild.noEmpty(value + "b"));
+        //值任务返回null表示空值, 后续的普通任务不会执行
+        taskList.addValueTask((value) -> null);
+        taskList.add((value) -> NullBuild.noEmpty(counter.incrementAndGet()));
+        assertSame(NullBuild.empty(), taskList.runTaskAll());
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testValueTaskNullTolerant() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> null);
+        taskList.add(new NullValueTaskFunAbs() {
+            @Override
+            public Object valueTask(Object value) throws RuntimeException {
+                return value == null ? "default" : value;
+            }
+
+            @Override
+            public boolean preNullEnd() {
+                return false;
+            }
+        });
+        assertEquals("default", taskList.runTaskAll().value);
+    }
+
+    @Test
+    public void testValueTaskFusion() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> 0);
+        for (int i = 0; i < 10; i++) {
+            taskList.addValueTask((value) -> (Integer) value + 1);
+        }
+        //连续的值任务合并成一个任务
+        assertEquals(1, taskList.size());
+        assertEquals(10, taskList.runTaskAll().value);
+
+        //已经执行过的任务不再合并, 追加的任务从上一次的结果续接执行
+        taskList.addValueTask((value) -> (Integer) value + 1);
+        assertEquals(2, taskList.size());
+        assertEquals(11, taskList.runTaskAll().value);
+    }
+
+    @Test
+    public void testValueTaskFusionPreNullEnd() {
+        AtomicInteger counter = new AtomicInteger();
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> "a");
+        taskList.addValueTask((value) -> null);
+        taskList.addValueTask((value) -> counter.incrementAndGet());
+        assertEquals(1, taskList.size());
+        assertSame(NullBuild.empty(), taskList.runTaskAll());
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testValueTaskFusionNullTolerant() {
+        NullTaskList taskList = new NullTaskList();
+        taskList.addValueTask((__) -> null);
+        taskList.addValueTask(new NullValueTaskFunAbs() {
+            @Override
+            public Object valueTask(Object value) throws RuntimeException {
+                return value == null ? "default" : value;
+            }
+
+            @Override
+            public boolean preNullEnd() {
+                return false;
+            }
+        });
+        taskList.addValueTask((value) -> value + "!");
+        assertEquals(1, taskList.size());
+        assertEquals("default!", taskList.runTaskAll().value);
+    }
+
+    @Test
+    public void testFusedChainLinkLogAndCollect() {
+        NullCollect collect = Null.of("abc")
+                .map(String::length)
+                .map(len -> len * 2L)
+                .collect();
+        assertEquals(3, collect.get(Integer.class).get());
+        assertEquals(6L, collect.get(Long.class).get());
+
+        NullChainException exception = assertThrows(NullChainException.class, () -> Null.of("abc")
+                .map(value -> (String) null)
+                .map(String::length)
+                .get());
+        assertTrue(exception.getMessage().contains("map?"));
+    }
 }
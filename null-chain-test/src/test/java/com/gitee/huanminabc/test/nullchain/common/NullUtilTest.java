@@ -2,6 +2,10 @@ package com.gitee.huanminabc.test.nullchain.common;
 
 import com.gitee.huanminabc.nullchain.Null;
 import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.common.NullEmptyCheckers;
+import com.gitee.huanminabc.nullchain.common.NullEmptyProxy;
+import com.gitee.huanminabc.nullchain.common.NullUtil;
+import com.gitee.huanminabc.test.nullchain.entity.UserExtEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -317,5 +321,89 @@ public class NullUtilTest {
     // ========== orEmpty() 方法测试 ==========
     // 注意：orEmpty和createEmpty方法要求类型必须实现NullCheck接口
     // UserEntity不实现NullCheck接口，所以这些测试暂时跳过
-}
 
+    @Test
+    public void testCreateEmptyMarker() {
+        UserExtEntity empty = NullUtil.createEmpty(UserExtEntity.class);
+        assertTrue(empty instanceof NullEmptyProxy);
+        assertTrue(empty.isEmpty());
+        assertTrue(Null.is(empty));
+        assertTrue(empty.map(UserExtEntity::getName).is());
+        //非空对象只做类型检查
+        UserExtEntity user = new UserExtEntity();
+        user.setName("test");
+        assertFalse(user.isEmpty());
+        assertFalse(Null.is(user));
+        assertEquals("test", user.map(UserExtEntity::getName).get());
+    }
+
+    // ========== 自定义空值判断测试 ==========
+
+    public static class Money {
+        private final Long amount;
+
+        public Money(Long amount) {
+            this.amount = amount;
+        }
+
+        public Long getAmount() {
+            return amount;
+        }
+    }
+
+    public static class Rmb extends Money {
+        public Rmb(Long amount) {
+            super(amount);
+        }
+    }
+
+    @Test
+    public void testRegisterEmptyChecker() {
+        //注册前按普通对象处理, 不为空
+        assertFalse(Null.is(new Money(null)));
+        NullEmptyCheckers.register(Money.class, money -> money.getAmount() == null);
+        try {
+            assertTrue(Null.is(new Money(null)));
+            assertFalse(Null.is(new Money(1L)));
+            //对子类同样生效
+            assertTrue(Null.is(new Rmb(null)));
+            assertTrue(Null.of(new Money(null)).is());
+        } finally {
+            NullEmptyCheckers.remove(Money.class);
+        }
+        assertFalse(Null.is(new Money(null)));
+        assertFalse(Null.is(new Rmb(null)));
+    }
+
+    @Test
+    public void testRegisterEmptyCheckerOverridesBuiltin() {
+        NullEmptyCheckers.register(StringBuilder.class, sb -> sb.length() < 3);
+        try {
+            assertTrue(Null.is(new StringBuilder("ab")));
+            assertFalse(Null.is(new StringBuilder("abc")));
+        } finally {
+            NullEmptyCheckers.remove(StringBuilder.class);
+        }
+        assertFalse(Null.is(new StringBuilder("ab")));
+        assertTrue(Null.is(new StringBuilder()));
+    }
+
+    @Test
+    public void testRegisterEmptyCheckerNullArgument() {
+        assertThrows(NullChainException.class, () -> NullEmptyCheckers.register(null, o -> true));
+        assertThrows(NullChainException.class, () -> NullEmptyCheckers.register(Money.class, null));
+    }
+
+    @Test
+    public void testIsCachedByType() {
+        //同一类型多次判断结果一致
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Null.is(new int[0]));
+            assertFalse(Null.is(new int[]{1}));
+            assertTrue(Null.is(new ArrayList<>()));
+            assertFalse(Null.is(Collections.singletonList(1)));
+            assertTrue(Null.is("null"));
+            assertTrue(Null.is(new HashMap<>()));
+        }
+    }
+}
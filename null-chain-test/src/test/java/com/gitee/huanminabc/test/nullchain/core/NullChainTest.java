@@ -632,6 +632,64 @@ public class NullChainTest {
         assertNull(picked.getAge());
     }
 
+    public static class PrimitiveDto {
+        private int count;
+        private boolean enabled;
+        private List<String> tags;
+        private String name;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testPickPrimitiveAndSuperTypeSetter() {
+        PrimitiveDto dto = new PrimitiveDto();
+        dto.setCount(3);
+        dto.setEnabled(true);
+        dto.setTags(new ArrayList<>(Arrays.asList("a", "b")));
+        dto.setName("dto");
+        //同一个方法引用多次执行使用缓存的字段名和set方法
+        for (int i = 0; i < 3; i++) {
+            PrimitiveDto picked = Null.of(dto)
+                    .pick(PrimitiveDto::getCount, PrimitiveDto::getEnabled, PrimitiveDto::getTags)
+                    .get();
+            assertEquals(3, picked.getCount());
+            assertTrue(picked.getEnabled());
+            assertEquals(Arrays.asList("a", "b"), picked.getTags());
+            assertNull(picked.getName());
+        }
+    }
+
     // ========== collect() 方法测试 ==========
 
     @Test
@@ -745,6 +803,35 @@ public class NullChainTest {
         assertEquals(0, length);
     }
 
+    public static class Sized {
+        public long size() {
+            return 7L;
+        }
+    }
+
+    public static class Measured {
+        public int length() {
+            return 9;
+        }
+    }
+
+    @Test
+    public void testLengthCachedAccessor() {
+        //同一类型多次获取结果一致
+        for (int i = 0; i < 3; i++) {
+            assertEquals(7, Null.of(new Sized()).length());
+            assertEquals(9, Null.of(new Measured()).length());
+            assertEquals(4, Null.of(-123).length());
+            assertEquals(String.valueOf(Long.MIN_VALUE).length(), Null.of(Long.MIN_VALUE).length());
+            assertEquals(String.valueOf(1.5d).length(), Null.of(1.5d).length());
+            assertEquals(4, Null.of(true).length());
+            assertEquals(3, Null.of(new int[]{1, 2, 3}).length());
+            assertEquals(2, Null.of(new String[]{"a", "b"}).length());
+            assertEquals(1, Null.of(Collections.singletonMap("a", 1)).length());
+            assertEquals(3, Null.of(new StringBuilder("abc")).length());
+        }
+    }
+
     // ========== async() 方法测试 ==========
 
     @Test
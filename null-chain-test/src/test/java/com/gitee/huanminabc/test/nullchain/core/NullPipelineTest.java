@@ -0,0 +1,298 @@
+package com.gitee.huanminabc.test.nullchain.core;
+
+import com.gitee.huanminabc.jcommon.multithreading.context.AsyncTaskContext;
+import com.gitee.huanminabc.jcommon.reflect.FieldUtil;
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.common.NullKernelAbstract;
+import com.gitee.huanminabc.nullchain.core.NullBatch;
+import com.gitee.huanminabc.nullchain.core.NullChain;
+import com.gitee.huanminabc.nullchain.core.NullPipeline;
+import com.gitee.huanminabc.nullchain.tool.base64.Base64StrEncodeTool;
+import com.gitee.huanminabc.test.nullchain.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NullPipeline 链模板测试
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+public class NullPipelineTest {
+
+    private static final NullPipeline<UserEntity, String> ADULT_NAME = Null.<UserEntity>pipeline()
+            .ifGo(user -> user.getAge() != null && user.getAge() >= 18)
+            .map(UserEntity::getName)
+            .map(String::toUpperCase);
+
+    private String getLinkLog(NullChain<?> chain) throws Exception {
+        Field linkLogField = FieldUtil.getField(NullKernelAbstract.class, "linkLog");
+        linkLogField.setAccessible(true);
+        return linkLogField.get(chain).toString();
+    }
+
+    private UserEntity user(String name, Integer age) {
+        UserEntity user = new UserEntity();
+        user.setName(name);
+        user.setAge(age);
+        return user;
+    }
+
+    @Test
+    public void testApplySameAsChain() throws Exception {
+        UserEntity user = user("tom", 20);
+        NullChain<String> fromPipeline = ADULT_NAME.apply(user);
+        NullChain<String> fromChain = Null.of(user)
+                .ifGo(u -> u.getAge() != null && u.getAge() >= 18)
+                .map(UserEntity::getName)
+                .map(String::toUpperCase);
+        assertEquals(fromChain.get(), fromPipeline.get());
+        assertEquals(getLinkLog(fromChain), getLinkLog(fromPipeline));
+    }
+
+    @Test
+    public void testApplyShortCircuit() throws Exception {
+        UserEntity child = user("jim", 10);
+        NullChain<String> fromPipeline = ADULT_NAME.apply(child);
+        NullChain<String> fromChain = Null.of(child)
+                .ifGo(u -> u.getAge() != null && u.getAge() >= 18)
+                .map(UserEntity::getName)
+                .map(String::toUpperCase);
+        assertTrue(fromPipeline.is());
+        assertTrue(fromChain.is());
+        assertEquals(getLinkLog(fromChain), getLinkLog(fromPipeline));
+
+        assertTrue(ADULT_NAME.apply(null).is());
+        assertTrue(ADULT_NAME.apply(user(null, 30)).is());
+    }
+
+    @Test
+    public void testApplyResultCanContinue() {
+        String name = ADULT_NAME.apply(user("tom", 20)).map(s -> s + "!").orElse("UNKNOWN");
+        assertEquals("TOM!", name);
+        assertEquals("UNKNOWN", ADULT_NAME.apply(user("jim", 10)).orElse("UNKNOWN"));
+    }
+
+    @Test
+    public void testOrIsNullTolerant() {
+        NullPipeline<String, String> pipeline = Null.<String>pipeline().or("GUEST").map(s -> s + "-1");
+        assertEquals("TOM-1", pipeline.apply("TOM").get());
+        assertEquals("GUEST-1", pipeline.apply(null).get());
+        assertEquals("GUEST", Null.<String>pipeline().or(() -> "GUEST").apply("").get());
+
+        //和链一致: 上一步为空时遇到第一个不容忍空值的步骤就结束, 之后的or不再执行
+        NullPipeline<UserEntity, String> adult = ADULT_NAME.or("GUEST");
+        assertEquals("TOM", adult.apply(user("tom", 20)).get());
+        assertEquals(Null.of(user("jim", 10)).ifGo(u -> u.getAge() >= 18).map(UserEntity::getName).or("GUEST").is(),
+                adult.apply(user("jim", 10)).is());
+        assertTrue(adult.apply(null).is());
+    }
+
+    @Test
+    public void testEqAndIfNeGo() {
+        NullPipeline<UserEntity, UserEntity> pipeline = Null.pipeline(UserEntity.class)
+                .eq(UserEntity::getName, "tom")
+                .ifNeGo(user -> user.getAge() > 60);
+        assertTrue(pipeline.apply(user("tom", 20)).non());
+        assertTrue(pipeline.apply(user("jim", 20)).is());
+        assertTrue(pipeline.apply(user("tom", 70)).is());
+    }
+
+    @Test
+    public void testPipelineIsImmutable() {
+        NullPipeline<String, String> base = Null.<String>pipeline().map(String::trim);
+        NullPipeline<String, Integer> length = base.map(String::length);
+        NullPipeline<String, String> upper = base.map(String::toUpperCase);
+        assertEquals(1, base.size());
+        assertEquals(2, length.size());
+        assertEquals(" a ".trim(), base.apply(" a ").get());
+        assertEquals(1, length.apply(" a ").get());
+        assertEquals("A", upper.apply(" a ").get());
+    }
+
+    @Test
+    public void testApplyAll() {
+        List<UserEntity> users = Arrays.asList(user("tom", 20), user("jim", 10), null, user("lucy", 30));
+        List<NullChain<String>> chains = ADULT_NAME.applyAll(users);
+        assertEquals(4, chains.size());
+        assertEquals("TOM", chains.get(0).orElseNull());
+        assertNull(chains.get(1).orElseNull());
+        assertNull(chains.get(2).orElseNull());
+        assertEquals("LUCY", chains.get(3).orElseNull());
+        assertTrue(ADULT_NAME.applyAll(null).isEmpty());
+    }
+
+    @Test
+    public void testTool() {
+        String expected = Null.of("test123").tool(Base64StrEncodeTool.class).get();
+        NullPipeline<String, String> pipeline = Null.<String>pipeline().tool(Base64StrEncodeTool.class);
+        assertEquals(expected, pipeline.apply("test123").get());
+        assertTrue(pipeline.apply("").is());
+    }
+
+    @Test
+    public void testNullParamFailsOnBuild() {
+        assertThrows(NullChainException.class, () -> Null.<String>pipeline().map(null));
+        assertThrows(NullChainException.class, () -> Null.<String>pipeline().ifGo(null));
+    }
+
+    @Test
+    public void testExceptionOnTerminal() {
+        NullPipeline<String, Integer> pipeline = Null.<String>pipeline().map(s -> Integer.parseInt(s));
+        assertThrows(NullChainException.class, () -> pipeline.apply("abc").get());
+        assertEquals(12, pipeline.apply("12").get());
+    }
+
+    @Test
+    public void testBatchSameAsApply() {
+        List<UserEntity> users = Arrays.asList(user("tom", 20), null, user("jim", 10), user(null, 30), user("ann", 18));
+        NullBatch<String> batch = ADULT_NAME.batch(users);
+        assertEquals(users.size(), batch.size());
+        for (int i = 0; i < users.size(); i++) {
+            NullChain<String> chain = ADULT_NAME.apply(users.get(i));
+            assertEquals(chain.is(), batch.isEmpty(i));
+            assertEquals(chain.orElseNull(), batch.get(i));
+        }
+        assertEquals(3, batch.emptyCount());
+        assertEquals("TOM", batch.orElse(0, "UNKNOWN"));
+        assertEquals("UNKNOWN", batch.orElse(1, "UNKNOWN"));
+        assertEquals(Arrays.asList("TOM", "ANN"), batch.stream().collect(Collectors.toList()));
+
+        //输入为空时容忍空值的or继续执行
+        NullBatch<String> withDefault = Null.<String>pipeline().or("default").map(String::trim).batch(Arrays.asList(" a ", null));
+        assertEquals(Arrays.asList("a", "default"), withDefault.toList(null));
+    }
+
+    @Test
+    public void testBatchParallelChunks() {
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(i % 7 == 0 ? null : user("user" + i, 10 + i % 20));
+        }
+        NullBatch<String> serial = ADULT_NAME.batch(users);
+        NullBatch<String> parallel = ADULT_NAME.batch(users, 64);
+        assertEquals(serial.toList(""), parallel.toList(""));
+        assertEquals(serial.emptyBits(), parallel.emptyBits());
+        assertEquals(0, ADULT_NAME.batch(null).size());
+    }
+
+    @Test
+    public void testBatchParallelChunksKeepContext() {
+        ThreadLocal<String> tid = new ThreadLocal<>();
+        AsyncTaskContext.setDecorator(task -> {
+            final String parentTid = tid.get();
+            return () -> {
+                String previousTid = tid.get();
+                tid.set(parentTid);
+                try {
+                    task.run();
+                } finally {
+                    tid.set(previousTid);
+                }
+            };
+        });
+        try {
+            tid.set("parent-batch");
+            Set<String> observedTid = ConcurrentHashMap.newKeySet();
+            Set<String> observedThread = ConcurrentHashMap.newKeySet();
+            NullPipeline<Integer, Integer> pipeline = Null.<Integer>pipeline().map(value -> {
+                observedTid.add(String.valueOf(tid.get()));
+                observedThread.add(Thread.currentThread().getName());
+                return value + 1;
+            });
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                values.add(i);
+            }
+            NullBatch<Integer> batch = pipeline.batch(values, 10, "nullPipelineTest");
+            assertEquals(1000, batch.size());
+            assertEquals(Integer.valueOf(1000), batch.get(999));
+            assertEquals(Collections.singleton("parent-batch"), observedTid);
+            //分块在独立的线程池或者当前线程中执行, 不使用公共的ForkJoin线程池
+            String current = Thread.currentThread().getName();
+            for (String name : observedThread) {
+                assertTrue(name.equals(current) || name.startsWith("nullPipelineTest-"), name);
+            }
+            assertEquals("parent-batch", tid.get());
+        } finally {
+            AsyncTaskContext.resetDecorator();
+            tid.remove();
+        }
+    }
+
+    @Test
+    public void testBatchWaitsForChunksWhenCallerChunkFails() {
+        CountDownLatch chunkFailed = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        NullPipeline<Integer, Integer> pipeline = Null.<Integer>pipeline().map(value -> {
+            if (value == 0) {
+                //当前线程的分块等另一个分块失败后再失败
+                try {
+                    if (!chunkFailed.await(10, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("timeout");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                throw new IllegalStateException("caller");
+            }
+            if (value == 1) {
+                chunkFailed.countDown();
+                throw new IllegalStateException("chunk");
+            }
+            running.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+            return value;
+        });
+        NullChainException exception = assertThrows(NullChainException.class,
+                () -> pipeline.batch(Arrays.asList(0, 1, 2, 3), 1, "nullPipelineTest"));
+        assertTrue(exception.getMessage().contains("caller"), exception.getMessage());
+        //其他分块的异常没有丢失
+        assertEquals(1, exception.getSuppressed().length);
+        assertTrue(exception.getSuppressed()[0].getMessage().contains("chunk"));
+        //抛出异常时已经没有还在执行的分块
+        assertEquals(0, running.get());
+    }
+
+    @Test
+    public void testConcurrentApply() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                UserEntity user = user("user" + i, 10 + i % 20);
+                futures.add(executor.submit(() -> ADULT_NAME.apply(user).orElse("")));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                String expected = 10 + i % 20 >= 18 ? ("USER" + i) : "";
+                assertEquals(expected, futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
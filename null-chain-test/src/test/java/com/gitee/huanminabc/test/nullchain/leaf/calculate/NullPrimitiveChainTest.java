@@ -0,0 +1,144 @@
+package com.gitee.huanminabc.test.nullchain.leaf.calculate;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.leaf.calculate.NullIntChain;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NullIntChain/NullLongChain/NullDoubleChain基本类型链测试类
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+public class NullPrimitiveChainTest {
+
+    // ========== NullIntChain 测试 ==========
+
+    @Test
+    public void testIntChainArithmetic() {
+        int result = Null.ofInt(10)
+                .add(5)
+                .mul(3)
+                .sub(1)
+                .div(4)
+                .max(5)
+                .orElse(-1);
+        assertEquals(11, result);
+        assertEquals(7, Null.ofInt(-7).abs().get());
+        assertEquals(-7, Null.ofInt(7).negate().get());
+        assertEquals(3, Null.ofInt(10).min(3).get());
+    }
+
+    @Test
+    public void testIntChainEmpty() {
+        AtomicInteger calls = new AtomicInteger();
+        NullIntChain chain = Null.ofInt((Integer) null)
+                .map(i -> calls.incrementAndGet())
+                .add(1);
+        assertTrue(chain.is());
+        assertEquals(0, calls.get());
+        assertEquals(-1, chain.orElse(-1));
+        assertEquals(2, chain.orElseGet(() -> 2));
+        assertThrows(NullChainException.class, chain::get);
+        assertFalse(chain.boxed().non());
+
+        //or给出默认值后继续运算
+        assertEquals(6, Null.ofInt((Integer) null).or(5).add(1).get());
+    }
+
+    @Test
+    public void testIntChainIfGo() {
+        assertTrue(Null.ofInt(3).ifGo(i -> i > 5).is());
+        assertEquals(8, Null.ofInt(8).ifGo(i -> i > 5).get());
+        AtomicInteger present = new AtomicInteger();
+        Null.ofInt(4).ifPresent(present::set);
+        assertEquals(4, present.get());
+    }
+
+    @Test
+    public void testIntChainOverflowAndDivideByZero() {
+        assertThrows(ArithmeticException.class, () -> Null.ofInt(Integer.MAX_VALUE).add(1));
+        assertThrows(ArithmeticException.class, () -> Null.ofInt(Integer.MIN_VALUE).abs());
+        assertThrows(NullChainException.class, () -> Null.ofInt(1).div(0));
+        assertThrows(ArithmeticException.class, () -> Null.ofInt(Integer.MIN_VALUE).div(-1));
+        assertThrows(ArithmeticException.class, () -> Null.ofLong(Long.MIN_VALUE).div(-1L));
+        assertEquals(Integer.MAX_VALUE, Null.ofInt(-Integer.MAX_VALUE).div(-1).orElse(0));
+        //值为空时不执行运算
+        assertTrue(Null.ofInt((Integer) null).div(0).is());
+    }
+
+    // ========== NullLongChain / NullDoubleChain 测试 ==========
+
+    @Test
+    public void testLongChain() {
+        long amount = Null.ofLong(1999L)
+                .mul(3)
+                .sub(500L)
+                .max(0L)
+                .orElse(0L);
+        assertEquals(5497L, amount);
+        assertThrows(ArithmeticException.class, () -> Null.ofLong(Long.MAX_VALUE).mul(2));
+        assertEquals(-1L, Null.ofLong((Long) null).orElse(-1L));
+    }
+
+    @Test
+    public void testDoubleChain() {
+        double ratio = Null.ofDouble(25D)
+                .div(200)
+                .mul(100)
+                .orElse(0D);
+        assertEquals(12.5, ratio, 0.0001);
+        assertEquals(2.5, Null.ofDouble(-2.5).abs().get(), 0.0001);
+        assertThrows(NullChainException.class, () -> Null.ofDouble(1D).div(0));
+        assertThrows(NullChainException.class, () -> Null.ofDouble(Double.NaN).calc());
+    }
+
+    // ========== 类型转换测试 ==========
+
+    @Test
+    public void testConversions() {
+        assertEquals(3000000000L, Null.ofInt(3).mapToLong(i -> i * 1000000000L).get());
+        assertEquals(1.5, Null.ofInt(3).mapToDouble(i -> i / 2D).get(), 0.0001);
+        assertEquals(2, Null.ofDouble(2.7).mapToInt(d -> (int) d).get());
+        assertEquals(3L, Null.ofDouble(2.7).mapToLong(Math::round).get());
+        assertEquals(5, Null.ofLong(5L).mapToInt(Math::toIntExact).get());
+        assertTrue(Null.ofLong((Long) null).mapToDouble(l -> l).is());
+
+        assertEquals("7", Null.ofInt(7).mapToObj(String::valueOf).get());
+        assertTrue(Null.ofInt(7).mapToObj(i -> null).is());
+        assertEquals(Integer.valueOf(7), Null.ofInt(7).boxed().get());
+        assertEquals(new BigDecimal("7.5"), Null.ofDouble(7.5).calc().get());
+        assertTrue(Null.ofInt((Integer) null).calc().is());
+    }
+
+    @Test
+    public void testFromObjectChain() {
+        assertEquals(12, Null.ofInt(Null.of("12").map(Integer::valueOf)).add(0).get());
+        assertEquals(12L, Null.ofLong(Null.of(12)).get());
+        assertTrue(Null.ofDouble(Null.<Double>empty()).is());
+    }
+
+    @Test
+    public void testFromObjectChainRejectsTruncation() {
+        //整数范围内的其他数值类型可以转换
+        assertEquals(3, Null.ofInt(Null.of(3L)).get());
+        assertEquals(3, Null.ofInt(Null.of(new BigDecimal("3.00"))).get());
+        assertEquals(-3L, Null.ofLong(Null.of(-3.0)).get());
+        assertEquals(5, Null.ofInt(Null.of(new AtomicInteger(5))).get());
+        assertEquals(Long.MIN_VALUE, Null.ofLong(Null.of(BigInteger.valueOf(Long.MIN_VALUE))).get());
+
+        //超出范围或者不是整数时抛出异常, 不会截断
+        assertThrows(NullChainException.class, () -> Null.ofInt(Null.of(3_000_000_000L)));
+        assertThrows(NullChainException.class, () -> Null.ofInt(Null.of(1.5)));
+        assertThrows(NullChainException.class, () -> Null.ofInt(Null.of(new BigDecimal("2.5"))));
+        assertThrows(NullChainException.class, () -> Null.ofLong(Null.of(1e19)));
+        assertThrows(NullChainException.class, () -> Null.ofLong(Null.of(BigInteger.ONE.shiftLeft(63))));
+    }
+}
@@ -1,12 +1,18 @@
 package com.gitee.huanminabc.test.nullchain.leaf.stream;
 
 import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * NullStream 新增方法测试用例
@@ -372,5 +378,74 @@ public class NullStreamTest {
 
         Assertions.assertEquals(0, array1.length);
     }
-}
 
+    // ========== parallel(threadFactoryName) / parallel(chunkSize) 测试 ==========
+
+    @Test
+    public void testParallelWithThreadFactoryName() {
+        List<Integer> data = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> result = Null.ofStream(data)
+            .parallel("nullStreamTest")
+            .map(i -> {
+                threads.add(Thread.currentThread().getName());
+                return i * 2;
+            })
+            .toList();
+
+        Assertions.assertEquals(1000, result.size());
+        Assertions.assertEquals(Integer.valueOf(1998), result.get(999));
+        //全部在独立的线程池中执行, 不会使用公共线程池和调用线程
+        Assertions.assertTrue(threads.stream().allMatch(name -> name.startsWith("nullStreamTest-stream-")));
+    }
+
+    @Test
+    public void testParallelWithChunkSize() {
+        List<Integer> data = IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        int sum = Null.ofStream(data)
+            .parallel(100)
+            .filter(i -> i % 2 == 0)
+            .mapToInt(Integer::intValue)
+            .sum();
+
+        Assertions.assertEquals(250500, sum);
+        Assertions.assertEquals(1000L, Null.ofStream(data).parallel(100).count());
+        Assertions.assertThrows(NullChainException.class, () -> Null.ofStream(data).parallel(0).toList());
+    }
+
+    // ========== map() / flatMap() 单次执行测试 ==========
+
+    @Test
+    public void testMapEvaluatesMapperOnce() {
+        List<Integer> data = Arrays.asList(1, 2, 3, 4, 5);
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> result = Null.ofStream(data)
+            .map(i -> {
+                calls.incrementAndGet();
+                return i % 2 == 0 ? null : i * 10;
+            })
+            .toList();
+
+        //返回空的元素被丢弃, 每个元素只执行一次mapper
+        Assertions.assertEquals(Arrays.asList(10, 30, 50), result);
+        Assertions.assertEquals(5, calls.get());
+    }
+
+    @Test
+    public void testFlatMapNullStream() {
+        List<Integer> data = Arrays.asList(1, 2, 3);
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> result = Null.ofStream(data)
+            .flatMap(i -> {
+                calls.incrementAndGet();
+                if (i == 2) {
+                    return Null.ofStream((List<Integer>) null);
+                }
+                return Null.ofStream(Arrays.asList(i, i * 10));
+            })
+            .toList();
+
+        Assertions.assertEquals(Arrays.asList(1, 10, 3, 30), result);
+        Assertions.assertEquals(3, calls.get());
+    }
+}
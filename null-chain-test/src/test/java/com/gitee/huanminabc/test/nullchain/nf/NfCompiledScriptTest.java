@@ -0,0 +1,94 @@
+package com.gitee.huanminabc.test.nullchain.nf;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullGroupNfTask;
+import com.gitee.huanminabc.nullchain.language.NfCompiledScript;
+import com.gitee.huanminabc.nullchain.language.NfException;
+import com.gitee.huanminabc.nullchain.language.NfMain;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 预编译脚本测试
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+@Slf4j
+public class NfCompiledScriptTest {
+
+    private static final String SCRIPT = "Integer total = 0\n" +
+        "for i in 1..x {\n" +
+        "    total = total + i\n" +
+        "}\n" +
+        "export total\n";
+
+    @Test
+    @DisplayName("编译一次反复执行")
+    public void testCompileOnceRunMany() {
+        NfCompiledScript script = NfMain.compile(SCRIPT);
+        assertEquals(15, script.run(log, Collections.<String, Object>singletonMap("x", 5)));
+        assertEquals(55, script.run(log, Collections.<String, Object>singletonMap("x", 10)));
+        //和按脚本内容执行的结果相同
+        assertEquals(55, NfMain.run(SCRIPT, log, Collections.<String, Object>singletonMap("x", 10)));
+        //相同内容的脚本共用缓存
+        assertSame(script, NfMain.compile(SCRIPT));
+    }
+
+    @Test
+    @DisplayName("多线程共享同一个预编译脚本")
+    public void testConcurrentRun() throws Exception {
+        NfCompiledScript script = NfMain.compile(SCRIPT);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int n = 1; n <= 64; n++) {
+                Map<String, Object> params = Collections.<String, Object>singletonMap("x", n);
+                futures.add(executor.submit(() -> script.run(null, params)));
+            }
+            for (int n = 1; n <= 64; n++) {
+                assertEquals(n * (n + 1) / 2, futures.get(n - 1).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("编译时发现语法错误")
+    public void testCompileError() {
+        assertThrows(NfException.class, () -> NfMain.compile(""));
+        //break不在循环中, 编译时验证失败, 不需要等到执行
+        assertThrows(RuntimeException.class, () -> NfMain.compile("Integer a = 1\nbreak\nexport a\n"));
+    }
+
+    @Test
+    @DisplayName("nfTask和nfTasks使用预编译脚本")
+    public void testNfTask() {
+        NfCompiledScript plusOne = NfMain.compile("export $preValue + 1");
+        NfCompiledScript twice = NfMain.compile("export $preValue * 2");
+
+        assertEquals(11, Null.of(10).nfTask(plusOne).get());
+
+        NullGroupNfTask group = NullGroupNfTask.buildGroup(
+            NullGroupNfTask.task(plusOne),
+            NullGroupNfTask.task(twice)
+        );
+        Map<String, Object> result = Null.of(10).nfTasks(group, "default").get();
+        assertEquals(11, result.get(plusOne.getKey()));
+        assertEquals(20, result.get(twice.getKey()));
+    }
+}
@@ -0,0 +1,142 @@
+package com.gitee.huanminabc.test.nullchain.nf;
+
+import com.gitee.huanminabc.nullchain.language.NfMain;
+import com.gitee.huanminabc.nullchain.language.NfRun;
+import com.gitee.huanminabc.nullchain.language.NfSynta;
+import com.gitee.huanminabc.nullchain.language.NfToken;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 循环帧复用测试
+ * 每次迭代复用同一个作用域, 验证循环变量、循环体中声明的变量和break、continue在迭代之间互不影响
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+@Slf4j
+public class NfLoopFrameTest {
+
+    @Test
+    @DisplayName("大范围循环")
+    public void testLargeRangeLoop() {
+        String script = "Integer count = 0\n" +
+            "for i in 1..100000 {\n" +
+            "    count = count + 1\n" +
+            "}\n" +
+            "export count\n";
+        assertEquals(100000, NfMain.run(script, log, null));
+    }
+
+    @Test
+    @DisplayName("循环体中声明的变量每次迭代重新声明")
+    public void testBodyDeclarationPerIteration() {
+        String script = "Integer total = 0\n" +
+            "for i in 1..5 {\n" +
+            "    Integer doubled = i * 2\n" +
+            "    total = total + doubled\n" +
+            "}\n" +
+            "export total\n";
+        assertEquals(30, NfMain.run(script, log, null));
+    }
+
+    @Test
+    @DisplayName("continue和break标志在迭代之间重置")
+    public void testContinueAndBreak() {
+        String script = "Integer total = 0\n" +
+            "for i in 1..100 {\n" +
+            "    if i % 2 == 0 {\n" +
+            "        continue\n" +
+            "    }\n" +
+            "    if i > 9 {\n" +
+            "        break\n" +
+            "    }\n" +
+            "    total = total + i\n" +
+            "}\n" +
+            "export total\n";
+        // 1+3+5+7+9
+        assertEquals(25, NfMain.run(script, log, null));
+    }
+
+    @Test
+    @DisplayName("嵌套循环和Map迭代")
+    public void testNestedAndMapLoop() {
+        String script = "Map scores = new\n" +
+            "scores.put(\"math\", 90)\n" +
+            "scores.put(\"english\", 85)\n" +
+            "Integer total = 0\n" +
+            "for n in 1..3 {\n" +
+            "    for k, v in scores {\n" +
+            "        total = total + v\n" +
+            "    }\n" +
+            "}\n" +
+            "export total\n";
+        assertEquals(525, NfMain.run(script, log, null));
+    }
+
+    @Test
+    @DisplayName("while和do-while复用循环作用域")
+    public void testWhileLoops() {
+        String script = "Integer i = 0\n" +
+            "Integer total = 0\n" +
+            "while i < 10 {\n" +
+            "    i = i + 1\n" +
+            "    Integer step = i\n" +
+            "    if (i % 2 == 0) {\n" +
+            "        continue\n" +
+            "    }\n" +
+            "    total = total + step\n" +
+            "}\n" +
+            "Integer j = 0\n" +
+            "do {\n" +
+            "    Integer step = 100\n" +
+            "    total = total + step\n" +
+            "    j = j + 1\n" +
+            "} while j < 3\n" +
+            "export total\n";
+        // 1+3+5+7+9 + 300
+        assertEquals(325, NfMain.run(script, log, null));
+    }
+
+    @Test
+    @DisplayName("内层范围循环重复执行")
+    public void testNestedRangeLoopRerun() {
+        String script = "Integer total = 0\n" +
+            "for n in 1..20 {\n" +
+            "    for i in 1000..1100 {\n" +
+            "        total = total + i\n" +
+            "    }\n" +
+            "}\n" +
+            "export total\n";
+        List<SyntaxNode> syntaxNodes = NfSynta.buildMainStatement(NfToken.tokens(script));
+        assertEquals(20 * 106050, NfRun.run(syntaxNodes, log, null));
+        // 再次执行同一棵语法树结果相同
+        assertEquals(20 * 106050, NfRun.run(syntaxNodes, log, null));
+    }
+
+    @Test
+    @DisplayName("循环中创建的Lambda在后面的迭代中调用")
+    public void testLambdaCalledInLaterIteration() {
+        String script = "fun zero(Integer x) Integer {\n" +
+            "    return 0\n" +
+            "}\n" +
+            "Fun saved = zero\n" +
+            "Integer total = 0\n" +
+            "for i in 1..3 {\n" +
+            "    Integer r = saved(i)\n" +
+            "    total = total + r\n" +
+            "    Integer base = i * 10\n" +
+            "    Fun<Integer : Integer> f = (x) -> { return x + base + i }\n" +
+            "    saved = f\n" +
+            "}\n" +
+            "export total\n";
+        // 上一次迭代创建的Lambda读取的是创建时的base和i: 0 + (2 + 10 + 1) + (3 + 20 + 2)
+        assertEquals(38, NfMain.run(script, log, null));
+    }
+}
@@ -1,5 +1,6 @@
 package com.gitee.huanminabc.test.nullchain.nf;
 
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.NfMain;
 import com.gitee.huanminabc.nullchain.language.NfPerformanceMonitor;
 import com.gitee.huanminabc.nullchain.language.NfPerformanceReport;
@@ -9,6 +10,7 @@ import com.gitee.huanminabc.nullchain.language.NfToken;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeAbs;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNodeFactory;
 import com.gitee.huanminabc.nullchain.language.syntaxNode.linenode.ExportSyntaxNode;
 import lombok.extern.slf4j.Slf4j;
@@ -68,6 +70,33 @@ public class NfMainIntegrationTest {
         assertEquals(5050, result);
     }
 
+    @Test
+    public void testLineExpressionsCompiledOnParse() {
+        String script = "Integer a = 1\n" +
+            "var b = a + 2\n" +
+            "var c:Integer = b * 3\n" +
+            "a = a + c\n" +
+            "echo a + b\n" +
+            "fun twice(Integer x) Integer {\n" +
+            "    return x * 2\n" +
+            "}\n" +
+            "export twice(a)\n";
+
+        List<SyntaxNode> syntaxNodes = NfSynta.buildMainStatement(NfToken.tokens(script));
+        String[] sources = {"1", "a+2", "b*3", "a+c", "a+b"};
+        for (int i = 0; i < sources.length; i++) {
+            NfExpression expression = ((SyntaxNodeAbs) syntaxNodes.get(i)).getExpression();
+            assertNotNull(expression, syntaxNodes.get(i).toString());
+            assertEquals(sources[i], expression.getSource().replace(" ", ""));
+        }
+        SyntaxNode returnNode = ((SyntaxNodeAbs) syntaxNodes.get(5)).getChildSyntaxNodeList().get(0);
+        assertEquals("x*2", ((SyntaxNodeAbs) returnNode).getExpression().getSource().replace(" ", ""));
+
+        assertEquals(20, NfMain.run(script, log, null));
+        //执行多次结果不变
+        assertEquals(20, NfMain.run(script, log, null));
+    }
+
     @Test
     public void testNestedPerformanceMonitoring() {
         String script = "Integer sum = 0\n" +
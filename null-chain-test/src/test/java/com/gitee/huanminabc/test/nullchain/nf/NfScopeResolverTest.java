@@ -0,0 +1,122 @@
+package com.gitee.huanminabc.test.nullchain.nf;
+
+import com.gitee.huanminabc.nullchain.language.NfMain;
+import com.gitee.huanminabc.nullchain.language.NfScopeResolver;
+import com.gitee.huanminabc.nullchain.language.NfSynta;
+import com.gitee.huanminabc.nullchain.language.NfToken;
+import com.gitee.huanminabc.nullchain.language.internal.NfFrameLayout;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.SyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.ForSyntaxNode;
+import com.gitee.huanminabc.nullchain.language.syntaxNode.blocknode.FunDefSyntaxNode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 作用域解析测试
+ * 验证解析后生成的帧布局和坐标, 以及按槽位执行的脚本结果
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+@Slf4j
+public class NfScopeResolverTest {
+
+    @Test
+    @DisplayName("for循环的变量按深度和槽位定位")
+    public void testForLayout() {
+        String script = "Integer total = 0\n" +
+            "for i in 1..3 {\n" +
+            "    Integer inner = i * 2\n" +
+            "    total = total + inner\n" +
+            "}\n" +
+            "export total\n";
+        List<SyntaxNode> syntaxNodes = NfSynta.buildMainStatement(NfToken.tokens(script));
+        NfFrameLayout mainLayout = NfScopeResolver.resolve(syntaxNodes);
+
+        assertEquals(0, mainLayout.slotOf("total"));
+        ForSyntaxNode forNode = find(syntaxNodes, ForSyntaxNode.class);
+        NfFrameLayout forLayout = forNode.getFrameLayout();
+        assertNotNull(forLayout);
+        assertTrue(forLayout.slotOf("i") >= 0);
+        assertTrue(forLayout.slotOf("inner") >= 0);
+        assertEquals(-1, forLayout.slotOf("total"));
+
+        int coordinate = forLayout.resolve("total");
+        assertEquals(1, NfFrameLayout.depthOf(coordinate));
+        assertEquals(0, NfFrameLayout.slotOf(coordinate));
+        assertEquals(mainLayout, forLayout.enclosing(1));
+    }
+
+    @Test
+    @DisplayName("函数体的坐标在函数边界停止")
+    public void testFunctionLayout() {
+        String script = "Integer base = 1\n" +
+            "fun accumulate(int n) Integer {\n" +
+            "    Integer s = 0\n" +
+            "    for k in 1..n {\n" +
+            "        s = s + k\n" +
+            "    }\n" +
+            "    return s\n" +
+            "}\n" +
+            "Integer result = accumulate(4)\n" +
+            "export result\n";
+        List<SyntaxNode> syntaxNodes = NfSynta.buildMainStatement(NfToken.tokens(script));
+        NfScopeResolver.resolve(syntaxNodes);
+
+        NfFrameLayout funLayout = find(syntaxNodes, FunDefSyntaxNode.class).getFrameLayout();
+        assertEquals(0, funLayout.slotOf("n"));
+        assertTrue(funLayout.slotOf("s") >= 0);
+        assertEquals(-1, funLayout.resolve("base"));
+    }
+
+    @Test
+    @DisplayName("嵌套的循环、分支和函数按槽位执行")
+    public void testNestedExecution() {
+        String script = "Integer total = 0\n" +
+            "fun square(int n) Integer {\n" +
+            "    Integer r = 0\n" +
+            "    for k in 1..n {\n" +
+            "        r = r + n\n" +
+            "    }\n" +
+            "    return r\n" +
+            "}\n" +
+            "for i in 1..4 {\n" +
+            "    Integer doubled = i * 2\n" +
+            "    for j in 1..2 {\n" +
+            "        if j == 2 {\n" +
+            "            Integer extra = doubled + j\n" +
+            "            total = total + extra\n" +
+            "        } else {\n" +
+            "            Integer squared = square(i)\n" +
+            "            total = total + squared\n" +
+            "        }\n" +
+            "    }\n" +
+            "}\n" +
+            "Integer count = 0\n" +
+            "while count < 3 {\n" +
+            "    count = count + 1\n" +
+            "    total = total + count\n" +
+            "}\n" +
+            "export total\n";
+        // square: 1+4+9+16=30, extra: 4+6+8+10=28, while: 1+2+3=6
+        assertEquals(64, NfMain.run(script, log, null));
+        //缓存中的语法树再次执行结果相同
+        assertEquals(64, NfMain.run(script, log, null));
+    }
+
+    private static <T extends SyntaxNode> T find(List<SyntaxNode> syntaxNodes, Class<T> type) {
+        for (SyntaxNode syntaxNode : syntaxNodes) {
+            if (type.isInstance(syntaxNode)) {
+                return type.cast(syntaxNode);
+            }
+        }
+        throw new AssertionError("未找到语法节点: " + type.getSimpleName());
+    }
+}
@@ -1,6 +1,7 @@
 package com.gitee.huanminabc.test.nullchain.nf.expression;
 
 import com.gitee.huanminabc.nullchain.language.NfCalculator;
+import com.gitee.huanminabc.nullchain.language.NfExpression;
 import com.gitee.huanminabc.nullchain.language.internal.NfContext;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScope;
 import com.gitee.huanminabc.nullchain.language.internal.NfContextScopeType;
@@ -95,4 +96,29 @@ public class NfCalculatorTest {
 
         assertEquals(true, NfCalculator.arithmetic("LocalDateAlias.now() != null", context));
     }
+
+    @Test
+    public void testCompileAnalyzesExpressionOnce() {
+        NfExpression compiled = NfCalculator.compile("total + util.max(a, 1e5) > limit");
+        assertSame(compiled, NfCalculator.compile("total + util.max(a, 1e5) > limit"));
+        assertTrue(compiled.getIdentifiers().containsAll(java.util.Arrays.asList("total", "util", "max", "a", "limit")));
+        assertFalse(compiled.getIdentifiers().contains("e5"));
+        assertEquals(java.util.Collections.singleton("util"), compiled.getQualifiers());
+        assertFalse(compiled.isIdentifier());
+        assertTrue(NfCalculator.compile(" value ").isIdentifier());
+    }
+
+    @Test
+    public void testCompiledExpressionRebindsVariables() {
+        NfContext context = createContext();
+        NfContextScope scope = context.getCurrentScope();
+        NfExpression compiled = NfCalculator.compile("i * 2 + (s instanceof String ? 1 : 0)");
+        scope.addVariable(new NfVariableInfo("s", "text", String.class));
+        for (int i = 0; i < 5; i++) {
+            scope.addVariable(new NfVariableInfo("i", i, Integer.class));
+            assertEquals(i * 2 + 1, NfCalculator.arithmetic(compiled, context));
+        }
+        scope.addVariable(new NfVariableInfo("s", 1, Integer.class));
+        assertEquals(8, NfCalculator.arithmetic(compiled, context));
+    }
 }
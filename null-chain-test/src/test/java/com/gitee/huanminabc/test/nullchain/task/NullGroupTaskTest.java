@@ -0,0 +1,117 @@
+package com.gitee.huanminabc.test.nullchain.task;
+
+import com.gitee.huanminabc.nullchain.Null;
+import com.gitee.huanminabc.nullchain.common.NullChainException;
+import com.gitee.huanminabc.nullchain.common.NullGroupPolicy;
+import com.gitee.huanminabc.nullchain.common.NullGroupTask;
+import com.gitee.huanminabc.nullchain.core.NullChain;
+import com.gitee.huanminabc.nullchain.task.NullTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 任务组执行策略测试
+ *
+ * <p>测试任务组的快速失败、收集全部、超时和异步执行</p>
+ *
+ * @author huanmin
+ * @since 1.1.10
+ */
+public class NullGroupTaskTest {
+
+    public static class SlowTask implements NullTask<Object, String> {
+        @Override
+        public String run(Object preValue, NullChain<?>[] params, Map<String, Object> context) throws Exception {
+            Thread.sleep(3000);
+            return "slow";
+        }
+    }
+
+    public static class FailTask implements NullTask<Object, String> {
+        @Override
+        public String run(Object preValue, NullChain<?>[] params, Map<String, Object> context) throws Exception {
+            throw new IllegalStateException("fail");
+        }
+    }
+
+    @Test
+    public void testCollectAllSkipsFailedTask() {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(Test1Task.class.getName()),
+                NullGroupTask.task(FailTask.class.getName())
+        );
+        Map<String, Object> result = Null.of("123").task(nullGroupTask).get();
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey(Test1Task.class.getName()));
+    }
+
+    @Test
+    public void testFailFast() {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(SlowTask.class.getName()),
+                NullGroupTask.task(FailTask.class.getName())
+        ).policy(NullGroupPolicy.FAIL_FAST);
+        long start = System.currentTimeMillis();
+        assertThrows(NullChainException.class, () -> Null.of("123").task(nullGroupTask).get());
+        //失败后不再等待慢任务
+        assertTrue(System.currentTimeMillis() - start < 2500);
+    }
+
+    @Test
+    public void testTimeoutCollectAll() {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(Test2Task.class.getName()),
+                NullGroupTask.task(SlowTask.class.getName())
+        ).timeout(300, TimeUnit.MILLISECONDS);
+        long start = System.currentTimeMillis();
+        Map<String, Object> result = Null.of("123").task(nullGroupTask).get();
+        assertTrue(System.currentTimeMillis() - start < 2500);
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey(Test2Task.class.getName()));
+    }
+
+    @Test
+    public void testTimeoutFailFast() {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(SlowTask.class.getName())
+        ).policy(NullGroupPolicy.FAIL_FAST).timeout(300, TimeUnit.MILLISECONDS);
+        assertThrows(NullChainException.class, () -> Null.of("123").task(nullGroupTask).get());
+    }
+
+    @Test
+    public void testAsyncGroupTask() throws Exception {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(Test1Task.class.getName()),
+                NullGroupTask.task(Test2Task.class.getName())
+        );
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Map<String, Object>> result = new AtomicReference<>();
+        Null.of("123").async().task(nullGroupTask).ifPresent(map -> {
+            result.set(map);
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, result.get().size());
+    }
+
+    @Test
+    public void testAsyncGroupTaskFailFast() throws Exception {
+        NullGroupTask nullGroupTask = NullGroupTask.buildGroup(
+                NullGroupTask.task(FailTask.class.getName())
+        ).policy(NullGroupPolicy.FAIL_FAST);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Null.of("123").async().task(nullGroupTask).capture(e -> {
+            error.set(e);
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(error.get() instanceof NullChainException);
+    }
+}